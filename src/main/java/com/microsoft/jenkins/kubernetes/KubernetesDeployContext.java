@@ -17,7 +17,6 @@ import com.microsoft.jenkins.azurecommons.command.BaseCommandContext;
 import com.microsoft.jenkins.azurecommons.command.CommandService;
 import com.microsoft.jenkins.azurecommons.command.IBaseCommandData;
 import com.microsoft.jenkins.azurecommons.command.ICommand;
-import com.microsoft.jenkins.azurecommons.command.SimpleBuildStepExecution;
 import com.microsoft.jenkins.azurecommons.remote.SSHClient;
 import com.microsoft.jenkins.kubernetes.command.DeploymentCommand;
 import com.microsoft.jenkins.kubernetes.credentials.ClientWrapperFactory;
@@ -77,6 +76,26 @@ public class KubernetesDeployContext extends BaseCommandContext implements
 
     private boolean deleteResource;
 
+    private int applyParallelism;
+    private boolean serverSideApply;
+    private boolean skipUnchanged;
+    private boolean informerCache;
+    private boolean incrementalDeploy;
+    private int fullSyncIntervalHours;
+    private boolean compactTransport;
+    private boolean cachedReads;
+    private int apiRetries = Constants.DEFAULT_API_RETRIES;
+    private boolean waitForRollout;
+    private int rolloutTimeoutSeconds = Constants.DEFAULT_ROLLOUT_TIMEOUT_SECONDS;
+    private boolean runJobsToCompletion;
+    private int jobTimeoutSeconds = Constants.DEFAULT_JOB_TIMEOUT_SECONDS;
+    private String deletePropagation;
+    private boolean waitForDeletion;
+    private int deletionTimeoutSeconds = Constants.DEFAULT_DELETION_TIMEOUT_SECONDS;
+    private boolean prune;
+    private String pruneKinds = Constants.DEFAULT_PRUNE_KINDS;
+    private String applySetName;
+
     @DataBoundConstructor
     public KubernetesDeployContext() {
         enableConfigSubstitution = true;
@@ -244,6 +263,196 @@ public class KubernetesDeployContext extends BaseCommandContext implements
         this.deleteResource = isDeleteResource;
     }
 
+    @Override
+    public int getApplyParallelism() {
+        return Math.max(1, applyParallelism);
+    }
+
+    @DataBoundSetter
+    public void setApplyParallelism(int applyParallelism) {
+        this.applyParallelism = Math.max(1, applyParallelism);
+    }
+
+    @Override
+    public boolean isServerSideApply() {
+        return serverSideApply;
+    }
+
+    @DataBoundSetter
+    public void setServerSideApply(boolean serverSideApply) {
+        this.serverSideApply = serverSideApply;
+    }
+
+    @Override
+    public boolean isSkipUnchanged() {
+        return skipUnchanged;
+    }
+
+    @DataBoundSetter
+    public void setSkipUnchanged(boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+    }
+
+    @Override
+    public boolean isInformerCache() {
+        return informerCache;
+    }
+
+    @DataBoundSetter
+    public void setInformerCache(boolean informerCache) {
+        this.informerCache = informerCache;
+    }
+
+    @Override
+    public boolean isIncrementalDeploy() {
+        return incrementalDeploy;
+    }
+
+    @DataBoundSetter
+    public void setIncrementalDeploy(boolean incrementalDeploy) {
+        this.incrementalDeploy = incrementalDeploy;
+    }
+
+    @Override
+    public int getFullSyncIntervalHours() {
+        return fullSyncIntervalHours > 0 ? fullSyncIntervalHours : Constants.DEFAULT_FULL_SYNC_INTERVAL_HOURS;
+    }
+
+    @DataBoundSetter
+    public void setFullSyncIntervalHours(int fullSyncIntervalHours) {
+        this.fullSyncIntervalHours = fullSyncIntervalHours;
+    }
+
+    @Override
+    public boolean isCompactTransport() {
+        return compactTransport;
+    }
+
+    @DataBoundSetter
+    public void setCompactTransport(boolean compactTransport) {
+        this.compactTransport = compactTransport;
+    }
+
+    @Override
+    public boolean isCachedReads() {
+        return cachedReads;
+    }
+
+    @DataBoundSetter
+    public void setCachedReads(boolean cachedReads) {
+        this.cachedReads = cachedReads;
+    }
+
+    @Override
+    public int getApiRetries() {
+        return apiRetries;
+    }
+
+    @DataBoundSetter
+    public void setApiRetries(int apiRetries) {
+        this.apiRetries = Math.max(0, apiRetries);
+    }
+
+    @Override
+    public boolean isWaitForRollout() {
+        return waitForRollout;
+    }
+
+    @DataBoundSetter
+    public void setWaitForRollout(boolean waitForRollout) {
+        this.waitForRollout = waitForRollout;
+    }
+
+    @Override
+    public int getRolloutTimeoutSeconds() {
+        return rolloutTimeoutSeconds;
+    }
+
+    @DataBoundSetter
+    public void setRolloutTimeoutSeconds(int rolloutTimeoutSeconds) {
+        this.rolloutTimeoutSeconds = Math.max(1, rolloutTimeoutSeconds);
+    }
+
+    @Override
+    public boolean isRunJobsToCompletion() {
+        return runJobsToCompletion;
+    }
+
+    @DataBoundSetter
+    public void setRunJobsToCompletion(boolean runJobsToCompletion) {
+        this.runJobsToCompletion = runJobsToCompletion;
+    }
+
+    @Override
+    public int getJobTimeoutSeconds() {
+        return jobTimeoutSeconds;
+    }
+
+    @DataBoundSetter
+    public void setJobTimeoutSeconds(int jobTimeoutSeconds) {
+        this.jobTimeoutSeconds = Math.max(1, jobTimeoutSeconds);
+    }
+
+    @Override
+    public String getDeletePropagation() {
+        return deletePropagation;
+    }
+
+    @DataBoundSetter
+    public void setDeletePropagation(String deletePropagation) {
+        this.deletePropagation = StringUtils.trimToNull(deletePropagation);
+    }
+
+    @Override
+    public boolean isWaitForDeletion() {
+        return waitForDeletion;
+    }
+
+    @DataBoundSetter
+    public void setWaitForDeletion(boolean waitForDeletion) {
+        this.waitForDeletion = waitForDeletion;
+    }
+
+    @Override
+    public int getDeletionTimeoutSeconds() {
+        return deletionTimeoutSeconds;
+    }
+
+    @DataBoundSetter
+    public void setDeletionTimeoutSeconds(int deletionTimeoutSeconds) {
+        this.deletionTimeoutSeconds = Math.max(1, deletionTimeoutSeconds);
+    }
+
+    @Override
+    public boolean isPrune() {
+        return prune;
+    }
+
+    @DataBoundSetter
+    public void setPrune(boolean prune) {
+        this.prune = prune;
+    }
+
+    @Override
+    public String getPruneKinds() {
+        return pruneKinds;
+    }
+
+    @DataBoundSetter
+    public void setPruneKinds(String pruneKinds) {
+        this.pruneKinds = StringUtils.defaultIfBlank(pruneKinds, Constants.DEFAULT_PRUNE_KINDS).trim();
+    }
+
+    @Override
+    public String getApplySetName() {
+        return applySetName;
+    }
+
+    @DataBoundSetter
+    public void setApplySetName(String applySetName) {
+        this.applySetName = StringUtils.trimToNull(applySetName);
+    }
+
     @Override
     public List<ResolvedDockerRegistryEndpoint> resolveEndpoints(Item context) throws IOException {
         List<ResolvedDockerRegistryEndpoint> endpoints = new ArrayList<>();
@@ -297,7 +506,7 @@ public class KubernetesDeployContext extends BaseCommandContext implements
 
     @Override
     public StepExecution startImpl(StepContext context) throws Exception {
-        return new SimpleBuildStepExecution(new KubernetesDeploy(this), context);
+        return new KubernetesDeployStepExecution(this, context);
     }
 
     @Extension
@@ -453,6 +662,78 @@ public class KubernetesDeployContext extends BaseCommandContext implements
             return true;
         }
 
+        public int getDefaultApplyParallelism() {
+            return 1;
+        }
+
+        public boolean getDefaultServerSideApply() {
+            return false;
+        }
+
+        public boolean getDefaultSkipUnchanged() {
+            return false;
+        }
+
+        public boolean getDefaultInformerCache() {
+            return false;
+        }
+
+        public boolean getDefaultIncrementalDeploy() {
+            return false;
+        }
+
+        public int getDefaultFullSyncIntervalHours() {
+            return Constants.DEFAULT_FULL_SYNC_INTERVAL_HOURS;
+        }
+
+        public boolean getDefaultCompactTransport() {
+            return false;
+        }
+
+        public boolean getDefaultCachedReads() {
+            return false;
+        }
+
+        public int getDefaultApiRetries() {
+            return Constants.DEFAULT_API_RETRIES;
+        }
+
+        public boolean getDefaultWaitForRollout() {
+            return false;
+        }
+
+        public int getDefaultRolloutTimeoutSeconds() {
+            return Constants.DEFAULT_ROLLOUT_TIMEOUT_SECONDS;
+        }
+
+        public boolean getDefaultRunJobsToCompletion() {
+            return false;
+        }
+
+        public int getDefaultJobTimeoutSeconds() {
+            return Constants.DEFAULT_JOB_TIMEOUT_SECONDS;
+        }
+
+        public String getDefaultDeletePropagation() {
+            return "";
+        }
+
+        public boolean getDefaultWaitForDeletion() {
+            return false;
+        }
+
+        public int getDefaultDeletionTimeoutSeconds() {
+            return Constants.DEFAULT_DELETION_TIMEOUT_SECONDS;
+        }
+
+        public boolean getDefaultPrune() {
+            return false;
+        }
+
+        public String getDefaultPruneKinds() {
+            return Constants.DEFAULT_PRUNE_KINDS;
+        }
+
         @Override
         public Set<? extends Class<?>> getRequiredContext() {
             return ImmutableSet.of(Run.class, FilePath.class, Launcher.class, TaskListener.class, EnvVars.class);
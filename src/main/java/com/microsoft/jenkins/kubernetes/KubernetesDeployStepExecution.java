@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes;
+
+import com.microsoft.jenkins.kubernetes.command.DeploymentCommand;
+import com.microsoft.jenkins.kubernetes.command.NodeTask;
+import com.microsoft.jenkins.kubernetes.credentials.ClientWrapperFactory;
+import com.microsoft.jenkins.kubernetes.wrapper.RolloutTarget;
+import hudson.AbortException;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import org.apache.commons.lang3.StringUtils;
+import org.jenkinsci.plugins.workflow.steps.StepContext;
+import org.jenkinsci.plugins.workflow.steps.StepExecution;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the pipeline step without holding a thread of the controller while the deployment runs.
+ * <p>
+ * The deployment and the wait for the rollout of the workloads run on the node of the workspace, which calls the
+ * controller back when they are done. The workloads being waited for are saved with the pipeline, so the wait resumes
+ * after a restart of the controller when the cluster is reached with kubeconfig credentials. A deployment interrupted
+ * by a restart is not resumed, as it may have been partially applied.
+ */
+class KubernetesDeployStepExecution extends StepExecution {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The phase of the step.
+     */
+    enum Phase {
+        DEPLOYING,
+        WAITING
+    }
+
+    /**
+     * The step is not serializable. It's only used until the deployment is done.
+     */
+    private final transient KubernetesDeployContext step;
+    private final String kubeconfigId;
+
+    private volatile Phase phase = Phase.DEPLOYING;
+    private volatile ArrayList<RolloutTarget> rollouts = new ArrayList<>();
+    private volatile long rolloutDeadline;
+
+    private transient volatile NodeTask.Handle handle;
+
+    KubernetesDeployStepExecution(KubernetesDeployContext step, StepContext context) {
+        super(context);
+        this.step = step;
+        this.kubeconfigId = step.getKubeconfigId();
+    }
+
+    @Override
+    public boolean start() throws Exception {
+        Run<?, ?> run = getContext().get(Run.class);
+        TaskListener listener = getContext().get(TaskListener.class);
+        listener.getLogger().println(Messages.KubernetesDeploy_starting());
+        step.configure(run, getContext().get(FilePath.class), getContext().get(Launcher.class), listener);
+        handle = new DeploymentCommand().executeAsync(step, result -> deployed(run, listener, result));
+        return false;
+    }
+
+    @Override
+    public void stop(Throwable cause) throws Exception {
+        NodeTask.Handle running = handle;
+        if (running != null) {
+            try {
+                running.cancel();
+            } catch (RuntimeException e) {
+                // the node is gone, and the task with it
+            }
+        }
+        getContext().onFailure(cause);
+    }
+
+    @Override
+    public void onResume() {
+        if (phase != Phase.WAITING) {
+            getContext().onFailure(new AbortException(Messages.KubernetesDeploy_interruptedByRestart()));
+            return;
+        }
+        if (StringUtils.isBlank(kubeconfigId)) {
+            getContext().onFailure(new AbortException(Messages.KubernetesDeploy_cannotResumeRollout()));
+            return;
+        }
+        try {
+            Run<?, ?> run = getContext().get(Run.class);
+            TaskListener listener = getContext().get(TaskListener.class);
+            listener.getLogger().println(Messages.KubernetesDeploy_resumingRollout(rollouts.size()));
+            KubernetesDeployContext resumed = new KubernetesDeployContext();
+            resumed.setKubeconfigId(kubeconfigId);
+            awaitRollouts(run, listener, resumed.clientFactory(run.getParent()));
+        } catch (Exception e) {
+            getContext().onFailure(e);
+        }
+    }
+
+    private void deployed(Run<?, ?> run, TaskListener listener, DeploymentCommand.TaskResult result) {
+        handle = null;
+        if (result == null || step.getCommandState().isError()) {
+            getContext().onFailure(new AbortException(
+                    Messages.KubernetesDeploy_endWithErrorState(step.getCommandState())));
+            return;
+        }
+        if (!step.isWaitForRollout() || result.getRollouts().isEmpty()) {
+            finished(listener);
+            return;
+        }
+        rollouts = new ArrayList<>(result.getRollouts());
+        rolloutDeadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(step.getRolloutTimeoutSeconds());
+        phase = Phase.WAITING;
+        // the wait is resumed after a restart only if the phase was saved with the pipeline
+        getContext().saveState();
+        try {
+            awaitRollouts(run, listener, step.clientFactory(run.getParent()));
+        } catch (Exception e) {
+            getContext().onFailure(e);
+        }
+    }
+
+    private void awaitRollouts(Run<?, ?> run, TaskListener listener, ClientWrapperFactory clientFactory)
+            throws IOException, InterruptedException {
+        long timeoutMillis = Math.max(0, rolloutDeadline - System.currentTimeMillis());
+        handle = DeploymentCommand.awaitRollouts(run, getContext().get(FilePath.class), clientFactory, listener,
+                rollouts, timeoutMillis, new NodeTask.Callback<Boolean>() {
+                    @Override
+                    public void onSuccess(Boolean result) {
+                        handle = null;
+                        finished(listener);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable cause) {
+                        handle = null;
+                        getContext().onFailure(cause);
+                    }
+                });
+    }
+
+    private void finished(TaskListener listener) {
+        listener.getLogger().println(Messages.KubernetesDeploy_finished());
+        getContext().onSuccess(null);
+    }
+}
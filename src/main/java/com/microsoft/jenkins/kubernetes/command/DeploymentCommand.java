@@ -7,6 +7,7 @@
 package com.microsoft.jenkins.kubernetes.command;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
 import com.microsoft.jenkins.azurecommons.JobContext;
 import com.microsoft.jenkins.azurecommons.command.CommandState;
 import com.microsoft.jenkins.azurecommons.command.IBaseCommandData;
@@ -18,10 +19,14 @@ import com.microsoft.jenkins.kubernetes.Messages;
 import com.microsoft.jenkins.kubernetes.credentials.ClientWrapperFactory;
 import com.microsoft.jenkins.kubernetes.credentials.ResolvedDockerRegistryEndpoint;
 import com.microsoft.jenkins.kubernetes.util.Constants;
+import com.microsoft.jenkins.kubernetes.wrapper.ClusterGrants;
+import com.microsoft.jenkins.kubernetes.wrapper.ClusterLimiter;
 import com.microsoft.jenkins.kubernetes.wrapper.KubernetesClientWrapper;
+import com.microsoft.jenkins.kubernetes.wrapper.RolloutTarget;
 import hudson.EnvVars;
 import hudson.FilePath;
 import hudson.model.Item;
+import hudson.model.Run;
 import hudson.model.TaskListener;
 import hudson.remoting.ProxyException;
 import hudson.util.VariableResolver;
@@ -31,9 +36,15 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.checkState;
 
@@ -46,47 +57,187 @@ public class DeploymentCommand implements ICommand<DeploymentCommand.IDeployment
 
     @Override
     public void execute(IDeploymentCommand context) {
-        JobContext jobContext = context.getJobContext();
-        FilePath workspace = jobContext.getWorkspace();
-        EnvVars envVars = context.getEnvVars();
-
         TaskResult taskResult = null;
         try {
-            DeploymentTask task = new DeploymentTask();
-            task.setWorkspace(workspace);
-            task.setTaskListener(jobContext.getTaskListener());
-            task.setClientFactory(context.clientFactory(context.getJobContext().getRun().getParent()));
-            task.setEnvVars(envVars);
-            task.setConfigPaths(context.getConfigs());
-            task.setSecretNamespace(context.getSecretNamespace());
-            task.setSecretNameCfg(context.getSecretName());
-            task.setDefaultSecretNameSeed(jobContext.getRun().getDisplayName());
-            task.setEnableSubstitution(context.isEnableConfigSubstitution());
-            task.setDockerRegistryEndpoints(context.resolveEndpoints(jobContext.getRun().getParent()));
-            task.setDeleteResource(context.isDeleteResource());
-
-            taskResult = workspace.act(task);
-
-            for (Map.Entry<String, String> entry : taskResult.extraEnvVars.entrySet()) {
-                EnvironmentInjector.inject(jobContext.getRun(), envVars, entry.getKey(), entry.getValue());
-            }
+            DeploymentTask task = prepare(context);
+            taskResult = context.getJobContext().getWorkspace().act(task);
+            complete(context, taskResult);
+        } catch (Exception e) {
+            fail(context, e, taskResult);
+        }
+    }
 
-            context.setCommandState(taskResult.commandState);
-            if (taskResult.commandState.isError()) {
-                KubernetesCDPlugin.sendEvent(Constants.AI_KUBERNETES, "DeployFailed",
-                        Constants.AI_K8S_MASTER, AppInsightsUtils.hash(taskResult.masterHost));
-            } else {
-                KubernetesCDPlugin.sendEvent(Constants.AI_KUBERNETES, "Deployed",
-                        Constants.AI_K8S_MASTER, AppInsightsUtils.hash(taskResult.masterHost));
-            }
+    /**
+     * Start the deployment on the node of the workspace, without holding a thread of the controller while it runs.
+     * The rollout of the workloads is not waited for, and can be waited for later with {@link #awaitRollouts}.
+     *
+     * @param context the configuration of the deployment
+     * @param done    called on the controller when the deployment is done, with the command state set on the
+     *                context, and the result or {@code null} if it failed
+     * @return the handle of the deployment
+     */
+    public NodeTask.Handle executeAsync(IDeploymentCommand context, Consumer<TaskResult> done) {
+        try {
+            DeploymentTask task = prepare(context);
+            task.setWaitForRollout(false);
+            return NodeTask.start(context.getJobContext().getWorkspace(), task, new NodeTask.Callback<TaskResult>() {
+                @Override
+                public void onSuccess(TaskResult taskResult) {
+                    try {
+                        complete(context, taskResult);
+                    } catch (Exception e) {
+                        fail(context, e, taskResult);
+                    }
+                    done.accept(taskResult);
+                }
+
+                @Override
+                public void onFailure(Throwable cause) {
+                    fail(context, cause instanceof Exception ? (Exception) cause : new ProxyException(cause), null);
+                    done.accept(null);
+                }
+            });
         } catch (Exception e) {
-            if (e instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
+            fail(context, e, null);
+            done.accept(null);
+            return null;
+        }
+    }
+
+    /**
+     * Wait on the node of the workspace for the rollout of workloads written earlier, without holding a thread of the
+     * controller. The next deployment of the job is a full one if the rollout fails.
+     *
+     * @param run           the build
+     * @param workspace     the workspace
+     * @param clientFactory the factory of the client of the cluster
+     * @param listener      the listener of the build
+     * @param rollouts      the workloads
+     * @param timeoutMillis the time to wait for all of them
+     * @param callback      called on the controller when the rollouts are done
+     * @return the handle of the wait
+     * @throws IOException          if the node cannot be reached
+     * @throws InterruptedException if interrupted while starting the wait
+     */
+    public static NodeTask.Handle awaitRollouts(Run<?, ?> run, FilePath workspace, ClientWrapperFactory clientFactory,
+                                                TaskListener listener, List<RolloutTarget> rollouts,
+                                                long timeoutMillis, NodeTask.Callback<Boolean> callback)
+            throws IOException, InterruptedException {
+        RolloutTask task = new RolloutTask(workspace, ClusterLimiter.export(workspace.getChannel()),
+                clientFactory, listener, rollouts, timeoutMillis);
+        return NodeTask.start(workspace, task, new NodeTask.Callback<Boolean>() {
+            @Override
+            public void onSuccess(Boolean result) {
+                callback.onSuccess(result);
             }
-            context.logError(e);
+
+            @Override
+            public void onFailure(Throwable cause) {
+                run.addAction(IncrementalDeployAction.invalidated());
+                callback.onFailure(cause);
+            }
+        });
+    }
+
+    private DeploymentTask prepare(IDeploymentCommand context) throws Exception {
+        JobContext jobContext = context.getJobContext();
+        FilePath workspace = jobContext.getWorkspace();
+        EnvVars envVars = context.getEnvVars();
+
+        DeploymentTask task = new DeploymentTask();
+        task.setWorkspace(workspace);
+        task.setClusterGrants(ClusterLimiter.export(workspace.getChannel()));
+        task.setTaskListener(jobContext.getTaskListener());
+        task.setClientFactory(context.clientFactory(context.getJobContext().getRun().getParent()));
+        task.setEnvVars(envVars);
+        task.setConfigPaths(context.getConfigs());
+        task.setSecretNamespace(context.getSecretNamespace());
+        task.setSecretNameCfg(context.getSecretName());
+        task.setDefaultSecretNameSeed(jobContext.getRun().getDisplayName());
+        task.setEnableSubstitution(context.isEnableConfigSubstitution());
+        task.setDockerRegistryEndpoints(context.resolveEndpoints(jobContext.getRun().getParent()));
+        task.setDeleteResource(context.isDeleteResource());
+        task.setApplyParallelism(context.getApplyParallelism());
+        task.setServerSideApply(context.isServerSideApply());
+        task.setSkipUnchanged(context.isSkipUnchanged());
+        task.setInformerCache(context.isInformerCache());
+        task.setIncrementalDeploy(context.isIncrementalDeploy());
+        task.setFullSyncIntervalHours(context.getFullSyncIntervalHours());
+        task.setCompactTransport(context.isCompactTransport());
+        task.setCachedReads(context.isCachedReads());
+        task.setApiRetries(context.getApiRetries());
+        task.setWaitForRollout(context.isWaitForRollout());
+        task.setRolloutTimeoutSeconds(context.getRolloutTimeoutSeconds());
+        task.setRunJobsToCompletion(context.isRunJobsToCompletion());
+        task.setJobTimeoutSeconds(context.getJobTimeoutSeconds());
+        task.setDeletePropagation(context.getDeletePropagation());
+        task.setWaitForDeletion(context.isWaitForDeletion());
+        task.setDeletionTimeoutSeconds(context.getDeletionTimeoutSeconds());
+        task.setPrune(context.isPrune());
+        task.setPruneKinds(context.getPruneKinds());
+        task.setJobFullName(jobContext.getRun().getParent().getFullName());
+        task.setApplySetName(context.getApplySetName());
+        if (context.isIncrementalDeploy() && !context.isDeleteResource()) {
+            task.setPreviousDeploys(IncrementalDeployAction.latestRecords(jobContext.getRun()));
+        }
+        return task;
+    }
+
+    private void complete(IDeploymentCommand context, TaskResult taskResult) throws Exception {
+        JobContext jobContext = context.getJobContext();
+        for (Map.Entry<String, String> entry : taskResult.extraEnvVars.entrySet()) {
+            EnvironmentInjector.inject(jobContext.getRun(), context.getEnvVars(), entry.getKey(), entry.getValue());
+        }
+
+        context.setCommandState(taskResult.commandState);
+        if (taskResult.commandState.isError() || context.isDeleteResource()) {
+            jobContext.getRun().addAction(IncrementalDeployAction.invalidated());
+        } else if (taskResult.deployRecord != null) {
+            jobContext.getRun().addAction(taskResult.deployRecord);
+        }
+        if (taskResult.commandState.isError()) {
             KubernetesCDPlugin.sendEvent(Constants.AI_KUBERNETES, "DeployFailed",
-                    Constants.AI_K8S_MASTER, AppInsightsUtils.hash(taskResult == null ? null : taskResult.masterHost));
+                    Constants.AI_K8S_MASTER, AppInsightsUtils.hash(taskResult.masterHost));
+        } else {
+            KubernetesCDPlugin.sendEvent(Constants.AI_KUBERNETES, "Deployed",
+                    Constants.AI_K8S_MASTER, AppInsightsUtils.hash(taskResult.masterHost));
+        }
+    }
+
+    private void fail(IDeploymentCommand context, Exception e, TaskResult taskResult) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
         }
+        // the deployment may have been partially applied
+        context.getJobContext().getRun().addAction(IncrementalDeployAction.invalidated());
+        context.logError(e);
+        KubernetesCDPlugin.sendEvent(Constants.AI_KUBERNETES, "DeployFailed",
+                Constants.AI_K8S_MASTER, AppInsightsUtils.hash(taskResult == null ? null : taskResult.masterHost));
+    }
+
+    /**
+     * Identify the objects deployed by a job, so that the ones removed from the configuration files can be pruned.
+     * Without a name, the apply set is the configuration files deployed to a cluster with some credentials, like the
+     * target of an {@link IncrementalDeployAction}: the steps of the job deploying other files, or the same files to
+     * another cluster, don't prune each other's objects. The steps deploying the same files to the same cluster with
+     * other variables have to name their apply sets apart.
+     *
+     * @param jobFullName           the full name of the job
+     * @param applySetName          the name of the apply set given by the step, or {@code null}
+     * @param credentialFingerprint the fingerprint of the cluster and credentials deployed to
+     * @param configPaths           the configuration files deployed
+     * @return the identifier of the apply set, fitting in a label value
+     */
+    @VisibleForTesting
+    static String applySet(String jobFullName, String applySetName, String credentialFingerprint,
+                           String configPaths) {
+        String scope = StringUtils.isBlank(applySetName)
+                ? IncrementalDeployAction.target(credentialFingerprint, configPaths)
+                : applySetName;
+        return Hashing.sha256().newHasher()
+                .putString(jobFullName, StandardCharsets.UTF_8).putByte((byte) 0)
+                .putString(scope, StandardCharsets.UTF_8)
+                .hash().toString().substring(0, Constants.APPLY_SET_ID_LENGTH);
     }
 
     @VisibleForTesting
@@ -105,6 +256,7 @@ public class DeploymentCommand implements ICommand<DeploymentCommand.IDeployment
 
     static class DeploymentTask extends MasterToSlaveCallable<TaskResult, ProxyException> {
         private FilePath workspace;
+        private ClusterGrants clusterGrants;
         private TaskListener taskListener;
         private ClientWrapperFactory clientFactory;
         private EnvVars envVars;
@@ -115,6 +267,27 @@ public class DeploymentCommand implements ICommand<DeploymentCommand.IDeployment
         private String defaultSecretNameSeed;
         private boolean enableSubstitution;
         private boolean deleteResource;
+        private int applyParallelism;
+        private boolean serverSideApply;
+        private boolean skipUnchanged;
+        private boolean informerCache;
+        private boolean incrementalDeploy;
+        private int fullSyncIntervalHours;
+        private List<IncrementalDeployAction> previousDeploys = Collections.emptyList();
+        private boolean compactTransport;
+        private boolean cachedReads;
+        private int apiRetries;
+        private boolean waitForRollout;
+        private int rolloutTimeoutSeconds;
+        private boolean runJobsToCompletion;
+        private int jobTimeoutSeconds;
+        private String deletePropagation;
+        private boolean waitForDeletion;
+        private int deletionTimeoutSeconds;
+        private boolean prune;
+        private String pruneKinds;
+        private String jobFullName;
+        private String applySetName;
 
         private List<ResolvedDockerRegistryEndpoint> dockerRegistryEndpoints;
 
@@ -135,13 +308,30 @@ public class DeploymentCommand implements ICommand<DeploymentCommand.IDeployment
 
         private TaskResult doCall() throws Exception {
             TaskResult result = new TaskResult();
+            // the requests to the API server are limited by the controller, across all the builds
+            ClusterLimiter.use(clusterGrants);
 
             checkState(StringUtils.isNotBlank(secretNamespace), Messages.DeploymentCommand_blankNamespace());
             checkState(StringUtils.isNotBlank(configPaths), Messages.DeploymentCommand_blankConfigFiles());
 
             KubernetesClientWrapper wrapper =
                     clientFactory.buildClient(workspace).withLogger(taskListener.getLogger()).
-                            withDeleteResource(deleteResource);
+                            withDeleteResource(deleteResource).
+                            withParallelism(applyParallelism).
+                            withServerSideApply(serverSideApply).
+                            withSkipUnchanged(skipUnchanged).
+                            withInformerCache(informerCache).
+                            withCompactTransport(compactTransport).
+                            withCachedReads(cachedReads).
+                            withRetries(apiRetries).
+                            withRolloutWait(waitForRollout).
+                            withRolloutTimeout(rolloutTimeoutSeconds).
+                            withRunJobs(runJobsToCompletion).
+                            withJobTimeout(jobTimeoutSeconds).
+                            withDeletePropagation(deletePropagation).
+                            withDeletionWait(waitForDeletion).
+                            withDeletionTimeout(deletionTimeoutSeconds).
+                            withPruneKinds(pruneKinds);
             result.masterHost = getMasterHost(wrapper);
 
             FilePath[] configFiles = workspace.list(configPaths);
@@ -169,7 +359,22 @@ public class DeploymentCommand implements ICommand<DeploymentCommand.IDeployment
                 wrapper.withVariableResolver(new VariableResolver.ByMap<>(envVars));
             }
 
+            if (!deleteResource) {
+                FilePath[] selected = selectConfigFiles(wrapper, configFiles, result);
+                // the objects of the files not applied could not be told from the ones removed from the files
+                boolean complete = selected.length == configFiles.length;
+                if (prune && !complete) {
+                    taskListener.getLogger().println(Messages.DeploymentCommand_pruneSkipped());
+                }
+                if (prune) {
+                    wrapper.withApplySet(applySet(jobFullName, envVars.expand(applySetName),
+                            wrapper.getCredentialFingerprint(), configPaths));
+                }
+                wrapper.withPrune(prune && complete);
+                configFiles = selected;
+            }
             wrapper.apply(configFiles);
+            result.rollouts.addAll(wrapper.getRollouts());
 
 
             result.commandState = CommandState.Success;
@@ -177,10 +382,64 @@ public class DeploymentCommand implements ICommand<DeploymentCommand.IDeployment
             return result;
         }
 
+        /**
+         * Record the rendered hash of the configuration files and, in incremental mode, select the files that changed
+         * since the last deployment of the same files to the same cluster, unless the full sync interval elapsed.
+         */
+        private FilePath[] selectConfigFiles(KubernetesClientWrapper wrapper, FilePath[] configFiles,
+                                             TaskResult result) throws IOException, InterruptedException {
+            String target = IncrementalDeployAction.target(wrapper.getCredentialFingerprint(), configPaths);
+            IncrementalDeployAction previous = null;
+            if (incrementalDeploy) {
+                for (IncrementalDeployAction record : previousDeploys) {
+                    if (target.equals(record.getTarget())) {
+                        previous = record;
+                        break;
+                    }
+                }
+            }
+            long now = System.currentTimeMillis();
+            boolean fullSync = previous == null
+                    || now - previous.getFullSyncTime() >= TimeUnit.HOURS.toMillis(fullSyncIntervalHours);
+
+            Map<String, String> renderedHashes = new TreeMap<>();
+            List<FilePath> changed = new ArrayList<>();
+            for (FilePath file : configFiles) {
+                String name = relativePath(file);
+                String hash = wrapper.renderedHash(file);
+                renderedHashes.put(name, hash);
+                if (fullSync || !hash.equals(previous.getRenderedHashes().get(name))) {
+                    changed.add(file);
+                }
+            }
+            if (incrementalDeploy) {
+                taskListener.getLogger().println(fullSync
+                        ? Messages.DeploymentCommand_fullSync(configFiles.length)
+                        : Messages.DeploymentCommand_incrementalDeploy(
+                                changed.size(), configFiles.length - changed.size()));
+            }
+            result.deployRecord = new IncrementalDeployAction(
+                    target, renderedHashes, fullSync ? now : previous.getFullSyncTime());
+            return changed.toArray(new FilePath[0]);
+        }
+
+        private String relativePath(FilePath file) {
+            String base = workspace.getRemote();
+            String path = file.getRemote();
+            if (path.startsWith(base) && path.length() > base.length()) {
+                return path.substring(base.length() + 1).replace('\\', '/');
+            }
+            return path;
+        }
+
         public void setWorkspace(FilePath workspace) {
             this.workspace = workspace;
         }
 
+        public void setClusterGrants(ClusterGrants clusterGrants) {
+            this.clusterGrants = clusterGrants;
+        }
+
         public void setTaskListener(TaskListener taskListener) {
             this.taskListener = taskListener;
         }
@@ -219,6 +478,90 @@ public class DeploymentCommand implements ICommand<DeploymentCommand.IDeployment
         public void setDeleteResource(boolean isDeleteResource) {
             this.deleteResource = isDeleteResource;
         }
+
+        public void setApplyParallelism(int applyParallelism) {
+            this.applyParallelism = applyParallelism;
+        }
+
+        public void setServerSideApply(boolean serverSideApply) {
+            this.serverSideApply = serverSideApply;
+        }
+
+        public void setSkipUnchanged(boolean skipUnchanged) {
+            this.skipUnchanged = skipUnchanged;
+        }
+
+        public void setInformerCache(boolean informerCache) {
+            this.informerCache = informerCache;
+        }
+
+        public void setPreviousDeploys(List<IncrementalDeployAction> previousDeploys) {
+            this.previousDeploys = previousDeploys;
+        }
+
+        public void setIncrementalDeploy(boolean incrementalDeploy) {
+            this.incrementalDeploy = incrementalDeploy;
+        }
+
+        public void setFullSyncIntervalHours(int fullSyncIntervalHours) {
+            this.fullSyncIntervalHours = fullSyncIntervalHours;
+        }
+
+        public void setCompactTransport(boolean compactTransport) {
+            this.compactTransport = compactTransport;
+        }
+
+        public void setCachedReads(boolean cachedReads) {
+            this.cachedReads = cachedReads;
+        }
+
+        public void setApiRetries(int apiRetries) {
+            this.apiRetries = apiRetries;
+        }
+
+        public void setWaitForRollout(boolean waitForRollout) {
+            this.waitForRollout = waitForRollout;
+        }
+
+        public void setRolloutTimeoutSeconds(int rolloutTimeoutSeconds) {
+            this.rolloutTimeoutSeconds = rolloutTimeoutSeconds;
+        }
+
+        public void setRunJobsToCompletion(boolean runJobsToCompletion) {
+            this.runJobsToCompletion = runJobsToCompletion;
+        }
+
+        public void setJobTimeoutSeconds(int jobTimeoutSeconds) {
+            this.jobTimeoutSeconds = jobTimeoutSeconds;
+        }
+
+        public void setDeletePropagation(String deletePropagation) {
+            this.deletePropagation = deletePropagation;
+        }
+
+        public void setWaitForDeletion(boolean waitForDeletion) {
+            this.waitForDeletion = waitForDeletion;
+        }
+
+        public void setDeletionTimeoutSeconds(int deletionTimeoutSeconds) {
+            this.deletionTimeoutSeconds = deletionTimeoutSeconds;
+        }
+
+        public void setPrune(boolean prune) {
+            this.prune = prune;
+        }
+
+        public void setPruneKinds(String pruneKinds) {
+            this.pruneKinds = pruneKinds;
+        }
+
+        public void setJobFullName(String jobFullName) {
+            this.jobFullName = jobFullName;
+        }
+
+        public void setApplySetName(String applySetName) {
+            this.applySetName = applySetName;
+        }
     }
 
     public static class TaskResult implements Serializable {
@@ -226,7 +569,53 @@ public class DeploymentCommand implements ICommand<DeploymentCommand.IDeployment
 
         private CommandState commandState = CommandState.Unknown;
         private String masterHost;
+        private IncrementalDeployAction deployRecord;
         private final Map<String, String> extraEnvVars = new HashMap<>();
+        private final ArrayList<RolloutTarget> rollouts = new ArrayList<>();
+
+        /**
+         * @return the workloads written by the deployment, whose rollout can be waited for
+         */
+        public List<RolloutTarget> getRollouts() {
+            return Collections.unmodifiableList(rollouts);
+        }
+    }
+
+    /**
+     * Waits on the node of the workspace for the rollout of workloads written earlier.
+     */
+    static class RolloutTask extends MasterToSlaveCallable<Boolean, ProxyException> {
+        private static final long serialVersionUID = 1L;
+
+        private final FilePath workspace;
+        private final ClusterGrants clusterGrants;
+        private final ClientWrapperFactory clientFactory;
+        private final TaskListener taskListener;
+        private final ArrayList<RolloutTarget> rollouts;
+        private final long timeoutMillis;
+
+        RolloutTask(FilePath workspace, ClusterGrants clusterGrants, ClientWrapperFactory clientFactory,
+                    TaskListener taskListener, List<RolloutTarget> rollouts, long timeoutMillis) {
+            this.workspace = workspace;
+            this.clusterGrants = clusterGrants;
+            this.clientFactory = clientFactory;
+            this.taskListener = taskListener;
+            this.rollouts = new ArrayList<>(rollouts);
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        @Override
+        public Boolean call() throws ProxyException {
+            try {
+                ClusterLimiter.use(clusterGrants);
+                clientFactory.buildClient(workspace).withLogger(taskListener.getLogger())
+                        .awaitRollouts(rollouts, timeoutMillis);
+                return Boolean.TRUE;
+            } catch (Exception ex) {
+                // see DeploymentTask#call
+                throw new ProxyException(ex);
+            }
+        }
     }
 
     public interface IDeploymentCommand extends IBaseCommandData {
@@ -243,5 +632,43 @@ public class DeploymentCommand implements ICommand<DeploymentCommand.IDeployment
         boolean isEnableConfigSubstitution();
 
         boolean isDeleteResource();
+
+        int getApplyParallelism();
+
+        boolean isServerSideApply();
+
+        boolean isSkipUnchanged();
+
+        boolean isInformerCache();
+
+        boolean isIncrementalDeploy();
+
+        int getFullSyncIntervalHours();
+
+        boolean isCompactTransport();
+
+        boolean isCachedReads();
+
+        int getApiRetries();
+
+        boolean isWaitForRollout();
+
+        int getRolloutTimeoutSeconds();
+
+        boolean isRunJobsToCompletion();
+
+        int getJobTimeoutSeconds();
+
+        String getDeletePropagation();
+
+        boolean isWaitForDeletion();
+
+        int getDeletionTimeoutSeconds();
+
+        boolean isPrune();
+
+        String getPruneKinds();
+
+        String getApplySetName();
     }
 }
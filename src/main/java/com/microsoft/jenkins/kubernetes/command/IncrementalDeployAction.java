@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.command;
+
+import com.google.common.hash.Hashing;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import hudson.model.InvisibleAction;
+import hudson.model.Run;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Records the rendered hash of each configuration file deployed by a build, so that the next incremental deployment
+ * of the same files to the same cluster only applies the files that changed.
+ * <p>
+ * A record without target marks a deployment that failed or deleted resources. The state of the clusters is then
+ * unknown, so the records of the previous builds are not used any more.
+ */
+public class IncrementalDeployAction extends InvisibleAction implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String target;
+    private final Map<String, String> renderedHashes;
+    private final long fullSyncTime;
+
+    IncrementalDeployAction(String target, Map<String, String> renderedHashes, long fullSyncTime) {
+        this.target = target;
+        this.renderedHashes = new TreeMap<>(renderedHashes);
+        this.fullSyncTime = fullSyncTime;
+    }
+
+    /**
+     * @return a record invalidating the records of the previous builds
+     */
+    static IncrementalDeployAction invalidated() {
+        return new IncrementalDeployAction(null, Collections.emptyMap(), 0);
+    }
+
+    /**
+     * Identify the files deployed to a cluster.
+     *
+     * @param credentialFingerprint the fingerprint of the cluster and credentials
+     * @param configPaths           the pattern of the configuration files
+     * @return the target of the records
+     */
+    static String target(String credentialFingerprint, String configPaths) {
+        return Hashing.sha256().newHasher()
+                .putString(credentialFingerprint, StandardCharsets.UTF_8).putByte((byte) 0)
+                .putString(configPaths, StandardCharsets.UTF_8)
+                .hash().toString();
+    }
+
+    /**
+     * Collect the latest record of each target, from the given build back to the last deployment that failed or
+     * deleted resources, looking at {@link Constants#INCREMENTAL_DEPLOY_MAX_BUILDS} builds at most.
+     *
+     * @param run the current build, whose records from the previous steps are included
+     * @return the records, the latest first
+     */
+    static List<IncrementalDeployAction> latestRecords(Run<?, ?> run) {
+        List<IncrementalDeployAction> records = new ArrayList<>();
+        Set<String> targets = new HashSet<>();
+        Run<?, ?> build = run;
+        for (int i = 0; build != null && i < Constants.INCREMENTAL_DEPLOY_MAX_BUILDS; i++) {
+            List<IncrementalDeployAction> actions = build.getActions(IncrementalDeployAction.class);
+            for (int j = actions.size() - 1; j >= 0; j--) {
+                IncrementalDeployAction action = actions.get(j);
+                if (action.isInvalidated()) {
+                    return records;
+                }
+                if (targets.add(action.target)) {
+                    records.add(action);
+                }
+            }
+            build = build.getPreviousBuild();
+        }
+        return records;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public boolean isInvalidated() {
+        return target == null;
+    }
+
+    /**
+     * @return the rendered hash of each file, by path relative to the workspace
+     */
+    public Map<String, String> getRenderedHashes() {
+        return Collections.unmodifiableMap(renderedHashes);
+    }
+
+    /**
+     * @return the time of the last deployment applying all the files
+     */
+    public long getFullSyncTime() {
+        return fullSyncTime;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.command;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.microsoft.jenkins.kubernetes.Messages;
+import hudson.FilePath;
+import hudson.remoting.Asynchronous;
+import hudson.remoting.Callable;
+import hudson.remoting.Channel;
+import hudson.remoting.ProxyException;
+import hudson.remoting.VirtualChannel;
+import jenkins.security.MasterToSlaveCallable;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a task on the node of a workspace without holding a thread of the controller while it runs.
+ * <p>
+ * The call to the node only starts the task on a thread of the node and returns. The controller is called back
+ * through remoting when the task is done, so a step waiting for a long deployment does not hold any thread of the
+ * controller, whichever node it runs on.
+ * <p>
+ * The callback fails if the channel to the node is closed before the task is done, e.g., the agent disconnected or
+ * restarted, as the task is gone with it. The callback is only called once, and releases the callback of the caller
+ * and its listener on the channel when it is.
+ */
+public final class NodeTask {
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("kubernetes-cd-task-%d")
+            .setDaemon(true)
+            .build());
+
+    private NodeTask() {
+        // hide constructor
+    }
+
+    /**
+     * Called back on the controller when a task is done.
+     *
+     * @param <V> the result of the task
+     */
+    public interface Callback<V> {
+        @Asynchronous
+        void onSuccess(V result);
+
+        @Asynchronous
+        void onFailure(Throwable cause);
+    }
+
+    /**
+     * A task started on a node.
+     */
+    public interface Handle {
+        /**
+         * Interrupt the task.
+         */
+        void cancel();
+    }
+
+    /**
+     * Start a task on the node of the workspace.
+     *
+     * @param workspace the workspace
+     * @param task      the task
+     * @param callback  called back on the controller when the task is done
+     * @param <V>       the result of the task
+     * @return the handle of the task
+     * @throws IOException          if the node cannot be reached
+     * @throws InterruptedException if interrupted while starting the task
+     */
+    static <V extends Serializable> Handle start(
+            FilePath workspace, Callable<V, ? extends Exception> task, Callback<V> callback)
+            throws IOException, InterruptedException {
+        VirtualChannel channel = workspace.getChannel();
+        Once<V> once = new Once<>(callback);
+        if (channel instanceof Channel) {
+            Channel remote = (Channel) channel;
+            Channel.Listener listener = new Channel.Listener() {
+                @Override
+                public void onClosed(Channel closed, IOException cause) {
+                    once.onFailure(new IOException(Messages.NodeTask_channelClosed(closed.getName()), cause));
+                }
+            };
+            remote.addListener(listener);
+            once.whenDone(() -> remote.removeListener(listener));
+            if (remote.isClosingOrClosed()) {
+                once.release();
+                throw new IOException(Messages.NodeTask_channelClosed(remote.getName()));
+            }
+        }
+        try {
+            return workspace.act(new Start<>(task, export(channel, once)));
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            // reported by the caller
+            once.release();
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Callback<V> export(VirtualChannel channel, Callback<V> callback) {
+        if (channel instanceof Channel) {
+            return ((Channel) channel).export(Callback.class, callback);
+        }
+        return callback;
+    }
+
+    /**
+     * Calls the callback of the caller once, whether the task is done or the channel is closed first.
+     */
+    static final class Once<V> implements Callback<V> {
+        private final AtomicReference<Callback<V>> delegate;
+        private volatile Runnable onDone;
+
+        Once(Callback<V> delegate) {
+            this.delegate = new AtomicReference<>(delegate);
+        }
+
+        /**
+         * @param action run when the callback of the caller is released
+         */
+        void whenDone(Runnable action) {
+            this.onDone = action;
+        }
+
+        @Override
+        public void onSuccess(V result) {
+            Callback<V> callback = release();
+            if (callback != null) {
+                callback.onSuccess(result);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable cause) {
+            Callback<V> callback = release();
+            if (callback != null) {
+                callback.onFailure(cause);
+            }
+        }
+
+        /**
+         * @return the callback of the caller, or {@code null} if it was already called
+         */
+        Callback<V> release() {
+            Callback<V> callback = delegate.getAndSet(null);
+            Runnable done = onDone;
+            if (callback != null && done != null) {
+                done.run();
+            }
+            return callback;
+        }
+    }
+
+    private static final class Start<V> extends MasterToSlaveCallable<Handle, RuntimeException> {
+        private static final long serialVersionUID = 1L;
+
+        private final Callable<V, ? extends Exception> task;
+        private final Callback<V> callback;
+
+        Start(Callable<V, ? extends Exception> task, Callback<V> callback) {
+            this.task = task;
+            this.callback = callback;
+        }
+
+        @Override
+        public Handle call() {
+            Future<?> future = EXECUTOR.submit(() -> {
+                V result;
+                try {
+                    result = task.call();
+                } catch (Throwable t) {
+                    // the cause may not be known by the controller
+                    callback.onFailure(new ProxyException(t));
+                    return;
+                }
+                callback.onSuccess(result);
+            });
+            Handle handle = () -> future.cancel(true);
+            Channel channel = Channel.current();
+            return channel == null ? handle : channel.export(Handle.class, handle);
+        }
+    }
+}
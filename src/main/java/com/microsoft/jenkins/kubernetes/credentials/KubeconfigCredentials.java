@@ -14,7 +14,6 @@ import com.cloudbees.plugins.credentials.common.StandardListBoxModel;
 import com.cloudbees.plugins.credentials.common.StandardUsernameCredentials;
 import com.cloudbees.plugins.credentials.domains.DomainRequirement;
 import com.cloudbees.plugins.credentials.impl.BaseStandardCredentials;
-import com.microsoft.jenkins.azurecommons.remote.SSHClient;
 import com.microsoft.jenkins.kubernetes.util.Constants;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import hudson.DescriptorExtensionList;
@@ -34,7 +33,6 @@ import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
 
 import javax.annotation.Nonnull;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
@@ -284,13 +282,7 @@ public class KubeconfigCredentials extends BaseStandardCredentials implements An
             }
 
             try {
-                SSHClient sshClient = new SSHClient(getHost(), getPort(), creds);
-                try (SSHClient connected = sshClient.connect()) {
-                    try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                        connected.copyFrom(Constants.KUBECONFIG_FILE, out);
-                        return out.toString(Constants.DEFAULT_CHARSET);
-                    }
-                }
+                return RemoteKubeconfigCache.fetch(getHost(), getPort(), creds, getFile());
             } catch (Exception ex) {
                 throw new RuntimeException(ex);
             }
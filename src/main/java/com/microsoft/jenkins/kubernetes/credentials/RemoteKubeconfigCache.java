@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.credentials;
+
+import com.cloudbees.jenkins.plugins.sshcredentials.SSHUserPrivateKey;
+import com.cloudbees.plugins.credentials.common.StandardUsernameCredentials;
+import com.cloudbees.plugins.credentials.common.StandardUsernamePasswordCredentials;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.microsoft.jenkins.azurecommons.remote.SSHClient;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import hudson.util.Secret;
+import org.apache.commons.lang.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Caches the kubeconfig files fetched from the Kubernetes master through SSH, keyed by the host, port, file and a
+ * fingerprint of the SSH credentials, i.e., their ID, username and secret, so that credentials with the same ID
+ * defined in different folders don't share the kubeconfig.
+ * <p>
+ * A cached kubeconfig is used without connecting to the master for
+ * {@link Constants#REMOTE_KUBECONFIG_TTL_SECONDS_PROPERTY} seconds. After that, the checksum of the remote file is
+ * probed, and the file is only copied again if it changed. A kubeconfig not fetched for
+ * {@link Constants#REMOTE_KUBECONFIG_IDLE_MINUTES_PROPERTY} minutes is dropped.
+ */
+final class RemoteKubeconfigCache {
+    private static final Logger LOGGER = Logger.getLogger(RemoteKubeconfigCache.class.getName());
+
+    private static final Cache<String, CachedKubeconfig> CACHE = CacheBuilder.newBuilder()
+            .expireAfterAccess(Long.getLong(Constants.REMOTE_KUBECONFIG_IDLE_MINUTES_PROPERTY,
+                    Constants.DEFAULT_REMOTE_KUBECONFIG_IDLE_MINUTES), TimeUnit.MINUTES)
+            .build();
+
+    private static final long TTL_MILLIS = TimeUnit.SECONDS.toMillis(Long.getLong(
+            Constants.REMOTE_KUBECONFIG_TTL_SECONDS_PROPERTY, Constants.DEFAULT_REMOTE_KUBECONFIG_TTL_SECONDS));
+
+    private RemoteKubeconfigCache() {
+        // hide constructor
+    }
+
+    /**
+     * Get the content of the kubeconfig file on the remote host.
+     *
+     * @param host        the SSH host
+     * @param port        the SSH port
+     * @param credentials the SSH credentials
+     * @param file        the path of the kubeconfig file on the remote host
+     * @return the content of the kubeconfig file
+     * @throws Exception if the file cannot be fetched
+     */
+    static String fetch(String host, int port, StandardUsernameCredentials credentials, String file)
+            throws Exception {
+        String key = key(host, port, credentials, file);
+        CachedKubeconfig cached = CACHE.getIfPresent(key);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.checkedAt < TTL_MILLIS) {
+            return cached.content;
+        }
+
+        SSHClient sshClient = new SSHClient(host, port, credentials);
+        try (SSHClient connected = sshClient.connect()) {
+            String checksum = checksum(connected, file);
+            if (cached != null && checksum != null && checksum.equals(cached.checksum)) {
+                CACHE.put(key, new CachedKubeconfig(cached.content, checksum, now));
+                return cached.content;
+            }
+            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+                connected.copyFrom(file, out);
+                String content = out.toString(Constants.DEFAULT_CHARSET);
+                if (checksum != null) {
+                    CACHE.put(key, new CachedKubeconfig(content, checksum, now));
+                }
+                return content;
+            }
+        }
+    }
+
+    /**
+     * @return the key of the kubeconfig file in the cache
+     */
+    static String key(String host, int port, StandardUsernameCredentials credentials, String file) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String part : new String[]{host, String.valueOf(port), file, credentials.getId(),
+                credentials.getUsername()}) {
+            hasher.putString(StringUtils.defaultString(part), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        if (credentials instanceof SSHUserPrivateKey) {
+            SSHUserPrivateKey privateKey = (SSHUserPrivateKey) credentials;
+            for (String part : privateKey.getPrivateKeys()) {
+                hasher.putString(StringUtils.defaultString(part), StandardCharsets.UTF_8).putByte((byte) 0);
+            }
+            hasher.putString(Secret.toString(privateKey.getPassphrase()), StandardCharsets.UTF_8);
+        } else if (credentials instanceof StandardUsernamePasswordCredentials) {
+            hasher.putString(Secret.toString(((StandardUsernamePasswordCredentials) credentials).getPassword()),
+                    StandardCharsets.UTF_8);
+        }
+        return hasher.hash().toString();
+    }
+
+    private static String checksum(SSHClient connected, String file) {
+        try {
+            return StringUtils.trimToNull(connected.execRemote(
+                    "cksum '" + file.replace("'", "'\\''") + "'", false, true));
+        } catch (Exception e) {
+            // the file is fetched without being cached
+            LOGGER.log(Level.FINE, "Failed to get the checksum of " + file, e);
+            return null;
+        }
+    }
+
+    private static final class CachedKubeconfig {
+        private final String content;
+        private final String checksum;
+        private final long checkedAt;
+
+        CachedKubeconfig(String content, String checksum, long checkedAt) {
+            this.content = content;
+            this.checksum = checksum;
+            this.checkedAt = checkedAt;
+        }
+    }
+}
@@ -6,15 +6,15 @@
 
 package com.microsoft.jenkins.kubernetes.util;
 
-import com.microsoft.jenkins.kubernetes.Messages;
-import hudson.Util;
+import com.microsoft.jenkins.kubernetes.wrapper.ResourceUpdaterMap;
 import hudson.util.VariableResolver;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.ReaderInputStream;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Random;
@@ -44,7 +44,7 @@ public final class CommonUtils {
      * Replace the variables in the given {@code InputStream} and produce a new stream.
      * If the {@code variableResolver} is null, the original {@code InputStream} will be returned.
      * <p>
-     * Note that although we're processing streams, all the contents will be loaded and returned for this substitution.
+     * The variables are replaced as the new stream is read, see {@link MacroReader}.
      *
      * @param original         the original {@code InputStream}
      * @param variableResolver the variable resolver
@@ -57,17 +57,24 @@ public final class CommonUtils {
         if (variableResolver == null) {
             return original;
         }
-        try {
-            String content = IOUtils.toString(original, Constants.DEFAULT_CHARSET);
-            content = Util.replaceMacro(content, variableResolver);
-            if (content != null) {
-                return new ByteArrayInputStream(content.getBytes(Constants.DEFAULT_CHARSET));
-            } else {
-                throw new IllegalArgumentException(Messages.JobContext_nullContent());
-            }
-        } finally {
-            original.close();
+        Reader reader = new InputStreamReader(original, Constants.DEFAULT_CHARSET);
+        return new ReaderInputStream(replaceMacro(reader, variableResolver), Constants.DEFAULT_CHARSET);
+    }
+
+    /**
+     * Replace the variables in the characters read from the given {@code Reader}, as they are read.
+     * If the {@code variableResolver} is null, the original {@code Reader} will be returned.
+     *
+     * @param original         the original {@code Reader}
+     * @param variableResolver the variable resolver
+     * @return a new {@code Reader} with the variables replaced by their values,
+     * or the original if the {@code variableResolver} is {@code null}.
+     */
+    public static Reader replaceMacro(Reader original, VariableResolver<String> variableResolver) {
+        if (variableResolver == null) {
+            return original;
         }
+        return new MacroReader(original, variableResolver);
     }
 
     public static Random threadLocalRandom() {
@@ -105,21 +112,36 @@ public final class CommonUtils {
     }
 
     /**
-     * get name for kubernetes persisted resources.
-     * @param object
-     * @return
+     * Get the metadata of a Kubernetes resource model object. The supported resources are read through the typed
+     * accessors registered in {@link ResourceUpdaterMap}, and reflection is only used for other model classes.
+     *
+     * @param object the resource model object
+     * @return the metadata, or {@code null} if the object does not have metadata
      */
-    public static String getResourceName(Object object) {
-        String name = null;
+    public static V1ObjectMeta getMetadata(Object object) {
+        if (ResourceUpdaterMap.getUnmodifiableInstance().containsKey(object.getClass())) {
+            return ResourceUpdaterMap.getMetadata(object);
+        }
         try {
             Method method = object.getClass().getMethod("getMetadata");
-            V1ObjectMeta metadata = (V1ObjectMeta) method.invoke(object);
-            name = metadata.getName();
+            Object metadata = method.invoke(object);
+            return metadata instanceof V1ObjectMeta ? (V1ObjectMeta) metadata : null;
         } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            e.printStackTrace();
+            return null;
         }
-        return name;
     }
+
+    /**
+     * Get the name of a Kubernetes resource model object.
+     *
+     * @param object the resource model object
+     * @return the name, or {@code null} if the object does not have metadata
+     */
+    public static String getResourceName(Object object) {
+        V1ObjectMeta metadata = getMetadata(object);
+        return metadata == null ? null : metadata.getName();
+    }
+
     private CommonUtils() {
         // hide constructor
     }
@@ -51,6 +51,297 @@ public final class Constants {
 
     public static final String DRY_RUN_ALL = "All";
 
+    /**
+     * Deletion propagation deleting the dependents of an object before the object itself.
+     */
+    public static final String FOREGROUND_PROPAGATION = "Foreground";
+
+    /**
+     * Field manager recorded by the API server for the fields set through server-side apply.
+     */
+    public static final String FIELD_MANAGER = "kubernetes-cd";
+
+    /**
+     * Page size of the {@code LIST} requests reading the live state of the resources ahead.
+     */
+    public static final int PREFETCH_PAGE_SIZE = 500;
+
+    /**
+     * Maximum number of live objects of a kind in a namespace read ahead. The resources of larger groups are read one
+     * by one.
+     */
+    public static final int PREFETCH_MAX_OBJECTS = 5000;
+
+    /**
+     * Annotation holding the hash of the desired state a resource was last written with.
+     */
+    public static final String DESIRED_STATE_HASH_ANNOTATION = "kubernetes-cd.jenkins.io/desired-state-hash";
+
+    /**
+     * System property setting the interval in minutes after which the shared informers list their objects again.
+     */
+    public static final String INFORMER_RESYNC_MINUTES_PROPERTY =
+            "com.microsoft.jenkins.kubernetes.informer.resyncMinutes";
+    public static final long DEFAULT_INFORMER_RESYNC_MINUTES = 10;
+
+    /**
+     * System property setting the time in minutes after which the shared informers that are not read are stopped.
+     */
+    public static final String INFORMER_IDLE_MINUTES_PROPERTY = "com.microsoft.jenkins.kubernetes.informer.idleMinutes";
+    public static final long DEFAULT_INFORMER_IDLE_MINUTES = 30;
+
+    /**
+     * System property setting the maximum number of objects held by the shared informers. The least recently read
+     * informers are stopped above it.
+     */
+    public static final String INFORMER_MAX_OBJECTS_PROPERTY = "com.microsoft.jenkins.kubernetes.informer.maxObjects";
+    public static final int DEFAULT_INFORMER_MAX_OBJECTS = 50000;
+
+    /**
+     * Timeout of the watch requests of the shared informers, after which the watch is started again.
+     */
+    public static final int INFORMER_WATCH_TIMEOUT_SECONDS = 300;
+
+    /**
+     * Delay before a shared informer lists its objects again after a failure.
+     */
+    public static final long INFORMER_RETRY_DELAY_MILLIS = 5000;
+
+    /**
+     * System property setting the time in minutes after which a pooled API client is no longer reused, so that the
+     * credentials are read again.
+     */
+    public static final String API_CLIENT_MAX_AGE_MINUTES_PROPERTY =
+            "com.microsoft.jenkins.kubernetes.client.maxAgeMinutes";
+    public static final long DEFAULT_API_CLIENT_MAX_AGE_MINUTES = 10;
+
+    /**
+     * System property setting the time in minutes after which a pooled API client that is not used is dropped.
+     */
+    public static final String API_CLIENT_IDLE_MINUTES_PROPERTY = "com.microsoft.jenkins.kubernetes.client.idleMinutes";
+    public static final long DEFAULT_API_CLIENT_IDLE_MINUTES = 5;
+
+    /**
+     * System property setting the maximum number of asynchronous requests a pooled API client sends to the same host
+     * at the same time.
+     */
+    public static final String API_CLIENT_MAX_REQUESTS_PER_HOST_PROPERTY =
+            "com.microsoft.jenkins.kubernetes.client.maxRequestsPerHost";
+    public static final int DEFAULT_API_CLIENT_MAX_REQUESTS_PER_HOST = 32;
+
+    /**
+     * Maximum number of idle connections kept alive by a pooled API client.
+     */
+    public static final int API_CLIENT_MAX_IDLE_CONNECTIONS = 16;
+
+    /**
+     * Time in minutes an idle connection of a pooled API client is kept alive.
+     */
+    public static final long API_CLIENT_KEEP_ALIVE_MINUTES = 5;
+
+    /**
+     * System property setting the time in seconds a kubeconfig fetched from the Kubernetes master through SSH is used
+     * before its checksum is probed again.
+     */
+    public static final String REMOTE_KUBECONFIG_TTL_SECONDS_PROPERTY =
+            "com.microsoft.jenkins.kubernetes.remoteKubeconfig.ttlSeconds";
+    public static final long DEFAULT_REMOTE_KUBECONFIG_TTL_SECONDS = 300;
+
+    /**
+     * System property setting the time in minutes after which a cached kubeconfig that is not fetched again is dropped.
+     */
+    public static final String REMOTE_KUBECONFIG_IDLE_MINUTES_PROPERTY =
+            "com.microsoft.jenkins.kubernetes.remoteKubeconfig.idleMinutes";
+    public static final long DEFAULT_REMOTE_KUBECONFIG_IDLE_MINUTES = 30;
+
+    /**
+     * System property setting the maximum number of characters of the compiled configuration templates kept in
+     * memory.
+     */
+    public static final String TEMPLATE_CACHE_MAX_CHARS_PROPERTY =
+            "com.microsoft.jenkins.kubernetes.templateCache.maxChars";
+    public static final long DEFAULT_TEMPLATE_CACHE_MAX_CHARS = 16 * 1024 * 1024;
+
+    /**
+     * System property setting the maximum number of bytes of the decoded resources kept in memory across builds.
+     */
+    public static final String MANIFEST_CACHE_MAX_BYTES_PROPERTY =
+            "com.microsoft.jenkins.kubernetes.manifestCache.maxBytes";
+    public static final long DEFAULT_MANIFEST_CACHE_MAX_BYTES = 32 * 1024 * 1024;
+
+    /**
+     * System property setting the directory the decoded resources are cached in across restarts. They are only cached
+     * in memory if not set.
+     */
+    public static final String MANIFEST_CACHE_DIR_PROPERTY = "com.microsoft.jenkins.kubernetes.manifestCache.dir";
+
+    /**
+     * System property setting the maximum number of bytes of the decoded resources cached on disk.
+     */
+    public static final String MANIFEST_CACHE_MAX_DISK_BYTES_PROPERTY =
+            "com.microsoft.jenkins.kubernetes.manifestCache.maxDiskBytes";
+    public static final long DEFAULT_MANIFEST_CACHE_MAX_DISK_BYTES = 256 * 1024 * 1024;
+
+    /**
+     * Default number of hours after which an incremental deployment applies all the configuration files again.
+     */
+    public static final int DEFAULT_FULL_SYNC_INTERVAL_HOURS = 24;
+
+    /**
+     * Maximum number of previous builds searched for the last deployment to the same cluster.
+     */
+    public static final int INCREMENTAL_DEPLOY_MAX_BUILDS = 50;
+
+    /**
+     * System property of the controller choosing how the requests to each API server are limited across the builds:
+     * {@code adaptive}, {@code tokenBucket} or {@code off}.
+     */
+    public static final String LIMITER_MODE_PROPERTY = "com.microsoft.jenkins.kubernetes.limiter.mode";
+    public static final String DEFAULT_LIMITER_MODE = "off";
+
+    /**
+     * System properties of the controller bounding the number of requests in flight to each API server in the
+     * {@code adaptive} mode.
+     */
+    public static final String LIMITER_INITIAL_LIMIT_PROPERTY = "com.microsoft.jenkins.kubernetes.limiter.initialLimit";
+    public static final int DEFAULT_LIMITER_INITIAL_LIMIT = 32;
+    public static final String LIMITER_MIN_LIMIT_PROPERTY = "com.microsoft.jenkins.kubernetes.limiter.minLimit";
+    public static final int DEFAULT_LIMITER_MIN_LIMIT = 2;
+    public static final String LIMITER_MAX_LIMIT_PROPERTY = "com.microsoft.jenkins.kubernetes.limiter.maxLimit";
+    public static final int DEFAULT_LIMITER_MAX_LIMIT = 256;
+
+    /**
+     * System property of the controller setting the latency in milliseconds above which the API server is considered
+     * overloaded in the {@code adaptive} mode.
+     */
+    public static final String LIMITER_LATENCY_TARGET_MILLIS_PROPERTY =
+            "com.microsoft.jenkins.kubernetes.limiter.latencyTargetMillis";
+    public static final long DEFAULT_LIMITER_LATENCY_TARGET_MILLIS = 2000;
+
+    /**
+     * System properties of the controller setting the rate and the burst of requests to each API server in the
+     * {@code tokenBucket} mode.
+     */
+    public static final String LIMITER_RATE_PER_SECOND_PROPERTY =
+            "com.microsoft.jenkins.kubernetes.limiter.ratePerSecond";
+    public static final int DEFAULT_LIMITER_RATE_PER_SECOND = 50;
+    public static final String LIMITER_BURST_PROPERTY = "com.microsoft.jenkins.kubernetes.limiter.burst";
+    public static final int DEFAULT_LIMITER_BURST = 100;
+
+    /**
+     * Time in minutes after which a permit that was not released, e.g., by an agent that went offline, is reclaimed.
+     */
+    public static final long LIMITER_LEASE_TIMEOUT_MINUTES = 10;
+
+    /**
+     * System property of the agents setting how many permits they lease from the limiter of the controller at once.
+     */
+    public static final String LIMITER_GRANT_BATCH_PROPERTY = "com.microsoft.jenkins.kubernetes.limiter.grantBatch";
+    public static final int DEFAULT_LIMITER_GRANT_BATCH = 8;
+
+    /**
+     * Time in milliseconds without requests after which an agent gives back the permits it leased but didn't use.
+     */
+    public static final long LIMITER_GRANT_HOLD_MILLIS = 1000;
+
+    /**
+     * Time in milliseconds an agent waits before asking again for permits, when the controller granted none.
+     */
+    public static final long LIMITER_GRANT_RETRY_MILLIS = 50;
+
+    /**
+     * Number of times the write of a resource is retried after a conflict, reading and merging its live object again.
+     */
+    public static final int CONFLICT_RETRIES = 5;
+
+    /**
+     * Number of locks serializing the writes of the same objects by the deployments running in the same JVM, the
+     * objects being spread over them by hash.
+     */
+    public static final int OBJECT_LOCK_STRIPES = 1024;
+
+    /**
+     * Maximum number of objects whose contention is tracked, the least recently contended ones being dropped.
+     */
+    public static final int OBJECT_LOCK_MAX_TRACKED = 1000;
+
+    /**
+     * Number of the most contended objects listed at the end of a deployment that waited for other builds.
+     */
+    public static final int OBJECT_LOCK_HOT_OBJECTS = 5;
+
+    /**
+     * Default number of times a resource is handled again after a transient failure of the API server.
+     */
+    public static final int DEFAULT_API_RETRIES = 3;
+
+    /**
+     * System property setting the delay in milliseconds before the first retry, doubled for each retry.
+     */
+    public static final String API_RETRY_BASE_DELAY_MILLIS_PROPERTY =
+            "com.microsoft.jenkins.kubernetes.retry.baseDelayMillis";
+    public static final long DEFAULT_API_RETRY_BASE_DELAY_MILLIS = 500;
+
+    /**
+     * System property setting the maximum delay in milliseconds before a retry, including the delays asked by the
+     * {@code Retry-After} header.
+     */
+    public static final String API_RETRY_MAX_DELAY_MILLIS_PROPERTY =
+            "com.microsoft.jenkins.kubernetes.retry.maxDelayMillis";
+    public static final long DEFAULT_API_RETRY_MAX_DELAY_MILLIS = 30000;
+
+    /**
+     * Default time in seconds to wait for the rollout of the workloads, when the step waits for it.
+     */
+    public static final int DEFAULT_ROLLOUT_TIMEOUT_SECONDS = 600;
+
+    /**
+     * Timeout in seconds of the watch requests following a rollout, after which the workloads are listed again.
+     */
+    public static final int ROLLOUT_WATCH_TIMEOUT_SECONDS = 300;
+
+    /**
+     * Delay in milliseconds before following a rollout again after the watch failed.
+     */
+    public static final long ROLLOUT_RETRY_DELAY_MILLIS = 2000;
+
+    /**
+     * Default time in seconds to wait for all the objects deleted to be gone, when the step waits for it.
+     */
+    public static final int DEFAULT_DELETION_TIMEOUT_SECONDS = 600;
+
+    /**
+     * Default time in seconds to wait for each Job run to completion.
+     */
+    public static final int DEFAULT_JOB_TIMEOUT_SECONDS = 3600;
+
+    /**
+     * Maximum length of a line of the logs of a Job printed to the console. The rest of a longer line is dropped.
+     */
+    public static final int JOB_LOG_MAX_LINE_CHARS = 8192;
+
+    /**
+     * Time in seconds to wait for the logs of the pods of a Job to be printed once it finished.
+     */
+    public static final int JOB_LOG_DRAIN_SECONDS = 10;
+
+    /**
+     * Label recording the set of configuration files an object was applied from, so that the objects removed from
+     * the files can be found and pruned.
+     */
+    public static final String APPLY_SET_LABEL = "kubernetes-cd.jenkins.io/apply-set";
+
+    /**
+     * Length of the hex encoded identifier of an apply set, which must fit in a label value.
+     */
+    public static final int APPLY_SET_ID_LENGTH = 32;
+
+    /**
+     * Kinds pruned by default, the kinds not listed are never deleted when they are removed from the configuration.
+     */
+    public static final String DEFAULT_PRUNE_KINDS =
+            "Deployment,StatefulSet,DaemonSet,Job,CronJob,Service,Ingress,ConfigMap,Secret,HorizontalPodAutoscaler";
+
     public static final int DEFAULT_SSH_PORT = 22;
 
     // AI constants
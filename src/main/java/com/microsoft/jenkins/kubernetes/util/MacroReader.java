@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.util;
+
+import hudson.util.VariableResolver;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A {@code Reader} replacing the variables in the characters read from another reader, with the same rules as
+ * {@link hudson.Util#replaceMacro(String, VariableResolver)}: {@code $name} and {@code ${name}} are replaced by the
+ * value of the variable if it's defined, and {@code $$} by {@code $}. The replaced values are not scanned again.
+ * <p>
+ * Only the characters of the variable being read are buffered, so the content is never loaded as a whole.
+ */
+public final class MacroReader extends Reader {
+    private static final int CHUNK_SIZE = 8192;
+
+    private final MacroScanner scanner;
+    private final VariableResolver<String> resolver;
+    private final StringBuilder pending = new StringBuilder();
+    private int pendingPos;
+    private boolean eof;
+    private final MacroScanner.Sink sink = new PendingSink();
+
+    public MacroReader(Reader in, VariableResolver<String> resolver) {
+        this.scanner = new MacroScanner(in);
+        this.resolver = resolver;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (pendingPos == pending.length()) {
+            if (eof) {
+                return -1;
+            }
+            pending.setLength(0);
+            pendingPos = 0;
+            while (pending.length() < CHUNK_SIZE && !eof) {
+                eof = !scanner.scan(sink);
+            }
+        }
+        int n = Math.min(len, pending.length() - pendingPos);
+        pending.getChars(pendingPos, pendingPos + n, cbuf, off);
+        pendingPos += n;
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        scanner.close();
+    }
+
+    private final class PendingSink implements MacroScanner.Sink {
+        @Override
+        public void literal(char c) {
+            pending.append(c);
+        }
+
+        @Override
+        public void literal(String s) {
+            pending.append(s);
+        }
+
+        @Override
+        public void variable(String name, String original) {
+            String value = resolver.resolve(name);
+            pending.append(value == null ? original : value);
+        }
+    }
+}
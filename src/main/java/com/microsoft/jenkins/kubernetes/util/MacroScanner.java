@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits the characters read from a reader into literals and variables, with the same rules as
+ * {@link hudson.Util#replaceMacro(String, hudson.util.VariableResolver)}: {@code $name} and {@code ${name}} are
+ * variables, and {@code $$} is the literal {@code $}.
+ */
+final class MacroScanner {
+    /**
+     * Receives the scanned literals and variables.
+     */
+    interface Sink {
+        void literal(char c);
+
+        void literal(String s);
+
+        /**
+         * @param name     the name of the variable
+         * @param original the text of the variable in the template, kept if the variable is not defined
+         */
+        void variable(String name, String original);
+    }
+
+    private final Reader in;
+    private int pushback = -1;
+
+    MacroScanner(Reader in) {
+        this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+    }
+
+    /**
+     * Scan the next character or variable.
+     *
+     * @param sink receives what was scanned
+     * @return {@code false} if the end of the reader is reached
+     * @throws IOException if failed to read
+     */
+    boolean scan(Sink sink) throws IOException {
+        int c = next();
+        if (c == -1) {
+            return false;
+        }
+        if (c == '$') {
+            scanVariable(sink);
+        } else {
+            sink.literal((char) c);
+        }
+        return true;
+    }
+
+    void close() throws IOException {
+        in.close();
+    }
+
+    private void scanVariable(Sink sink) throws IOException {
+        int c = next();
+        if (c == '$') {
+            sink.literal('$');
+        } else if (c == '{') {
+            StringBuilder name = new StringBuilder();
+            c = next();
+            while (isNameChar(c) || c == '.') {
+                name.append((char) c);
+                c = next();
+            }
+            if (c == '}' && name.length() > 0) {
+                sink.variable(name.toString(), "${" + name + "}");
+            } else {
+                sink.literal("${" + name);
+                unread(c);
+            }
+        } else if (isNameChar(c)) {
+            StringBuilder name = new StringBuilder();
+            while (isNameChar(c)) {
+                name.append((char) c);
+                c = next();
+            }
+            unread(c);
+            sink.variable(name.toString(), "$" + name);
+        } else {
+            sink.literal('$');
+            unread(c);
+        }
+    }
+
+    private int next() throws IOException {
+        if (pushback != -1) {
+            int c = pushback;
+            pushback = -1;
+            return c;
+        }
+        return in.read();
+    }
+
+    private void unread(int c) {
+        pushback = c;
+    }
+
+    private static boolean isNameChar(int c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_';
+    }
+}
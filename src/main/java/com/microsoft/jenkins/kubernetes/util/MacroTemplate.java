@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import hudson.util.VariableResolver;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A configuration file compiled into literal and variable segments, so that the variables can be replaced without
+ * scanning the file again. The variables follow the same rules as {@link MacroReader}.
+ * <p>
+ * The compiled templates are cached by the hash of the file content, up to
+ * {@link Constants#TEMPLATE_CACHE_MAX_CHARS_PROPERTY} characters, and shared by the builds running in this JVM.
+ */
+public final class MacroTemplate {
+    private static final Cache<String, MacroTemplate> CACHE = CacheBuilder.newBuilder()
+            .maximumWeight(Long.getLong(
+                    Constants.TEMPLATE_CACHE_MAX_CHARS_PROPERTY, Constants.DEFAULT_TEMPLATE_CACHE_MAX_CHARS))
+            .weigher((String key, MacroTemplate template) -> template.length)
+            .build();
+
+    /**
+     * The literal before each variable, followed by the literal after the last variable.
+     */
+    private final String[] literals;
+    private final String[] names;
+    private final String[] originals;
+    private final Set<String> variables;
+    private final int length;
+
+    private MacroTemplate(List<String> literals, List<String> names, List<String> originals) {
+        this.literals = literals.toArray(new String[0]);
+        this.names = names.toArray(new String[0]);
+        this.originals = originals.toArray(new String[0]);
+        this.variables = Collections.unmodifiableSet(new LinkedHashSet<>(names));
+        int total = 0;
+        for (String literal : this.literals) {
+            total += literal.length();
+        }
+        for (String original : this.originals) {
+            total += original.length();
+        }
+        this.length = total;
+    }
+
+    /**
+     * Compile the template read from the reader.
+     *
+     * @param reader the template, closed when compiled
+     * @return the compiled template
+     * @throws IOException if failed to read
+     */
+    public static MacroTemplate compile(Reader reader) throws IOException {
+        Compiler compiler = new Compiler();
+        MacroScanner scanner = new MacroScanner(reader);
+        try {
+            boolean more = true;
+            while (more) {
+                more = scanner.scan(compiler);
+            }
+        } finally {
+            scanner.close();
+        }
+        compiler.literals.add(compiler.literal.toString());
+        return new MacroTemplate(compiler.literals, compiler.names, compiler.originals);
+    }
+
+    /**
+     * Get the compiled template from the cache, or compile it.
+     *
+     * @param contentHash the hash of the template content
+     * @param reader      opens the template if it's not in the cache
+     * @return the compiled template
+     * @throws IOException if failed to read
+     */
+    public static MacroTemplate compile(String contentHash, Callable<Reader> reader) throws IOException {
+        try {
+            return CACHE.get(contentHash, () -> compile(reader.call()));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * @return the names of the variables referenced by the template, in the order they first appear
+     */
+    public Set<String> getVariables() {
+        return variables;
+    }
+
+    /**
+     * @return the number of characters of the template
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Render the template with the variables resolved by the resolver. The variables that are not defined are kept
+     * as is.
+     *
+     * @param resolver the variable resolver
+     * @return a reader of the rendered content, rendered as it's read
+     */
+    public Reader open(VariableResolver<String> resolver) {
+        return new RenderingReader(resolver);
+    }
+
+    private static final class Compiler implements MacroScanner.Sink {
+        private final List<String> literals = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<String> originals = new ArrayList<>();
+        private final StringBuilder literal = new StringBuilder();
+
+        @Override
+        public void literal(char c) {
+            literal.append(c);
+        }
+
+        @Override
+        public void literal(String s) {
+            literal.append(s);
+        }
+
+        @Override
+        public void variable(String name, String original) {
+            literals.add(literal.toString());
+            literal.setLength(0);
+            names.add(name);
+            originals.add(original);
+        }
+    }
+
+    /**
+     * Renders the segments one at a time.
+     */
+    private final class RenderingReader extends Reader {
+        private final VariableResolver<String> resolver;
+        private int segment;
+        private String current = literals[0];
+        private int position;
+
+        RenderingReader(VariableResolver<String> resolver) {
+            this.resolver = resolver;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            while (position == current.length()) {
+                if (!nextSegment()) {
+                    return -1;
+                }
+            }
+            int n = Math.min(len, current.length() - position);
+            current.getChars(position, position + n, cbuf, off);
+            position += n;
+            return n;
+        }
+
+        private boolean nextSegment() {
+            // segments: literal 0, variable 0, literal 1, variable 1, ..., literal n
+            segment++;
+            if (segment > 2 * names.length) {
+                return false;
+            }
+            int index = segment / 2;
+            if (segment % 2 == 0) {
+                current = literals[index];
+            } else {
+                String value = resolver.resolve(names[index]);
+                current = value == null ? originals[index] : value;
+            }
+            position = 0;
+            return true;
+        }
+
+        @Override
+        public void close() {
+            segment = 2 * names.length;
+            position = current.length();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A JVM-wide pool of the API clients, keyed by the fingerprint of the credentials they are built from.
+ * <p>
+ * Building a client parses the certificates and keys, and its connections have to go through the TLS handshake again.
+ * The builds deploying to the same cluster with the same credentials reuse the client and its warm connections
+ * instead. A change of the credentials changes the fingerprint, so a new client is built. The clients are not reused
+ * after {@link Constants#API_CLIENT_MAX_AGE_MINUTES_PROPERTY} minutes, as the tokens obtained from an exec or auth
+ * provider plugin when the client was built expire, and the clients not used for
+ * {@link Constants#API_CLIENT_IDLE_MINUTES_PROPERTY} minutes are dropped. The requests of the pooled clients are
+ * limited by the {@link ClusterLimiter}.
+ */
+final class ApiClientPool {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiClientPool.class);
+
+    private static final ApiClientPool INSTANCE = new ApiClientPool();
+
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+
+    private final long maxAgeMillis;
+    private final long idleMillis;
+    private final int maxRequestsPerHost;
+
+    private ApiClientPool() {
+        this(TimeUnit.MINUTES.toMillis(Long.getLong(
+                Constants.API_CLIENT_MAX_AGE_MINUTES_PROPERTY, Constants.DEFAULT_API_CLIENT_MAX_AGE_MINUTES)),
+                TimeUnit.MINUTES.toMillis(Long.getLong(
+                        Constants.API_CLIENT_IDLE_MINUTES_PROPERTY, Constants.DEFAULT_API_CLIENT_IDLE_MINUTES)),
+                Integer.getInteger(Constants.API_CLIENT_MAX_REQUESTS_PER_HOST_PROPERTY,
+                        Constants.DEFAULT_API_CLIENT_MAX_REQUESTS_PER_HOST));
+    }
+
+    @VisibleForTesting
+    ApiClientPool(long maxAgeMillis, long idleMillis, int maxRequestsPerHost) {
+        this.maxAgeMillis = maxAgeMillis;
+        this.idleMillis = idleMillis;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    static ApiClientPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the pooled client for the credentials, or build one.
+     *
+     * @param fingerprint the fingerprint of the credentials
+     * @param factory     builds the client if there is none in the pool for the credentials
+     * @return the client
+     */
+    ApiClient acquire(String fingerprint, Supplier<ApiClient> factory) {
+        long now = System.currentTimeMillis();
+        evictIdle(now);
+        PooledClient pooled = clients.compute(fingerprint, (key, existing) -> {
+            if (existing != null && now - existing.created < maxAgeMillis) {
+                return existing;
+            }
+            return new PooledClient(tune(factory.get()), now);
+        });
+        pooled.lastUsed = now;
+        return pooled.client;
+    }
+
+    /**
+     * Get the pooled client for the credentials without building one, e.g., for a long running reader to pick up the
+     * client that replaced the one it started with.
+     *
+     * @param fingerprint the fingerprint of the credentials
+     * @return the client, or {@code null} if there is none in the pool for the credentials or it is too old to be
+     * reused
+     */
+    ApiClient current(String fingerprint) {
+        PooledClient pooled = clients.get(fingerprint);
+        if (pooled == null || System.currentTimeMillis() - pooled.created >= maxAgeMillis) {
+            return null;
+        }
+        return pooled.client;
+    }
+
+    private ApiClient tune(ApiClient client) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        // HTTP/2 is negotiated by the default protocols, so the concurrent requests of a build share one connection
+        // when the API server supports it, and are spread over the kept alive connections otherwise
+        OkHttpClient httpClient = client.getHttpClient().newBuilder()
+                .connectionPool(new ConnectionPool(Constants.API_CLIENT_MAX_IDLE_CONNECTIONS,
+                        Constants.API_CLIENT_KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                .dispatcher(dispatcher)
+                .addInterceptor(new ClusterLimiterInterceptor())
+                .build();
+        client.setHttpClient(httpClient);
+        return client;
+    }
+
+    private void evictIdle(long now) {
+        clients.entrySet().removeIf(entry -> {
+            PooledClient pooled = entry.getValue();
+            if (now - pooled.lastUsed <= idleMillis && now - pooled.created < maxAgeMillis) {
+                return false;
+            }
+            LOGGER.debug("Dropping the pooled API client for {}", pooled.client.getBasePath());
+            // only the idle connections are closed, the requests in flight complete
+            pooled.client.getHttpClient().connectionPool().evictAll();
+            return true;
+        });
+    }
+
+    private static final class PooledClient {
+        private final ApiClient client;
+        private final long created;
+        private volatile long lastUsed;
+
+        PooledClient(ApiClient client, long created) {
+            this.client = client;
+            this.created = created;
+            this.lastUsed = created;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.microsoft.jenkins.kubernetes.wrapper.RolloutWaiter.stringField;
+
+/**
+ * Finds the objects removed from the configuration files of a deployment, so that they can be pruned.
+ * <p>
+ * Every object applied is labelled with {@link Constants#APPLY_SET_LABEL} set to the identifier of its apply set,
+ * e.g., the job and the configuration files it deploys to a cluster. Once all of them are applied, the objects holding
+ * the label are listed with one paginated, label selected {@code LIST} per kind and namespace, reading only their
+ * metadata, and the ones that were not applied this time are the orphans. The objects already being deleted, and the ones
+ * controlled by another object, are left alone.
+ */
+final class ApplySetPruner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApplySetPruner.class);
+
+    private final ApiClient client;
+    private final String selector;
+    private final Set<String> applied = ConcurrentHashMap.newKeySet();
+    private final List<Object> orphans = Collections.synchronizedList(new ArrayList<>());
+
+    ApplySetPruner(ApiClient client, String applySet) {
+        this.client = client;
+        this.selector = Constants.APPLY_SET_LABEL + '=' + applySet;
+    }
+
+    /**
+     * Label a resource as a member of an apply set.
+     *
+     * @param resource the resource to be applied
+     * @param applySet the identifier of the apply set
+     */
+    static void stamp(Object resource, String applySet) {
+        V1ObjectMeta metadata = ResourceUpdaterMap.getMetadata(resource);
+        if (metadata != null) {
+            metadata.putLabelsItem(Constants.APPLY_SET_LABEL, applySet);
+        }
+    }
+
+    /**
+     * @param allowlist the kinds to be pruned, separated by commas or whitespaces
+     * @return the kinds
+     */
+    static Set<String> kinds(String allowlist) {
+        Set<String> kinds = new LinkedHashSet<>();
+        for (String kind : StringUtils.split(StringUtils.defaultString(allowlist), ", \t\r\n")) {
+            kinds.add(kind);
+        }
+        return kinds;
+    }
+
+    /**
+     * Choose the model class to list the objects of a kind with, when none of them is applied: the most stable API
+     * version, as the objects can be read through any version the API server serves.
+     *
+     * @param kind  the kind
+     * @param types the supported model classes
+     * @return the model class, or {@code null} if the kind is not supported
+     */
+    static Class<?> modelClass(String kind, Collection<Class<?>> types) {
+        Class<?> best = null;
+        for (Class<?> type : types) {
+            if (!kind.equals(ResourcePlanner.kindOf(type))) {
+                continue;
+            }
+            if (best == null || rank(type) < rank(best)
+                    || (rank(type) == rank(best) && type.getName().compareTo(best.getName()) < 0)) {
+                best = type;
+            }
+        }
+        return best;
+    }
+
+    private static int rank(Class<?> type) {
+        String name = type.getSimpleName();
+        String version = name.substring(0, name.length() - ResourcePlanner.kindOf(type).length());
+        int rank = 0;
+        if (version.contains("alpha")) {
+            rank = 2;
+        } else if (version.contains("beta")) {
+            rank = 1;
+        }
+        // the extensions API group is the oldest home of the kinds it serves
+        return rank * 2 + (version.startsWith("Extensions") ? 1 : 0);
+    }
+
+    /**
+     * Record an object applied by the deployment, which is not to be pruned.
+     *
+     * @param updater the updater of the object
+     */
+    void applied(ResourceManager.ResourceUpdater<?> updater) {
+        applied.add(updater.getObjectKey());
+    }
+
+    /**
+     * List the objects of the apply set of a kind in a namespace, and collect the ones that were not applied. If the
+     * objects cannot be listed, e.g., the credentials are not allowed to, none of them is pruned.
+     *
+     * @param lister the updater of a resource of the kind in the namespace
+     * @param out    the console logger
+     */
+    void list(ResourceManager.ResourceUpdater<?> lister, PrintStream out) {
+        Class<?> type = lister.get().getClass();
+        String kind = ResourcePlanner.kindOf(type);
+        List<Object> found = new ArrayList<>();
+        String continueToken = null;
+        try {
+            do {
+                JsonObject page = PartialObjectMetadata.list(client, lister.listCall(new ListRequest()
+                        .withLabelSelector(selector)
+                        .withContinueToken(continueToken)
+                        .withLimit(Constants.PREFETCH_PAGE_SIZE)));
+                if (page.has("items") && page.get("items").isJsonArray()) {
+                    for (JsonElement item : page.getAsJsonArray("items")) {
+                        Object live = PartialObjectMetadata.decode(client, item, type);
+                        V1ObjectMeta metadata = ResourceUpdaterMap.getMetadata(live);
+                        if (metadata != null && metadata.getName() != null && metadata.getDeletionTimestamp() == null
+                                && !isControlled(metadata)
+                                && !applied.contains(kind + '/' + lister.getNamespace() + '/' + metadata.getName())) {
+                            found.add(live);
+                        }
+                    }
+                }
+                continueToken = stringField(page, "metadata", "continue");
+            } while (StringUtils.isNotEmpty(continueToken));
+        } catch (ApiException | RuntimeException e) {
+            LOGGER.debug("Failed to list {} in {} to be pruned", kind, lister.getNamespace(), e);
+            out.println(Messages.ApplySetPruner_listFailed(kind, lister.getNamespace(),
+                    e instanceof ApiException ? ((ApiException) e).getCode() : e.getMessage()));
+            return;
+        }
+        orphans.addAll(found);
+    }
+
+    private static boolean isControlled(V1ObjectMeta metadata) {
+        if (metadata.getOwnerReferences() != null) {
+            for (V1OwnerReference owner : metadata.getOwnerReferences()) {
+                if (Boolean.TRUE.equals(owner.getController())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the objects of the apply set listed that were not applied, with only their metadata
+     */
+    List<Object> getOrphans() {
+        synchronized (orphans) {
+            return new ArrayList<>(orphans);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import hudson.remoting.Asynchronous;
+
+/**
+ * Grants the permits of the controller to the nodes, in batches. The builds running on agents call it through
+ * remoting, so no call waits for a permit on the controller.
+ */
+public interface ClusterGrants {
+    /**
+     * Grant permits to send requests to an API server, without waiting for them.
+     *
+     * @param server the URL of the API server
+     * @param wanted the number of permits wanted
+     * @return the number of permits granted, from {@code 0} to {@code wanted}
+     */
+    int grant(String server, int wanted);
+
+    /**
+     * Give back permits granted earlier, with how the requests sent with them were answered.
+     *
+     * @param server           the URL of the API server
+     * @param unused           the number of permits not used
+     * @param answered         the number of permits used by a request that completed
+     * @param throttled        how many of these requests were answered {@code 429 Too Many Requests}
+     * @param maxLatencyMillis the longest time it took to get a response
+     */
+    @Asynchronous
+    void giveBack(String server, int unused, int answered, int throttled, long maxLatencyMillis);
+}
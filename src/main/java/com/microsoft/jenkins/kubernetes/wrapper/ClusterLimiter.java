@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import hudson.remoting.Channel;
+import hudson.remoting.VirtualChannel;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the requests sent to each API server by all the builds, so that many pipelines deploying to the same cluster
+ * at once don't overwhelm it.
+ * <p>
+ * The limiter of the controller is shared by all the builds. The deployments running on the controller wait for a
+ * permit for each request. The deployments running on an agent lease their permits in batches through remoting, see
+ * {@link LeasedPermits}, so that their requests don't each wait for a round trip to the controller, and no thread of
+ * the controller waits for a permit. The permits leased by an agent are reclaimed when its channel is closed. The
+ * mode is set on the controller with {@link Constants#LIMITER_MODE_PROPERTY}:
+ * <ul>
+ * <li>{@code off}, the default, does not limit the requests.</li>
+ * <li>{@code adaptive} bounds the number of requests in flight to each API server. The bound grows by
+ * one for each round of requests answered in time, and is halved when the API server answers {@code 429 Too Many
+ * Requests} or slower than {@link Constants#LIMITER_LATENCY_TARGET_MILLIS_PROPERTY}, at most once per target
+ * latency.</li>
+ * <li>{@code tokenBucket} sends up to {@link Constants#LIMITER_RATE_PER_SECOND_PROPERTY} requests per second to each
+ * API server, with bursts of up to {@link Constants#LIMITER_BURST_PROPERTY} requests.</li>
+ * </ul>
+ * The watches are long-running and not limited.
+ */
+public final class ClusterLimiter implements ClusterPermits, ClusterGrants {
+    /**
+     * How the requests are limited.
+     */
+    enum Mode {
+        ADAPTIVE,
+        TOKEN_BUCKET,
+        OFF
+    }
+
+    private static final ClusterLimiter INSTANCE = new ClusterLimiter(mode(
+            System.getProperty(Constants.LIMITER_MODE_PROPERTY, Constants.DEFAULT_LIMITER_MODE)));
+
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    /**
+     * The permits used by the requests sent from this JVM: the limiter of the controller, or those leased from it.
+     */
+    private static volatile ClusterPermits permits = INSTANCE;
+
+    /**
+     * The permits leased by each agent, to be reclaimed when its channel is closed.
+     */
+    private static final Map<Channel, ChannelGrants> CHANNELS = new ConcurrentHashMap<>();
+
+    private final Mode mode;
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+    ClusterLimiter(Mode mode) {
+        this.mode = mode;
+    }
+
+    public static ClusterLimiter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the grants to be used by a deployment running on the node of the channel.
+     *
+     * @param channel the channel to the node running the deployment
+     * @return the limiter of the controller, exported to the node if it's an agent, or {@code null} if the requests
+     * are not limited
+     */
+    public static ClusterGrants export(VirtualChannel channel) {
+        if (INSTANCE.mode == Mode.OFF) {
+            return null;
+        }
+        if (channel instanceof Channel) {
+            Channel remote = (Channel) channel;
+            ChannelGrants grants = CHANNELS.computeIfAbsent(remote, key -> {
+                ChannelGrants created = new ChannelGrants(INSTANCE);
+                key.addListener(new Channel.Listener() {
+                    @Override
+                    public void onClosed(Channel closed, IOException cause) {
+                        CHANNELS.remove(closed);
+                        created.reclaim();
+                    }
+                });
+                return created;
+            });
+            return remote.export(ClusterGrants.class, grants);
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Use the grants of the controller for the requests sent from this JVM.
+     *
+     * @param controllerGrants the grants, exported by the controller
+     */
+    public static synchronized void use(ClusterGrants controllerGrants) {
+        if (controllerGrants == null) {
+            return;
+        }
+        if (controllerGrants instanceof ClusterLimiter) {
+            permits = (ClusterLimiter) controllerGrants;
+        } else if (permits instanceof LeasedPermits) {
+            ((LeasedPermits) permits).use(controllerGrants);
+        } else {
+            permits = new LeasedPermits(controllerGrants,
+                    Integer.getInteger(Constants.LIMITER_GRANT_BATCH_PROPERTY, Constants.DEFAULT_LIMITER_GRANT_BATCH),
+                    Constants.LIMITER_GRANT_HOLD_MILLIS);
+        }
+    }
+
+    static ClusterPermits current() {
+        return permits;
+    }
+
+    static Mode mode(String name) {
+        switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "off":
+                return Mode.OFF;
+            case "tokenbucket":
+                return Mode.TOKEN_BUCKET;
+            default:
+                return Mode.ADAPTIVE;
+        }
+    }
+
+    @Override
+    public long acquire(String server) throws InterruptedException {
+        if (mode == Mode.OFF) {
+            return 0;
+        }
+        return limitOf(server).acquire();
+    }
+
+    @Override
+    public void release(String server, long lease, long latencyMillis, int status) {
+        Limit limit = limits.get(server);
+        if (limit != null) {
+            limit.release(lease, latencyMillis, status);
+        }
+    }
+
+    @Override
+    public int grant(String server, int wanted) {
+        if (mode == Mode.OFF) {
+            return wanted;
+        }
+        return limitOf(server).grant(wanted);
+    }
+
+    @Override
+    public void giveBack(String server, int unused, int answered, int throttled, long maxLatencyMillis) {
+        Limit limit = limits.get(server);
+        if (limit != null) {
+            limit.giveBack(unused, answered, throttled, maxLatencyMillis);
+        }
+    }
+
+    private void reclaim(String server, int granted) {
+        Limit limit = limits.get(server);
+        if (limit != null) {
+            limit.reclaim(granted);
+        }
+    }
+
+    private Limit limitOf(String server) {
+        return limits.computeIfAbsent(server, key -> mode == Mode.TOKEN_BUCKET
+                ? new TokenBucket(
+                        Integer.getInteger(Constants.LIMITER_RATE_PER_SECOND_PROPERTY,
+                                Constants.DEFAULT_LIMITER_RATE_PER_SECOND),
+                        Integer.getInteger(Constants.LIMITER_BURST_PROPERTY, Constants.DEFAULT_LIMITER_BURST))
+                : new AdaptiveLimit(
+                        Integer.getInteger(Constants.LIMITER_INITIAL_LIMIT_PROPERTY,
+                                Constants.DEFAULT_LIMITER_INITIAL_LIMIT),
+                        Integer.getInteger(Constants.LIMITER_MIN_LIMIT_PROPERTY, Constants.DEFAULT_LIMITER_MIN_LIMIT),
+                        Integer.getInteger(Constants.LIMITER_MAX_LIMIT_PROPERTY, Constants.DEFAULT_LIMITER_MAX_LIMIT),
+                        Long.getLong(Constants.LIMITER_LATENCY_TARGET_MILLIS_PROPERTY,
+                                Constants.DEFAULT_LIMITER_LATENCY_TARGET_MILLIS)));
+    }
+
+    /**
+     * @param server the URL of the API server
+     * @return the number of requests allowed in flight in the {@code adaptive} mode, or {@code -1}
+     */
+    int getLimit(String server) {
+        Limit limit = limits.get(server);
+        return limit instanceof AdaptiveLimit ? ((AdaptiveLimit) limit).getLimit() : -1;
+    }
+
+    private interface Limit {
+        long acquire() throws InterruptedException;
+
+        void release(long lease, long latencyMillis, int status);
+
+        int grant(int wanted);
+
+        void giveBack(int unused, int answered, int throttled, long maxLatencyMillis);
+
+        void reclaim(int granted);
+    }
+
+    /**
+     * The grants exported to an agent, counting the permits it holds so that they can be reclaimed.
+     */
+    static final class ChannelGrants implements ClusterGrants {
+        private final ClusterLimiter limiter;
+        private final Map<String, Integer> outstanding = new HashMap<>();
+
+        ChannelGrants(ClusterLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        @Override
+        public synchronized int grant(String server, int wanted) {
+            int granted = limiter.grant(server, wanted);
+            outstanding.merge(server, granted, Integer::sum);
+            return granted;
+        }
+
+        @Override
+        public void giveBack(String server, int unused, int answered, int throttled, long maxLatencyMillis) {
+            int returnedUnused;
+            int returnedAnswered;
+            synchronized (this) {
+                // the permits held before the agent reconnected were reclaimed already
+                int held = outstanding.getOrDefault(server, 0);
+                returnedUnused = Math.min(unused, held);
+                returnedAnswered = Math.min(answered, held - returnedUnused);
+                outstanding.put(server, held - returnedUnused - returnedAnswered);
+            }
+            limiter.giveBack(server, returnedUnused, returnedAnswered, throttled, maxLatencyMillis);
+        }
+
+        synchronized void reclaim() {
+            outstanding.forEach(limiter::reclaim);
+            outstanding.clear();
+        }
+    }
+
+    /**
+     * Additive increase, multiplicative decrease of the number of requests in flight.
+     */
+    private static final class AdaptiveLimit implements Limit {
+        private final int minLimit;
+        private final int maxLimit;
+        private final long latencyTargetMillis;
+        private final long leaseTimeoutMillis = TimeUnit.MINUTES.toMillis(Constants.LIMITER_LEASE_TIMEOUT_MINUTES);
+        /**
+         * The time each permit in flight was acquired, by lease.
+         */
+        private final Map<Long, Long> leases = new HashMap<>();
+        /**
+         * The permits granted to the agents and not given back yet.
+         */
+        private int granted;
+        private double limit;
+        private long nextLease = 1;
+        private long lastDecrease;
+
+        AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, long latencyTargetMillis) {
+            this.minLimit = Math.max(1, minLimit);
+            this.maxLimit = Math.max(this.minLimit, maxLimit);
+            this.latencyTargetMillis = latencyTargetMillis;
+            this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        }
+
+        @Override
+        public synchronized long acquire() throws InterruptedException {
+            while (inFlight() >= (int) limit) {
+                reclaimExpired();
+                if (inFlight() >= (int) limit) {
+                    wait(latencyTargetMillis);
+                }
+            }
+            long lease = nextLease++;
+            leases.put(lease, System.currentTimeMillis());
+            return lease;
+        }
+
+        @Override
+        public synchronized void release(long lease, long latencyMillis, int status) {
+            if (leases.remove(lease) == null) {
+                // reclaimed
+                return;
+            }
+            adjust(status == TOO_MANY_REQUESTS || latencyMillis > latencyTargetMillis, 1);
+        }
+
+        @Override
+        public synchronized int grant(int wanted) {
+            reclaimExpired();
+            int available = Math.max(0, Math.min(wanted, (int) limit - inFlight()));
+            granted += available;
+            return available;
+        }
+
+        @Override
+        public synchronized void giveBack(int unused, int answered, int throttled, long maxLatencyMillis) {
+            granted = Math.max(0, granted - unused - answered);
+            if (answered > 0) {
+                adjust(throttled > 0 || maxLatencyMillis > latencyTargetMillis, answered);
+            } else {
+                notifyAll();
+            }
+        }
+
+        @Override
+        public synchronized void reclaim(int permits) {
+            granted = Math.max(0, granted - permits);
+            notifyAll();
+        }
+
+        private int inFlight() {
+            return leases.size() + granted;
+        }
+
+        private void adjust(boolean overloaded, int answered) {
+            long now = System.currentTimeMillis();
+            if (overloaded) {
+                // one decrease per round trip, as the requests in flight see the same overload
+                if (now - lastDecrease > latencyTargetMillis) {
+                    limit = Math.max(minLimit, limit * DECREASE_FACTOR);
+                    lastDecrease = now;
+                }
+            } else {
+                // one more request per round of limit requests
+                for (int i = 0; i < answered; i++) {
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                }
+            }
+            notifyAll();
+        }
+
+        synchronized int getLimit() {
+            return (int) limit;
+        }
+
+        private void reclaimExpired() {
+            long now = System.currentTimeMillis();
+            leases.values().removeIf(acquired -> now - acquired > leaseTimeoutMillis);
+        }
+    }
+
+    /**
+     * A fixed rate of requests, with bursts.
+     */
+    private static final class TokenBucket implements Limit {
+        private static final double MILLIS_PER_SECOND = 1000.0;
+
+        private final double ratePerMillis;
+        private final double burst;
+        private double tokens;
+        private long lastRefill = System.currentTimeMillis();
+
+        TokenBucket(int ratePerSecond, int burst) {
+            this.ratePerMillis = Math.max(1, ratePerSecond) / MILLIS_PER_SECOND;
+            this.burst = Math.max(1, burst);
+            this.tokens = this.burst;
+        }
+
+        @Override
+        public synchronized long acquire() throws InterruptedException {
+            refill();
+            while (tokens < 1) {
+                wait(Math.max(1, (long) Math.ceil((1 - tokens) / ratePerMillis)));
+                refill();
+            }
+            tokens -= 1;
+            return 0;
+        }
+
+        @Override
+        public void release(long lease, long latencyMillis, int status) {
+            // the tokens are refilled over time
+        }
+
+        @Override
+        public synchronized int grant(int wanted) {
+            refill();
+            int available = Math.max(0, Math.min(wanted, (int) tokens));
+            tokens -= available;
+            return available;
+        }
+
+        @Override
+        public synchronized void giveBack(int unused, int answered, int throttled, long maxLatencyMillis) {
+            tokens = Math.min(burst, tokens + unused);
+            notifyAll();
+        }
+
+        @Override
+        public void reclaim(int permits) {
+            // the tokens used by the agent are spent
+        }
+
+        private void refill() {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(burst, tokens + (now - lastRefill) * ratePerMillis);
+            lastRefill = now;
+        }
+    }
+}
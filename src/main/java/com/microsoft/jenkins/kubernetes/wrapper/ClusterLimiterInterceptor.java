@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends each request to the API server with a permit of the {@link ClusterLimiter}. The watches and the followed logs
+ * are not limited, as the server holds them open. If the permits can't be reached, e.g., the channel to the controller
+ * is closed, the request is sent anyway.
+ */
+final class ClusterLimiterInterceptor implements Interceptor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClusterLimiterInterceptor.class);
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        HttpUrl url = chain.request().url();
+        if ("true".equals(url.queryParameter("watch")) || "true".equals(url.queryParameter("follow"))) {
+            return chain.proceed(chain.request());
+        }
+        String server = url.scheme() + "://" + url.host() + ":" + url.port();
+        ClusterPermits permits = ClusterLimiter.current();
+        long lease;
+        try {
+            lease = permits.acquire(server);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a permit to call " + server);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Failed to get a permit to call {}", server, e);
+            return chain.proceed(chain.request());
+        }
+
+        long start = System.nanoTime();
+        int status = 0;
+        try {
+            Response response = chain.proceed(chain.request());
+            status = response.code();
+            return response;
+        } finally {
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            try {
+                permits.release(server, lease, latencyMillis, status);
+            } catch (RuntimeException e) {
+                LOGGER.debug("Failed to release the permit to call {}", server, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+/**
+ * Grants the permits to send requests to an API server, one request at a time, to the requests sent from this JVM.
+ * On the controller, they are the permits of the {@link ClusterLimiter}. On an agent, they are leased from it in
+ * batches by {@link LeasedPermits}.
+ */
+interface ClusterPermits {
+    /**
+     * Wait for a permit to send a request to an API server.
+     *
+     * @param server the URL of the API server
+     * @return the lease of the permit, to be released when the request completes
+     * @throws InterruptedException if interrupted while waiting
+     */
+    long acquire(String server) throws InterruptedException;
+
+    /**
+     * Release a permit.
+     *
+     * @param server        the URL of the API server
+     * @param lease         the lease of the permit
+     * @param latencyMillis the time it took to get the response
+     * @param status        the status of the response, or {@code 0} if there was none
+     */
+    void release(String server, long lease, long latencyMillis, int status);
+}
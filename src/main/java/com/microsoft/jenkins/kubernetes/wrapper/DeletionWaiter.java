@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonObject;
+import org.apache.commons.lang.StringUtils;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.microsoft.jenkins.kubernetes.wrapper.RolloutWaiter.stringField;
+
+/**
+ * Waits until the objects deleted by a deployment are gone, i.e., their finalizers ran and, with the
+ * {@code Foreground} propagation, their dependents are deleted, so that a following deployment does not race with
+ * objects or Namespaces still terminating.
+ * <p>
+ * The objects of the same kind in the same namespace are followed by a single watch, and all the kinds and namespaces
+ * concurrently, within a single timeout.
+ */
+final class DeletionWaiter {
+    private final PrintStream logger;
+    private final Map<String, Group> groups = new LinkedHashMap<>();
+
+    DeletionWaiter(PrintStream logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Follow the deletion of the object of the updater.
+     *
+     * @param updater the updater of the object deleted
+     */
+    synchronized void track(ResourceManager.ResourceUpdater<?> updater) {
+        groups.computeIfAbsent(updater.getKind() + '/' + updater.getNamespace(), key -> new Group(updater))
+                .pending.add(updater.getName());
+    }
+
+    synchronized int size() {
+        int size = 0;
+        for (Group group : groups.values()) {
+            size += group.pending.size();
+        }
+        return size;
+    }
+
+    /**
+     * Wait until all the objects tracked are gone.
+     *
+     * @param timeoutMillis the time to wait for all of them
+     * @throws InterruptedException  if interrupted while waiting
+     * @throws IllegalStateException if the timeout expired
+     */
+    synchronized void await(long timeoutMillis) throws InterruptedException {
+        int size = size();
+        if (size == 0) {
+            return;
+        }
+        logger.println(Messages.DeletionWaiter_waiting(size, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis)));
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        ExecutorService executor = Executors.newFixedThreadPool(groups.size(), new ThreadFactoryBuilder()
+                .setNameFormat("kubernetes-cd-deletion-%d")
+                .setDaemon(true)
+                .build());
+        CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+        try {
+            for (Group group : groups.values()) {
+                completion.submit(() -> {
+                    group.run(deadline);
+                    return null;
+                });
+            }
+            for (int i = 0; i < groups.size(); i++) {
+                long remaining = deadline - System.currentTimeMillis();
+                Future<Void> done = remaining > 0 ? completion.poll(remaining, TimeUnit.MILLISECONDS) : null;
+                if (done == null) {
+                    throw new IllegalStateException(Messages.DeletionWaiter_timeout(
+                            TimeUnit.MILLISECONDS.toSeconds(timeoutMillis), StringUtils.join(pending(), ", ")));
+                }
+                try {
+                    done.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+            List<String> pending = pending();
+            if (!pending.isEmpty()) {
+                throw new IllegalStateException(Messages.DeletionWaiter_timeout(
+                        TimeUnit.MILLISECONDS.toSeconds(timeoutMillis), StringUtils.join(pending, ", ")));
+            }
+            logger.println(Messages.DeletionWaiter_gone(size));
+        } finally {
+            for (Group group : groups.values()) {
+                group.stop();
+            }
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> pending() {
+        List<String> pending = new ArrayList<>();
+        for (Group group : groups.values()) {
+            for (String name : group.pending) {
+                pending.add(group.kind + ' ' + group.namespace + '/' + name);
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * The objects of a kind in a namespace, followed by one watch.
+     */
+    private static final class Group implements ListWatcher.Handler {
+        private final String kind;
+        private final String namespace;
+        private final ListWatcher watcher;
+        /**
+         * The names of the objects not yet gone.
+         */
+        private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+        Group(ResourceManager.ResourceUpdater<?> lister) {
+            this.kind = ResourcePlanner.kindOf(lister.get(), null);
+            this.namespace = lister.getNamespace();
+            this.watcher = new ListWatcher(lister.getManager().getApiClient(), lister::listCall, this,
+                    "the deletion of " + kind + " in " + namespace);
+        }
+
+        void run(long deadline) throws InterruptedException {
+            watcher.run(deadline);
+        }
+
+        void stop() {
+            watcher.stop();
+        }
+
+        @Override
+        public ListRequest request() {
+            ListRequest request = new ListRequest();
+            if (pending.size() == 1) {
+                request.withFieldSelector("metadata.name=" + pending.iterator().next());
+            }
+            return request;
+        }
+
+        /**
+         * Forget the objects that are gone.
+         */
+        @Override
+        public boolean onList(List<JsonObject> objects) {
+            Set<String> present = new HashSet<>();
+            for (JsonObject object : objects) {
+                present.add(stringField(object, "metadata", "name"));
+            }
+            pending.retainAll(present);
+            return pending.isEmpty();
+        }
+
+        @Override
+        public boolean onEvent(String type, JsonObject object) {
+            if ("DELETED".equals(type)) {
+                pending.remove(stringField(object, "metadata", "name"));
+            }
+            return pending.isEmpty();
+        }
+    }
+}
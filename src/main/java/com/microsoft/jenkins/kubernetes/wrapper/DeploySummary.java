@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts what happened to the resources of a deployment. The resources may be handled concurrently, so the counters
+ * are thread safe.
+ */
+final class DeploySummary {
+    /**
+     * What happened to a resource.
+     */
+    enum Outcome {
+        CREATED,
+        UPDATED,
+        UNCHANGED,
+        DELETED,
+        NOT_FOUND,
+        SKIPPED
+    }
+
+    private final Map<Outcome, AtomicInteger> counters = new EnumMap<>(Outcome.class);
+    private final AtomicInteger retries = new AtomicInteger();
+    private final AtomicInteger conflicts = new AtomicInteger();
+    private final AtomicInteger lockWaits = new AtomicInteger();
+
+    DeploySummary() {
+        for (Outcome outcome : Outcome.values()) {
+            counters.put(outcome, new AtomicInteger());
+        }
+    }
+
+    void record(Outcome outcome) {
+        counters.get(outcome).incrementAndGet();
+    }
+
+    int get(Outcome outcome) {
+        return counters.get(outcome).get();
+    }
+
+    /**
+     * Count a resource handled again after a transient failure.
+     */
+    void recordRetry() {
+        retries.incrementAndGet();
+    }
+
+    int getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * Count the writes of a resource that conflicted with concurrent writes.
+     *
+     * @param count the number of conflicts
+     */
+    void recordConflicts(int count) {
+        conflicts.addAndGet(count);
+    }
+
+    int getConflicts() {
+        return conflicts.get();
+    }
+
+    /**
+     * Count a resource that waited for another deployment writing it.
+     */
+    void recordLockWait() {
+        lockWaits.incrementAndGet();
+    }
+
+    int getLockWaits() {
+        return lockWaits.get();
+    }
+
+    @Override
+    public String toString() {
+        return Messages.KubernetesClientWrapper_summary(
+                get(Outcome.CREATED), get(Outcome.UPDATED), get(Outcome.UNCHANGED),
+                get(Outcome.DELETED), get(Outcome.NOT_FOUND), get(Outcome.SKIPPED), getRetries(), getConflicts());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import com.microsoft.jenkins.kubernetes.util.KubernetesJsonUtils;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Computes a canonical hash of the desired state of a resource, as rendered from the configuration files.
+ * <p>
+ * The hash is stored in the {@link Constants#DESIRED_STATE_HASH_ANNOTATION} annotation of the resource when it's
+ * written, so that a later deployment of the same configuration can tell that the live object is up to date without
+ * comparing it field by field. The object keys are sorted, and the fields set by the API server, the status and the
+ * hash annotation itself are left out, so the hash only depends on the configuration.
+ */
+final class DesiredStateHash {
+    private static final Set<String> SERVER_METADATA_FIELDS = ImmutableSet.of(
+            "resourceVersion", "uid", "selfLink", "creationTimestamp", "deletionTimestamp",
+            "deletionGracePeriodSeconds", "generation", "managedFields");
+
+    private DesiredStateHash() {
+        // hide constructor
+    }
+
+    /**
+     * Compute the hash of the resource.
+     *
+     * @param resource the resource model object
+     * @return the hex encoded SHA-256 hash of the canonical JSON form of the resource
+     */
+    static String of(Object resource) {
+        JsonElement tree = KubernetesJsonUtils.getKubernetesJson().getGson().toJsonTree(resource);
+        if (tree.isJsonObject()) {
+            JsonObject object = tree.getAsJsonObject();
+            object.remove("status");
+            JsonElement metadata = object.get("metadata");
+            if (metadata != null && metadata.isJsonObject()) {
+                stripMetadata(metadata.getAsJsonObject());
+            }
+        }
+        StringBuilder canonical = new StringBuilder();
+        write(tree, canonical);
+        return Hashing.sha256().hashString(canonical, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Get the hash recorded on a resource.
+     *
+     * @param metadata the metadata of the resource
+     * @return the recorded hash, or {@code null} if the resource was not written with a hash
+     */
+    static String recorded(V1ObjectMeta metadata) {
+        if (metadata == null || metadata.getAnnotations() == null) {
+            return null;
+        }
+        return metadata.getAnnotations().get(Constants.DESIRED_STATE_HASH_ANNOTATION);
+    }
+
+    private static void stripMetadata(JsonObject metadata) {
+        for (String field : SERVER_METADATA_FIELDS) {
+            metadata.remove(field);
+        }
+        JsonElement annotations = metadata.get("annotations");
+        if (annotations != null && annotations.isJsonObject()) {
+            annotations.getAsJsonObject().remove(Constants.DESIRED_STATE_HASH_ANNOTATION);
+            if (annotations.getAsJsonObject().size() == 0) {
+                metadata.remove("annotations");
+            }
+        }
+    }
+
+    private static void write(JsonElement element, StringBuilder out) {
+        if (element.isJsonObject()) {
+            Map<String, JsonElement> sorted = new TreeMap<>();
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                if (!entry.getValue().isJsonNull()) {
+                    sorted.put(entry.getKey(), entry.getValue());
+                }
+            }
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, JsonElement> entry : sorted.entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                out.append(new JsonPrimitive(entry.getKey())).append(':');
+                write(entry.getValue(), out);
+            }
+            out.append('}');
+        } else if (element.isJsonArray()) {
+            out.append('[');
+            boolean first = true;
+            for (JsonElement item : element.getAsJsonArray()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                write(item, out);
+            }
+            out.append(']');
+        } else {
+            out.append(element);
+        }
+    }
+}
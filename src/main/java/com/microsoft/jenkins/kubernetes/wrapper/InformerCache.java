@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import org.apache.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JVM-wide cache of the live objects, shared by the builds deploying to the same clusters.
+ * <p>
+ * The objects of a kind in a namespace are cached by an informer, keyed by the fingerprint of the credentials used to
+ * reach the cluster. The informer is started the first time the kind and namespace are read, lists the objects, then
+ * follows the watch stream with bookmarks to keep them up to date. The objects are listed again if the watch
+ * expires ({@code 410 Gone}), fails, or every resync interval. Until an informer is in sync, the reads of its
+ * objects fall back to the API server. The Secrets are never cached, as their payload would be held in memory across
+ * builds and jobs, so they are always read from the API server.
+ * <p>
+ * An informer outlives the build that started it, so it lists again with the client pooled for the credentials by
+ * {@link ApiClientPool}, which replaces the clients once they are too old, e.g., as their tokens expire. The informer
+ * is stopped if the pool holds no client for the credentials anymore, and started again by the next read.
+ * <p>
+ * The informers that are not read for the idle timeout are stopped, and the least recently read ones are stopped when
+ * the cached objects exceed the configured cap. The tunables are read from the system properties
+ * {@link Constants#INFORMER_RESYNC_MINUTES_PROPERTY}, {@link Constants#INFORMER_IDLE_MINUTES_PROPERTY} and
+ * {@link Constants#INFORMER_MAX_OBJECTS_PROPERTY}.
+ */
+final class InformerCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InformerCache.class);
+
+    /**
+     * Returned by {@link #lookup(String, ResourceManager.ResourceUpdater)} if the live object is not known.
+     */
+    static final Object MISS = new Object();
+
+    private static final InformerCache INSTANCE = new InformerCache();
+
+    private static final Type WATCH_TYPE = new TypeToken<Watch.Response<JsonObject>>() {
+    }.getType();
+
+    private final Map<String, Informer> informers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("kubernetes-cd-informer-%d")
+            .setDaemon(true)
+            .build());
+
+    private final ApiClientPool clientPool;
+    private final long resyncMillis;
+    private final long idleMillis;
+    private final int maxObjects;
+
+    private InformerCache() {
+        this(ApiClientPool.getInstance(),
+                TimeUnit.MINUTES.toMillis(Long.getLong(
+                        Constants.INFORMER_RESYNC_MINUTES_PROPERTY, Constants.DEFAULT_INFORMER_RESYNC_MINUTES)),
+                TimeUnit.MINUTES.toMillis(Long.getLong(
+                        Constants.INFORMER_IDLE_MINUTES_PROPERTY, Constants.DEFAULT_INFORMER_IDLE_MINUTES)),
+                Integer.getInteger(Constants.INFORMER_MAX_OBJECTS_PROPERTY, Constants.DEFAULT_INFORMER_MAX_OBJECTS));
+    }
+
+    @VisibleForTesting
+    InformerCache(ApiClientPool clientPool, long resyncMillis, long idleMillis, int maxObjects) {
+        this.clientPool = clientPool;
+        this.resyncMillis = resyncMillis;
+        this.idleMillis = idleMillis;
+        this.maxObjects = maxObjects;
+    }
+
+    static InformerCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the live object of the resource handled by the updater, and start caching its kind and namespace if not
+     * yet.
+     *
+     * @param credential the fingerprint of the credentials
+     * @param updater    the updater of the resource
+     * @return a copy of the live object, {@code null} if it does not exist, or {@link #MISS} if the cache is not in
+     * sync or the kind is not cached
+     */
+    Object lookup(String credential, ResourceManager.ResourceUpdater<?> updater) {
+        if (!isCacheable(updater)) {
+            return MISS;
+        }
+        Informer informer = informerOf(credential, updater);
+        if (!informer.synced) {
+            return MISS;
+        }
+        JsonObject live = informer.objects.get(updater.getName());
+        if (live == null) {
+            return null;
+        }
+        return informer.client.getJSON().getGson().fromJson(live, updater.get().getClass());
+    }
+
+    /**
+     * Whether the kind and namespace of the resource handled by the updater are cached and in sync, and start caching
+     * them if not yet.
+     *
+     * @param credential the fingerprint of the credentials
+     * @param updater    the updater of the resource
+     * @return {@code true} if the live objects can be read from the cache
+     */
+    boolean isSynced(String credential, ResourceManager.ResourceUpdater<?> updater) {
+        return isCacheable(updater) && informerOf(credential, updater).synced;
+    }
+
+    /**
+     * Whether the live objects of the kind handled by the updater may be cached.
+     *
+     * @param updater the updater of a resource
+     * @return {@code false} for the Secrets
+     */
+    static boolean isCacheable(ResourceManager.ResourceUpdater<?> updater) {
+        return !(updater.get() instanceof V1Secret);
+    }
+
+    @VisibleForTesting
+    int size() {
+        return informers.size();
+    }
+
+    private Informer informerOf(String credential, ResourceManager.ResourceUpdater<?> updater) {
+        String key = credential + '/' + updater.getKind() + '/' + updater.getNamespace();
+        Informer informer = informers.computeIfAbsent(key, k -> {
+            Informer created = new Informer(k, credential, updater);
+            executor.submit(created::run);
+            return created;
+        });
+        informer.lastAccess = System.currentTimeMillis();
+        return informer;
+    }
+
+    private void enforceCap() {
+        int total = 0;
+        for (Informer informer : informers.values()) {
+            total += informer.objects.size();
+        }
+        while (total > maxObjects && !informers.isEmpty()) {
+            Informer eldest = informers.values().stream()
+                    .min(Comparator.comparingLong(i -> i.lastAccess))
+                    .orElse(null);
+            if (eldest == null) {
+                return;
+            }
+            LOGGER.debug("Evicting informer {} as the cache exceeds {} objects", eldest.key, maxObjects);
+            total -= eldest.objects.size();
+            eldest.stop();
+        }
+    }
+
+    private final class Informer {
+        private final String key;
+        private final String credential;
+        private final Object resource;
+        private volatile ResourceManager.ResourceUpdater<?> lister;
+        private volatile ApiClient client;
+        private volatile OkHttpClient watchHttpClient;
+        private final Map<String, JsonObject> objects = new ConcurrentHashMap<>();
+        private volatile boolean synced;
+        private volatile boolean stopped;
+        private volatile long lastAccess = System.currentTimeMillis();
+        private String resourceVersion;
+        private long lastSync;
+
+        Informer(String key, String credential, ResourceManager.ResourceUpdater<?> lister) {
+            this.key = key;
+            this.credential = credential;
+            this.resource = lister.get();
+            use(lister.getManager().getApiClient(), lister);
+        }
+
+        private void use(ApiClient apiClient, ResourceManager.ResourceUpdater<?> updater) {
+            this.lister = updater;
+            // the watch requests are held open by the server until their timeout
+            this.watchHttpClient = apiClient.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
+            this.client = apiClient;
+        }
+
+        /**
+         * Switch to the client now pooled for the credentials, if it was replaced.
+         *
+         * @return {@code false} if there is no client pooled for the credentials anymore
+         */
+        private boolean resolveClient() {
+            ApiClient current = clientPool.current(credential);
+            if (current == null) {
+                return false;
+            }
+            if (current != client) {
+                LOGGER.debug("Informer {} switches to the replaced API client", key);
+                ResourceUpdaterMap.Entry<?, ?> entry =
+                        ResourceUpdaterMap.getUnmodifiableInstance().get(resource.getClass());
+                use(current, entry.createUpdater(entry.createManager(current), resource));
+            }
+            return true;
+        }
+
+        void run() {
+            while (!stopped) {
+                if (System.currentTimeMillis() - lastAccess > idleMillis) {
+                    LOGGER.debug("Stopping idle informer {}", key);
+                    stop();
+                    return;
+                }
+                try {
+                    if (!synced || System.currentTimeMillis() - lastSync > resyncMillis) {
+                        if (!resolveClient()) {
+                            LOGGER.debug("Stopping informer {} as its API client was retired", key);
+                            stop();
+                            return;
+                        }
+                        relist();
+                        enforceCap();
+                    }
+                    watch();
+                } catch (ApiException | IOException | RuntimeException e) {
+                    LOGGER.debug("Informer " + key + " failed, the objects will be listed again", e);
+                    synced = false;
+                    try {
+                        Thread.sleep(Constants.INFORMER_RETRY_DELAY_MILLIS);
+                    } catch (InterruptedException ie) {
+                        stop();
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }
+
+        void stop() {
+            stopped = true;
+            synced = false;
+            informers.remove(key, this);
+            objects.clear();
+        }
+
+        private void relist() throws ApiException {
+            Map<String, JsonObject> listed = new ConcurrentHashMap<>();
+            String continueToken = null;
+            String version;
+            do {
+                JsonObject page = client.<JsonObject>execute(lister.listCall(new ListRequest()
+                        .withContinueToken(continueToken)
+                        .withLimit(Constants.PREFETCH_PAGE_SIZE)), JsonObject.class).getData();
+                if (page.has("items") && page.get("items").isJsonArray()) {
+                    for (JsonElement item : page.getAsJsonArray("items")) {
+                        String name = metadataField(item.getAsJsonObject(), "name");
+                        if (name != null) {
+                            listed.put(name, item.getAsJsonObject());
+                        }
+                    }
+                }
+                continueToken = page.has("metadata") ? metadataField(page, "continue") : null;
+                version = metadataField(page, "resourceVersion");
+            } while (continueToken != null && !continueToken.isEmpty());
+
+            objects.keySet().retainAll(listed.keySet());
+            objects.putAll(listed);
+            resourceVersion = version;
+            lastSync = System.currentTimeMillis();
+            synced = true;
+        }
+
+        private void watch() throws ApiException, IOException {
+            long untilResync = resyncMillis - (System.currentTimeMillis() - lastSync);
+            int timeout = (int) Math.max(1, Math.min(Constants.INFORMER_WATCH_TIMEOUT_SECONDS,
+                    TimeUnit.MILLISECONDS.toSeconds(untilResync)));
+            Call call = lister.listCall(new ListRequest()
+                    .withResourceVersion(resourceVersion)
+                    .withTimeoutSeconds(timeout)
+                    .asWatch());
+            try (Watch<JsonObject> watch = Watch.createWatch(
+                    client, watchHttpClient.newCall(call.request()), WATCH_TYPE)) {
+                for (Watch.Response<JsonObject> event : watch) {
+                    if (stopped) {
+                        return;
+                    }
+                    if ("ERROR".equals(event.type)) {
+                        if (event.status != null && event.status.getCode() != null
+                                && event.status.getCode() == HttpStatus.SC_GONE) {
+                            // the resource version is too old, list again
+                            synced = false;
+                            return;
+                        }
+                        throw new IllegalStateException("Watch error: " + event.status);
+                    }
+                    if (event.object == null) {
+                        continue;
+                    }
+                    String name = metadataField(event.object, "name");
+                    if (name != null) {
+                        if ("ADDED".equals(event.type) || "MODIFIED".equals(event.type)) {
+                            objects.put(name, event.object);
+                        } else if ("DELETED".equals(event.type)) {
+                            objects.remove(name);
+                        }
+                    }
+                    String version = metadataField(event.object, "resourceVersion");
+                    if (version != null) {
+                        resourceVersion = version;
+                    }
+                }
+            }
+        }
+    }
+
+    private static String metadataField(JsonObject object, String field) {
+        JsonElement metadata = object.get("metadata");
+        if (metadata == null || !metadata.isJsonObject()) {
+            return null;
+        }
+        JsonElement value = metadata.getAsJsonObject().get(field);
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1Status;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static com.microsoft.jenkins.kubernetes.wrapper.RolloutWaiter.field;
+import static com.microsoft.jenkins.kubernetes.wrapper.RolloutWaiter.stringField;
+
+/**
+ * Runs a Job to completion, e.g., a database migration: the live Job is deleted with its pods and created again, and
+ * the deployment waits until the new Job completes or fails.
+ * <p>
+ * The Job is followed with a watch, and the logs of its pods are printed to the console as they are written. The logs
+ * are copied line by line, each line bounded to {@link Constants#JOB_LOG_MAX_LINE_CHARS}, so the logs of a long and
+ * chatty Job don't pile up in memory, on the node nor on the controller. The console is the build log itself, not the
+ * buffer of a resource applied in parallel, which would only be flushed once the Job is done.
+ */
+final class JobRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobRunner.class);
+
+    private static final int BUFFER_CHARS = 4096;
+    private static final String TRUNCATED = "...";
+
+    private final V1ResourceManager.JobUpdater updater;
+    private final PrintStream logger;
+    private final ApiClient client;
+    private final CoreV1Api coreApi;
+    private final String qualifiedName;
+    /**
+     * The client of the logs, which are held open by the server.
+     */
+    private final OkHttpClient streamHttpClient;
+    /**
+     * The containers whose logs are followed, by pod, container and restart count.
+     */
+    private final Set<String> followed = ConcurrentHashMap.newKeySet();
+    private final Set<Call> logStreams = ConcurrentHashMap.newKeySet();
+    private long jobTimeoutMillis;
+    private long jobDeadline;
+    private V1Job created;
+    private boolean replaced;
+
+    JobRunner(V1ResourceManager.JobUpdater updater, PrintStream logger) {
+        this.updater = updater;
+        this.logger = logger;
+        this.client = updater.getManager().getApiClient();
+        this.coreApi = new CoreV1Api(client);
+        this.qualifiedName = updater.getNamespace() + '/' + updater.getName();
+        this.streamHttpClient = client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
+    }
+
+    /**
+     * @param updater the updater of a resource
+     * @return whether the resource is a Job that can be run to completion
+     */
+    static boolean isJob(ResourceManager.ResourceUpdater<?> updater) {
+        return updater instanceof V1ResourceManager.JobUpdater;
+    }
+
+    /**
+     * Delete the live Job with its pods and create it again. This is the part of the run that writes the Job, the
+     * rest being {@link #await()}.
+     *
+     * @param timeoutMillis the time to wait for the Job to be deleted and to complete
+     * @throws InterruptedException if interrupted while waiting
+     * @throws IllegalStateException if the live Job was not deleted in time
+     */
+    void start(long timeoutMillis) throws InterruptedException {
+        this.jobTimeoutMillis = timeoutMillis;
+        this.jobDeadline = System.currentTimeMillis() + timeoutMillis;
+        V1Status deleted = updater.deleteWithPods();
+        if (deleted != null) {
+            logger.println(Messages.JobRunner_deleting(qualifiedName));
+            follow(jobDeadline, timeoutMillis, job -> job == null);
+        }
+        this.replaced = deleted != null;
+
+        created = updater.createResource(updater.get());
+        updater.logCreated(created);
+        updater.notifyUpdate(null, created);
+    }
+
+    /**
+     * Wait until the Job created by {@link #start(long)} completes, printing the logs of its pods.
+     *
+     * @return what happened to the Job
+     * @throws InterruptedException  if interrupted while waiting
+     * @throws IllegalStateException if the Job failed, was deleted or did not complete in time
+     */
+    DeploySummary.Outcome await() throws InterruptedException {
+        String uid = created.getMetadata().getUid();
+        String selector = selector(created.getSpec().getSelector(), uid);
+        logger.println(Messages.JobRunner_waiting(qualifiedName,
+                TimeUnit.MILLISECONDS.toSeconds(jobDeadline - System.currentTimeMillis())));
+
+        ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("kubernetes-cd-job-%d")
+                .setDaemon(true)
+                .build());
+        ListWatcher pods = followPods(executor, selector);
+        try {
+            executor.submit(() -> {
+                try {
+                    pods.run(jobDeadline);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            follow(jobDeadline, jobTimeoutMillis, job -> isDone(uid, job));
+        } finally {
+            stopFollowing(executor, pods);
+        }
+        logger.println(Messages.JobRunner_complete(qualifiedName));
+        return replaced ? DeploySummary.Outcome.UPDATED : DeploySummary.Outcome.CREATED;
+    }
+
+    /**
+     * @param job the live Job
+     * @return whether the Job completed
+     */
+    static boolean isComplete(JsonObject job) {
+        return condition(job, "Complete") != null;
+    }
+
+    /**
+     * @param job the live Job
+     * @return why the Job failed, or {@code null} if it did not
+     */
+    static String failure(JsonObject job) {
+        JsonObject condition = condition(job, "Failed");
+        if (condition == null) {
+            return null;
+        }
+        String reason = StringUtils.defaultString(stringField(condition, "reason"), "Failed");
+        String message = stringField(condition, "message");
+        return message == null ? reason : reason + ": " + message;
+    }
+
+    /**
+     * Copy the lines read to the console, each line prefixed and bounded in length.
+     *
+     * @param in           the lines
+     * @param out          the console
+     * @param prefix       the prefix of the lines
+     * @param maxLineChars the maximum length of a line, the rest of a longer line being dropped
+     * @throws IOException if the lines cannot be read
+     */
+    static void copyLines(Reader in, PrintStream out, String prefix, int maxLineChars) throws IOException {
+        char[] buffer = new char[BUFFER_CHARS];
+        StringBuilder line = new StringBuilder();
+        boolean truncated = false;
+        while (true) {
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                if (c == '\n') {
+                    out.println(prefix + line + (truncated ? TRUNCATED : ""));
+                    line.setLength(0);
+                    truncated = false;
+                } else if (line.length() < maxLineChars) {
+                    line.append(c);
+                } else {
+                    truncated = true;
+                }
+            }
+        }
+        if (line.length() > 0 || truncated) {
+            out.println(prefix + line + (truncated ? TRUNCATED : ""));
+        }
+    }
+
+    private static JsonObject condition(JsonObject job, String type) {
+        JsonElement conditions = field(job, "status", "conditions");
+        if (conditions == null || !conditions.isJsonArray()) {
+            return null;
+        }
+        for (JsonElement condition : conditions.getAsJsonArray()) {
+            if (condition.isJsonObject()
+                    && type.equals(stringField(condition.getAsJsonObject(), "type"))
+                    && "True".equals(stringField(condition.getAsJsonObject(), "status"))) {
+                return condition.getAsJsonObject();
+            }
+        }
+        return null;
+    }
+
+    private static String selector(V1LabelSelector selector, String uid) {
+        List<String> labels = new ArrayList<>();
+        if (selector != null && selector.getMatchLabels() != null) {
+            for (Map.Entry<String, String> label : selector.getMatchLabels().entrySet()) {
+                labels.add(label.getKey() + '=' + label.getValue());
+            }
+        }
+        if (labels.isEmpty()) {
+            labels.add(Constants.KUBERNETES_CONTROLLER_UID_FIELD + '=' + uid);
+        }
+        return StringUtils.join(labels, ',');
+    }
+
+    private boolean isDone(String uid, JsonObject job) {
+        if (job == null || !uid.equals(stringField(job, "metadata", "uid"))) {
+            throw new JobFailed(Messages.JobRunner_failed(qualifiedName, Messages.JobRunner_deleted()));
+        }
+        String failure = failure(job);
+        if (failure != null) {
+            throw new JobFailed(Messages.JobRunner_failed(qualifiedName, failure));
+        }
+        return isComplete(job);
+    }
+
+    /**
+     * Follow the Job with a watch until it's done.
+     *
+     * @param deadline      the time to give up at
+     * @param timeoutMillis the time to wait for the Job, as it's reported
+     * @param done          whether the Job is done, given the live Job or {@code null} if it's gone
+     */
+    private void follow(long deadline, long timeoutMillis, Predicate<JsonObject> done) throws InterruptedException {
+        ListWatcher watcher = new ListWatcher(client, updater::listCall, new ListWatcher.Handler() {
+            @Override
+            public ListRequest request() {
+                return new ListRequest().withFieldSelector("metadata.name=" + updater.getName());
+            }
+
+            @Override
+            public boolean onList(List<JsonObject> objects) {
+                return done.test(objects.isEmpty() ? null : objects.get(0));
+            }
+
+            @Override
+            public boolean onEvent(String type, JsonObject object) {
+                if ("DELETED".equals(type)) {
+                    return done.test(null);
+                }
+                return ("ADDED".equals(type) || "MODIFIED".equals(type)) && done.test(object);
+            }
+        }, "Job " + qualifiedName);
+        if (!watcher.run(deadline)) {
+            throw new IllegalStateException(Messages.JobRunner_timeout(
+                    qualifiedName, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis)));
+        }
+    }
+
+    /**
+     * Follow the pods of the Job with a watch, and stream the logs of their containers once they're started.
+     */
+    private ListWatcher followPods(ExecutorService executor, String selector) {
+        String namespace = updater.getNamespace();
+        ListWatcher.ListCall listCall = request -> coreApi.listNamespacedPodCall(namespace, null,
+                request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                request.getTimeoutSeconds(), request.getWatch(), null);
+        return new ListWatcher(client, listCall, new ListWatcher.Handler() {
+            @Override
+            public ListRequest request() {
+                return new ListRequest().withLabelSelector(selector);
+            }
+
+            @Override
+            public boolean onList(List<JsonObject> pods) {
+                for (JsonObject pod : pods) {
+                    followLogs(executor, pod);
+                }
+                return false;
+            }
+
+            @Override
+            public boolean onEvent(String type, JsonObject pod) {
+                if ("ADDED".equals(type) || "MODIFIED".equals(type)) {
+                    followLogs(executor, pod);
+                }
+                return false;
+            }
+        }, "the pods of Job " + qualifiedName);
+    }
+
+    private void followLogs(ExecutorService executor, JsonObject pod) {
+        String name = stringField(pod, "metadata", "name");
+        if (name == null) {
+            return;
+        }
+        for (String statusField : new String[]{"initContainerStatuses", "containerStatuses"}) {
+            JsonElement statuses = field(pod, "status", statusField);
+            if (statuses == null || !statuses.isJsonArray()) {
+                continue;
+            }
+            for (JsonElement element : statuses.getAsJsonArray()) {
+                if (!element.isJsonObject()) {
+                    continue;
+                }
+                JsonObject status = element.getAsJsonObject();
+                String container = stringField(status, "name");
+                boolean started = field(status, "state", "running") != null
+                        || field(status, "state", "terminated") != null;
+                if (container != null && started
+                        && followed.add(name + '/' + container + '/' + stringField(status, "restartCount"))) {
+                    executor.submit(() -> streamLogs(name, container));
+                }
+            }
+        }
+    }
+
+    private void streamLogs(String pod, String container) {
+        String prefix = "[" + pod + '/' + container + "] ";
+        try {
+            Call call = streamHttpClient.newCall(coreApi.readNamespacedPodLogCall(pod, updater.getNamespace(),
+                    container, true, null, null, false, null, null, false, null).request());
+            logStreams.add(call);
+            try (Response response = call.execute()) {
+                ResponseBody body = response.body();
+                if (!response.isSuccessful() || body == null) {
+                    LOGGER.debug("Failed to stream the logs of {}/{}: {}", pod, container, response.code());
+                    return;
+                }
+                copyLines(new InputStreamReader(body.byteStream(), StandardCharsets.UTF_8), logger, prefix,
+                        Constants.JOB_LOG_MAX_LINE_CHARS);
+            } finally {
+                logStreams.remove(call);
+            }
+        } catch (ApiException | IOException e) {
+            LOGGER.debug("Failed to stream the logs of {}/{}", pod, container, e);
+        }
+    }
+
+    /**
+     * Stop following the pods, and give the logs being streamed some time to be copied to the end.
+     */
+    private void stopFollowing(ExecutorService executor, ListWatcher pods) throws InterruptedException {
+        pods.stop();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Constants.JOB_LOG_DRAIN_SECONDS, TimeUnit.SECONDS);
+        } finally {
+            for (Call stream : logStreams) {
+                stream.cancel();
+            }
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Thrown when the Job failed.
+     */
+    private static final class JobFailed extends IllegalStateException {
+        private static final long serialVersionUID = 1L;
+
+        JobFailed(String message) {
+            super(message);
+        }
+    }
+}
@@ -6,28 +6,29 @@
 
 package com.microsoft.jenkins.kubernetes.wrapper;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
+import com.google.gson.JsonObject;
 import com.microsoft.jenkins.kubernetes.credentials.ResolvedDockerRegistryEndpoint;
 import com.microsoft.jenkins.kubernetes.util.CommonUtils;
 import com.microsoft.jenkins.kubernetes.util.Constants;
 import com.microsoft.jenkins.kubernetes.util.DockerConfigBuilder;
+import com.microsoft.jenkins.kubernetes.util.MacroTemplate;
 import hudson.EnvVars;
 import hudson.FilePath;
 import hudson.util.VariableResolver;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
-import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretBuilder;
 import io.kubernetes.client.util.ClientBuilder;
 import io.kubernetes.client.util.Config;
 import io.kubernetes.client.util.KubeConfig;
-import io.kubernetes.client.util.Yaml;
 import io.kubernetes.client.util.credentials.ClientCertificateAuthentication;
-import io.kubesphere.jenkins.kubernetes.generated.KubernetesModelClasses;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
-import org.apache.commons.lang3.tuple.MutablePair;
-import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,114 +40,80 @@ import java.io.InputStreamReader;
 import java.io.PrintStream;
 import java.io.Reader;
 import java.io.StringReader;
-import java.lang.reflect.Constructor;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class KubernetesClientWrapper {
     private static final Logger LOGGER = LoggerFactory.getLogger(KubernetesClientWrapper.class);
     private final ApiClient client;
+    /**
+     * The SHA-256 hash of the credentials used to reach the cluster, identifying the cluster and the user in the
+     * JVM-wide caches.
+     */
+    private final String credentialFingerprint;
     private PrintStream logger = System.out;
     private VariableResolver<String> variableResolver;
 
     private boolean deleteResource;
 
+    private int parallelism = 1;
 
-    private static Map<String, String> apiGroups = new HashMap<>();
-    private static List<String> apiVersions = new ArrayList<>();
-
-
-    private static void initApiGroupMap() {
-        apiGroups.put("Admissionregistration", "admissionregistration.k8s.io");
-        apiGroups.put("Apiextensions", "apiextensions.k8s.io");
-        apiGroups.put("Apiregistration", "apiregistration.k8s.io");
-        apiGroups.put("Apps", "apps");
-        apiGroups.put("Authentication", "authentication.k8s.io");
-        apiGroups.put("Authorization", "authorization.k8s.io");
-        apiGroups.put("Autoscaling", "autoscaling");
-        apiGroups.put("Extensions", "extensions");
-        apiGroups.put("Batch", "batch");
-        apiGroups.put("Certificates", "certificates.k8s.io");
-        apiGroups.put("Networking", "networking.k8s.io");
-        apiGroups.put("Policy", "policy");
-        apiGroups.put("RbacAuthorization", "rbac.authorization.k8s.io");
-        apiGroups.put("Scheduling", "scheduling.k8s.io");
-        apiGroups.put("Settings", "settings.k8s.io");
-        apiGroups.put("Storage", "storage.k8s.io");
-    }
-
-    private static void initApiVersionList() {
-        // Order important
-        apiVersions.add("V2beta1");
-        apiVersions.add("V2beta2");
-        apiVersions.add("V2alpha1");
-        apiVersions.add("V1beta2");
-        apiVersions.add("V1beta1");
-        apiVersions.add("V1alpha1");
-        apiVersions.add("V1");
-    }
-
-    static {
-        try {
-            initModelMap();
-        } catch (Exception ex) {
-            LOGGER.error("Unexpected exception while loading classes: " + ex);
-        }
-    }
+    private boolean serverSideApply;
 
-    private static Pair<String, String> getApiGroup(String name) {
-        MutablePair<String, String> parts = new MutablePair<>();
-        for (Map.Entry<String, String> apiGroup : apiGroups.entrySet()) {
-            if (name.startsWith(apiGroup.getKey())) {
-                parts.left = apiGroup.getValue();
-                parts.right = name.substring(apiGroup.getKey().length());
-                break;
-            }
-        }
-        if (parts.left == null) {
-            parts.right = name;
-        }
+    private boolean skipUnchanged;
 
-        return parts;
-    }
+    private boolean informerCache;
 
-    private static Pair<String, String> getApiVersion(String name) {
-        MutablePair<String, String> parts = new MutablePair<>();
-        for (String version : apiVersions) {
-            if (name.startsWith(version)) {
-                parts.left = version.toLowerCase();
-                parts.right = name.substring(version.length());
-                break;
-            }
-        }
-        if (parts.left == null) {
-            parts.right = name;
-        }
+    private boolean compactTransport;
 
-        return parts;
-    }
+    private boolean cachedReads;
 
-    private static void initModelMap() throws IOException {
-        initApiGroupMap();
-        initApiVersionList();
-        for (Class clazz : KubernetesModelClasses.getAllClasses()) {
-            String apiGroupVersion = "";
-            String kind = "";
-            Pair<String, String> nameParts = getApiGroup(clazz.getSimpleName());
-            apiGroupVersion += nameParts.getLeft() == null ? "" : nameParts.getLeft() + "/";
+    private RetryPolicy retryPolicy = RetryPolicy.of(Constants.DEFAULT_API_RETRIES);
 
-            nameParts = getApiVersion(nameParts.getRight());
-            apiGroupVersion += nameParts.getLeft() == null ? "" : nameParts.getLeft();
-            kind += nameParts.getRight();
-            Yaml.addModelMap(apiGroupVersion, kind, clazz);
-        }
-    }
+    private boolean waitForRollout;
+
+    private int rolloutTimeoutSeconds = Constants.DEFAULT_ROLLOUT_TIMEOUT_SECONDS;
+
+    private boolean runJobs;
+
+    private int jobTimeoutSeconds = Constants.DEFAULT_JOB_TIMEOUT_SECONDS;
 
+    private String deletePropagation;
+
+    private boolean waitForDeletion;
+
+    private int deletionTimeoutSeconds = Constants.DEFAULT_DELETION_TIMEOUT_SECONDS;
+
+    private String applySet;
+
+    private boolean prune;
+
+    private String pruneKinds = Constants.DEFAULT_PRUNE_KINDS;
+
+    /**
+     * The workloads written by the last call to {@link #apply(FilePath[])}.
+     */
+    private List<RolloutTarget> rollouts = Collections.emptyList();
+
+    /**
+     * The resource managers, one per API group, shared by all the resources handled through this wrapper.
+     */
+    private final Map<Class<? extends ResourceManager>, ResourceManager> managers = new ConcurrentHashMap<>();
+
+    /**
+     * The content hash and rendered hash of the configuration files, by remote path, computed once per file.
+     */
+    private final Map<String, String[]> configurationHashes = new ConcurrentHashMap<>();
 
     public KubernetesClientWrapper(String kubeConfig) {
         File file = new File(kubeConfig);
@@ -157,21 +124,20 @@ public class KubernetesClientWrapper {
                 throw new RuntimeException(e);
             }
         }
-        KubeConfig config = KubeConfig.loadKubeConfig(new StringReader(kubeConfig));
-        try {
-            client = Config.fromConfig(config);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        String content = kubeConfig;
+        credentialFingerprint = fingerprint(content);
+        client = ApiClientPool.getInstance().acquire(credentialFingerprint, () -> fromKubeConfig(content));
     }
 
     public KubernetesClientWrapper(Reader kubeConfigReader) {
-        KubeConfig config = KubeConfig.loadKubeConfig(kubeConfigReader);
+        String kubeConfig;
         try {
-            client = Config.fromConfig(config);
+            kubeConfig = IOUtils.toString(kubeConfigReader);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        credentialFingerprint = fingerprint(kubeConfig);
+        client = ApiClientPool.getInstance().acquire(credentialFingerprint, () -> fromKubeConfig(kubeConfig));
     }
 
 
@@ -179,19 +145,44 @@ public class KubernetesClientWrapper {
                                    String certificateAuthorityData,
                                    String clientCertificateData,
                                    String clientKeyData) {
-        ClientCertificateAuthentication authentication = new ClientCertificateAuthentication(
-                clientCertificateData.getBytes(StandardCharsets.UTF_8), clientKeyData.getBytes(StandardCharsets.UTF_8));
-        client = new ClientBuilder()
-                .setBasePath(server)
-                .setAuthentication(authentication)
-                .setCertificateAuthority(certificateAuthorityData.getBytes(StandardCharsets.UTF_8))
-                .build();
+        credentialFingerprint = fingerprint(server, certificateAuthorityData, clientCertificateData, clientKeyData);
+        client = ApiClientPool.getInstance().acquire(credentialFingerprint, () -> {
+            ClientCertificateAuthentication authentication = new ClientCertificateAuthentication(
+                    clientCertificateData.getBytes(StandardCharsets.UTF_8),
+                    clientKeyData.getBytes(StandardCharsets.UTF_8));
+            return new ClientBuilder()
+                    .setBasePath(server)
+                    .setAuthentication(authentication)
+                    .setCertificateAuthority(certificateAuthorityData.getBytes(StandardCharsets.UTF_8))
+                    .build();
+        });
+    }
+
+    private static ApiClient fromKubeConfig(String kubeConfig) {
+        KubeConfig config = KubeConfig.loadKubeConfig(new StringReader(kubeConfig));
+        try {
+            return Config.fromConfig(config);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String fingerprint(String... parts) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String part : parts) {
+            hasher.putString(StringUtils.defaultString(part), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        return hasher.hash().toString();
     }
 
     public ApiClient getClient() {
         return client;
     }
 
+    public String getCredentialFingerprint() {
+        return credentialFingerprint;
+    }
+
 
     public PrintStream getLogger() {
         return logger;
@@ -206,6 +197,278 @@ public class KubernetesClientWrapper {
         return this;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Set the number of resources that can be handled concurrently. With the default value {@code 1}, the resources
+     * are handled one by one in the order they are defined in the configuration files.
+     *
+     * @param maxConcurrentResources the maximum number of resources handled at the same time
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withParallelism(int maxConcurrentResources) {
+        this.parallelism = Math.max(1, maxConcurrentResources);
+        return this;
+    }
+
+    public boolean isServerSideApply() {
+        return serverSideApply;
+    }
+
+    /**
+     * Set whether the resources are applied with a single server-side apply request each, instead of reading the live
+     * object and replacing it.
+     *
+     * @param enabled whether to use server-side apply
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withServerSideApply(boolean enabled) {
+        this.serverSideApply = enabled;
+        return this;
+    }
+
+    public boolean isSkipUnchanged() {
+        return skipUnchanged;
+    }
+
+    /**
+     * Set whether the resources whose configuration did not change since they were last written are left untouched.
+     * The hash of the configuration is recorded in an annotation of every resource written.
+     *
+     * @param enabled whether to skip the unchanged resources
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withSkipUnchanged(boolean enabled) {
+        this.skipUnchanged = enabled;
+        return this;
+    }
+
+    public boolean isInformerCache() {
+        return informerCache;
+    }
+
+    /**
+     * Set whether the live resources are read from the {@link InformerCache} shared by the builds running in this
+     * JVM, which keeps the objects of the kinds and namespaces deployed to up to date through watches.
+     *
+     * @param enabled whether to use the shared informer cache
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withInformerCache(boolean enabled) {
+        this.informerCache = enabled;
+        return this;
+    }
+
+    public boolean isCompactTransport() {
+        return compactTransport;
+    }
+
+    /**
+     * Set whether the responses of the API server are kept small: not pretty printed, and, with server-side apply
+     * and unchanged resources skipped, holding only the metadata of the live objects.
+     *
+     * @param enabled whether to use the compact transport
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withCompactTransport(boolean enabled) {
+        this.compactTransport = enabled;
+        return this;
+    }
+
+    public boolean isCachedReads() {
+        return cachedReads;
+    }
+
+    /**
+     * Set whether the live resources are read from the watch cache of the API server, with
+     * {@code resourceVersion=0}, instead of etcd. A write conflicting with an out of date read is retried after
+     * reading the resource from etcd.
+     *
+     * @param enabled whether to read from the watch cache of the API server
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withCachedReads(boolean enabled) {
+        this.cachedReads = enabled;
+        return this;
+    }
+
+    public int getRetries() {
+        return retryPolicy.getRetries();
+    }
+
+    /**
+     * Set the number of times a resource is handled again after a transient failure of the API server, i.e., a
+     * {@code 429}, a {@code 5xx}, a timeout or a reset connection. The retries back off exponentially with jitter, and
+     * wait as long as asked by the {@code Retry-After} header.
+     *
+     * @param retries the number of retries, {@code 0} not to retry
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withRetries(int retries) {
+        this.retryPolicy = RetryPolicy.of(retries);
+        return this;
+    }
+
+    /**
+     * Set whether to wait for the rollout of the Deployments, StatefulSets and DaemonSets written, once all the
+     * resources are applied.
+     *
+     * @param enabled whether to wait for the rollout
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withRolloutWait(boolean enabled) {
+        this.waitForRollout = enabled;
+        return this;
+    }
+
+    /**
+     * @param timeoutSeconds the time to wait for the rollout of all the workloads
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withRolloutTimeout(int timeoutSeconds) {
+        this.rolloutTimeoutSeconds = timeoutSeconds;
+        return this;
+    }
+
+    /**
+     * Run the Jobs to completion: the live Job is deleted with its pods and created again, and the deployment waits
+     * until it completes, printing the logs of its pods.
+     *
+     * @param enabled whether to run the Jobs to completion
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withRunJobs(boolean enabled) {
+        this.runJobs = enabled;
+        return this;
+    }
+
+    /**
+     * @param timeoutSeconds the time to wait for each Job run to completion
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withJobTimeout(int timeoutSeconds) {
+        this.jobTimeoutSeconds = timeoutSeconds;
+        return this;
+    }
+
+    /**
+     * @param policy the propagation policy of the deletions, {@code Background}, {@code Foreground} or
+     *               {@code Orphan}, or {@code null} to use the default policy of each kind
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withDeletePropagation(String policy) {
+        this.deletePropagation = policy;
+        return this;
+    }
+
+    /**
+     * Wait until the objects deleted are gone, following them with watches.
+     *
+     * @param enabled whether to wait for the deletions
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withDeletionWait(boolean enabled) {
+        this.waitForDeletion = enabled;
+        return this;
+    }
+
+    /**
+     * @param timeoutSeconds the time to wait for all the objects deleted to be gone
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withDeletionTimeout(int timeoutSeconds) {
+        this.deletionTimeoutSeconds = timeoutSeconds;
+        return this;
+    }
+
+    /**
+     * Label the resources applied with {@link Constants#APPLY_SET_LABEL}, so that they can be pruned once they are
+     * removed from the configuration files.
+     *
+     * @param id the identifier of the apply set, or {@code null} not to label them
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withApplySet(String id) {
+        this.applySet = id;
+        return this;
+    }
+
+    /**
+     * Delete the objects of the apply set that are not in the configuration files anymore, once all the resources
+     * are applied. This requires an {@link #withApplySet(String) apply set}, and all the configuration files of the
+     * apply set to be applied.
+     *
+     * @param enabled whether to prune the objects removed from the configuration files
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withPrune(boolean enabled) {
+        this.prune = enabled;
+        return this;
+    }
+
+    /**
+     * @param kinds the kinds to be pruned, separated by commas, e.g., {@code Deployment,Service}
+     * @return this wrapper
+     */
+    public KubernetesClientWrapper withPruneKinds(String kinds) {
+        this.pruneKinds = kinds;
+        return this;
+    }
+
+    /**
+     * @return the Deployments, StatefulSets and DaemonSets written by the last call to {@link #apply(FilePath[])},
+     * whose rollout can be waited for with {@link #awaitRollouts(List, long)}
+     */
+    public List<RolloutTarget> getRollouts() {
+        return rollouts;
+    }
+
+    /**
+     * Wait for the rollout of workloads written earlier.
+     *
+     * @param targets       the workloads
+     * @param timeoutMillis the time to wait for all of them
+     * @throws InterruptedException  if interrupted while waiting
+     * @throws IllegalStateException if a rollout failed or the timeout expired
+     */
+    public void awaitRollouts(List<RolloutTarget> targets, long timeoutMillis) throws InterruptedException {
+        RolloutWaiter rollout = new RolloutWaiter(logger);
+        for (RolloutTarget target : targets) {
+            ResourceManager.ResourceUpdater<?> updater = newUpdater(stub(target));
+            if (updater != null) {
+                rollout.track(updater, target.getGeneration());
+            }
+        }
+        rollout.await(timeoutMillis);
+    }
+
+    /**
+     * @param target a workload
+     * @return a resource of the model class of the workload, with only its name and namespace
+     */
+    private Object stub(RolloutTarget target) {
+        for (Class<?> type : ResourceUpdaterMap.getUnmodifiableInstance().keySet()) {
+            if (type.getName().equals(target.getResourceType())) {
+                return stub(type, target.getName(), target.getNamespace());
+            }
+        }
+        throw new IllegalArgumentException(target.getResourceType());
+    }
+
+    /**
+     * @return a resource of the model class, with only its name and namespace
+     */
+    private Object stub(Class<?> type, String name, String namespace) {
+        JsonObject metadata = new JsonObject();
+        metadata.addProperty("name", name);
+        metadata.addProperty("namespace", namespace);
+        JsonObject json = new JsonObject();
+        json.add("metadata", metadata);
+        return client.getJSON().getGson().fromJson(json, type);
+    }
+
     public KubernetesClientWrapper withLogger(PrintStream log) {
         this.logger = log;
         return this;
@@ -217,6 +480,7 @@ public class KubernetesClientWrapper {
 
     public KubernetesClientWrapper withVariableResolver(VariableResolver<String> resolver) {
         this.variableResolver = resolver;
+        configurationHashes.clear();
         return this;
     }
 
@@ -228,77 +492,397 @@ public class KubernetesClientWrapper {
      * @throws InterruptedException interruption happened during blocking IO operations
      */
     public void apply(FilePath[] configFiles) throws IOException, InterruptedException, ApiException {
+        List<Object> resources = new ArrayList<>();
         for (FilePath path : configFiles) {
             log(Messages.KubernetesClientWrapper_loadingConfiguration(path));
-            List<Object> resources;
+            List<Object> loaded;
             try {
-                InputStream inputStream = CommonUtils.replaceMacro(path.read(), variableResolver);
-                resources = Yaml.loadAll(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+                loaded = loadConfiguration(path);
             } catch (IOException e) {
                 throw new IOException(Messages.KubernetesClientWrapper_invalidYaml(path.getName(), e));
             }
-            if (resources.isEmpty()) {
+            if (loaded.isEmpty()) {
                 log(Messages.KubernetesClientWrapper_noResourceLoadedFrom(path));
-                continue;
             }
+            resources.addAll(loaded);
+        }
+        if (resources.isEmpty()) {
+            return;
+        }
 
-            // Process the Namespace in the list first, as it may be a dependency of other resources.
-            Iterator<Object> iterator = resources.iterator();
-            while (iterator.hasNext()) {
-                Object resource = iterator.next();
-                if (resource instanceof V1Namespace) {
-                    handleResource(resource);
-                    iterator.remove();
-                }
+        if (applySet != null && !deleteResource) {
+            for (Object resource : resources) {
+                ApplySetPruner.stamp(resource, applySet);
             }
+        }
 
-            for (Object resource : resources) {
-                handleResource(resource);
+        // Resources are handled wave by wave, so that the dependencies of a resource, e.g., its Namespace, or the
+        // ConfigMaps and Secrets it mounts, are ready before the resource is sent to the cluster.
+        List<List<Object>> waves = deleteResource
+                ? ResourcePlanner.planDeletion(resources)
+                : ResourcePlanner.plan(resources);
+        log(Messages.KubernetesClientWrapper_planned(resources.size(), waves.size()));
+        DeploySummary summary = new DeploySummary();
+        RolloutWaiter rollout = deleteResource ? null : new RolloutWaiter(logger);
+        boolean pruning = prune && applySet != null && !deleteResource;
+        DeletionWaiter deletion = (deleteResource || pruning) && waitForDeletion ? new DeletionWaiter(logger) : null;
+        int pruned = 0;
+        try (ResourceDispatcher dispatcher = new ResourceDispatcher(parallelism, logger)) {
+            LiveStateSnapshot liveState = null;
+            if (!deleteResource && (!serverSideApply || skipUnchanged)) {
+                liveState = prefetch(resources, dispatcher);
+            }
+            final LiveStateSnapshot snapshot = liveState;
+            for (List<Object> wave : waves) {
+                dispatcher.dispatch(wave, (resource, out) ->
+                        summary.record(handleResource(resource, out, snapshot, summary, rollout, deletion)));
+            }
+            if (pruning) {
+                pruned = prune(resources, dispatcher, deletion);
+            }
+        }
+        log(summary.toString());
+        if (pruning) {
+            log(Messages.KubernetesClientWrapper_pruned(pruned));
+        }
+        if (summary.getLockWaits() > 0 || summary.getConflicts() > 0) {
+            log(Messages.KubernetesClientWrapper_hotObjects(StringUtils.join(
+                    ObjectLocks.getInstance().hottest(Constants.OBJECT_LOCK_HOT_OBJECTS), ", ")));
+        }
+        if (deletion != null) {
+            deletion.await(TimeUnit.SECONDS.toMillis(deletionTimeoutSeconds));
+        }
+        if (rollout != null) {
+            rollouts = rollout.getTargets();
+            if (waitForRollout) {
+                rollout.await(TimeUnit.SECONDS.toMillis(rolloutTimeoutSeconds));
             }
         }
     }
 
     /**
-     * Get related updater in{@link ResourceUpdaterMap} by resource's class type and handle the resource by updater.
+     * Decode the resources of a configuration file, with the variables replaced. The documents are decoded as the file
+     * is read, without loading it as a whole.
+     * <p>
+     * If the variables are to be replaced, the file is compiled once into a {@link MacroTemplate} cached by the hash
+     * of its content, and rendered as it's read. The decoded resources are cached in the {@link ManifestCache} by the
+     * hash of the content and of the variables the file references.
      *
-     * @param resource k8s resource
+     * @param path the configuration file
+     * @return the resources
+     * @throws IOException          if failed to read or decode the file
+     * @throws InterruptedException if interrupted while reading the file
      */
-    private void handleResource(Object resource) {
-        Pair<Class<? extends ResourceManager>,
-                Class<? extends ResourceManager.ResourceUpdater>> updaterPair =
-                ResourceUpdaterMap.getUnmodifiableInstance().get(resource.getClass());
-        ResourceManager.ResourceUpdater updater = null;
-        if (updaterPair != null) {
+    private List<Object> loadConfiguration(FilePath path) throws IOException, InterruptedException {
+        String[] hashes = hashConfiguration(path);
+        String key = hashes[1];
+        List<Object> loaded = ManifestCache.getInstance().get(key);
+        if (loaded != null) {
+            return loaded;
+        }
+        MacroTemplate template = null;
+        if (variableResolver != null) {
+            // already compiled when the file was hashed
+            template = MacroTemplate.compile(
+                    hashes[0], () -> new InputStreamReader(path.read(), StandardCharsets.UTF_8));
+        }
+        try (Reader reader = template == null
+                ? new InputStreamReader(path.read(), StandardCharsets.UTF_8)
+                : template.open(variableResolver)) {
+            loaded = ManifestDecoder.loadAll(path.getName(), reader);
+        }
+        ManifestCache.getInstance().put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * Get the hash of a configuration file rendered with the variable resolver set on this wrapper, which is the same
+     * for the same content and values of the variables the file references.
+     *
+     * @param path the configuration file
+     * @return the rendered hash
+     * @throws IOException          if failed to read the file
+     * @throws InterruptedException if interrupted while reading the file
+     */
+    public String renderedHash(FilePath path) throws IOException, InterruptedException {
+        return hashConfiguration(path)[1];
+    }
+
+    /**
+     * @return the content hash and the rendered hash of the configuration file, which is its key in the
+     * {@link ManifestCache}
+     */
+    private String[] hashConfiguration(FilePath path) throws IOException, InterruptedException {
+        String[] hashes = configurationHashes.get(path.getRemote());
+        if (hashes != null) {
+            return hashes;
+        }
+        String contentHash;
+        try (HashingInputStream in = new HashingInputStream(Hashing.sha256(), path.read())) {
+            ByteStreams.exhaust(in);
+            contentHash = in.hash().toString();
+        }
+        String key;
+        if (variableResolver == null) {
+            key = ManifestCache.key(contentHash, Collections.emptySet(), null);
+        } else {
+            MacroTemplate template = MacroTemplate.compile(
+                    contentHash, () -> new InputStreamReader(path.read(), StandardCharsets.UTF_8));
+            key = ManifestCache.key(contentHash, template.getVariables(), variableResolver);
+        }
+        hashes = new String[]{contentHash, key};
+        configurationHashes.put(path.getRemote(), hashes);
+        return hashes;
+    }
+
+    /**
+     * Read the live state of the resources with one {@code LIST} per kind and namespace.
+     *
+     * @param resources  the resources to be applied
+     * @param dispatcher the dispatcher running the {@code LIST} requests
+     * @return the live state of the resources
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    private LiveStateSnapshot prefetch(List<Object> resources, ResourceDispatcher dispatcher)
+            throws InterruptedException {
+        List<ResourceManager.ResourceUpdater<?>> updaters = new ArrayList<>(resources.size());
+        for (Object resource : resources) {
             try {
-                Constructor constructor = updaterPair.
-                        getRight().getDeclaredConstructor(
-                        updaterPair.getLeft(), resource.getClass());
-                Constructor resourceManagerConstructor = updaterPair.getLeft()
-                        .getConstructor(ApiClient.class);
-                ResourceManager resourceManager = (ResourceManager) resourceManagerConstructor.
-                        newInstance(getClient());
-                resourceManager.setConsoleLogger(getLogger());
-                updater = (ResourceManager.ResourceUpdater) constructor
-                        .newInstance(resourceManager, resource);
-
-            } catch (Exception e) {
-                log(Messages.KubernetesClientWrapper_illegalUpdater(resource, e));
+                ResourceManager.ResourceUpdater<?> updater = newUpdater(resource);
+                if (updater != null) {
+                    updaters.add(updater);
+                }
+            } catch (RuntimeException e) {
+                // reported when the resource is handled
+                LOGGER.debug("Failed to construct updater for {}", resource, e);
             }
+        }
+        LiveStateSnapshot snapshot = new LiveStateSnapshot(client);
+        List<LiveStateSnapshot.Group> groups = LiveStateSnapshot.group(updaters);
+        if (informerCache) {
+            // the groups whose informer is in sync are served by the cache, the others are listed while it warms up
+            groups.removeIf(group -> InformerCache.getInstance()
+                    .isSynced(credentialFingerprint, group.getUpdaters().get(0)));
+        }
+        dispatcher.dispatch(groups, (group, out) -> snapshot.fetch((LiveStateSnapshot.Group) group));
+        log(Messages.KubernetesClientWrapper_prefetched(resources.size(), groups.size()));
+        return snapshot;
+    }
 
-            if (updater != null && !deleteResource) {
-                updater.createOrApply();
-            } else if (updater != null && deleteResource) {
-                updater.delete();
-            } else {
-                log(Messages.KubernetesClientWrapper_illegalUpdater(resource, null));
+    /**
+     * Delete the objects of the apply set that were not applied, listing them with one {@code LIST} per pruned kind
+     * and namespace of the resources applied.
+     *
+     * @param resources  the resources applied
+     * @param dispatcher the dispatcher running the {@code LIST} and {@code DELETE} requests
+     * @param deletion   the deletions to follow, or {@code null} not to follow them
+     * @return the number of objects deleted
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    private int prune(List<Object> resources, ResourceDispatcher dispatcher, DeletionWaiter deletion)
+            throws InterruptedException {
+        ApplySetPruner pruner = new ApplySetPruner(client, applySet);
+        Map<String, Class<?>> appliedTypes = new HashMap<>();
+        Set<String> namespaces = new TreeSet<>();
+        for (Object resource : resources) {
+            ResourceManager.ResourceUpdater<?> updater;
+            try {
+                updater = newUpdater(resource);
+            } catch (RuntimeException e) {
+                // reported when the resource was handled
+                continue;
             }
+            if (updater != null) {
+                pruner.applied(updater);
+                String kind = ResourcePlanner.kindOf(resource, null);
+                appliedTypes.putIfAbsent(kind, resource.getClass());
+                if (!ResourcePlanner.isClusterScoped(kind)) {
+                    namespaces.add(updater.getNamespace());
+                }
+            }
+        }
 
+        // the listers only need the namespace to be listed
+        List<Object> listers = new ArrayList<>();
+        for (String kind : ApplySetPruner.kinds(pruneKinds)) {
+            Class<?> type = appliedTypes.containsKey(kind)
+                    ? appliedTypes.get(kind)
+                    : ApplySetPruner.modelClass(kind, ResourceUpdaterMap.getUnmodifiableInstance().keySet());
+            if (type == null || ResourcePlanner.isClusterScoped(kind)) {
+                log(Messages.KubernetesClientWrapper_pruneUnsupportedKind(kind));
+                continue;
+            }
+            for (String namespace : namespaces) {
+                listers.add(stub(type, applySet, namespace));
+            }
+        }
+        dispatcher.dispatch(listers, (lister, out) -> pruner.list(newUpdater(lister), out));
+
+        AtomicInteger pruned = new AtomicInteger();
+        dispatcher.dispatch(pruner.getOrphans(), (orphan, out) -> {
+            ResourceManager.ResourceUpdater<?> updater = newUpdater(orphan).withConsoleLogger(out);
+            try (ObjectLocks.Held ignored = lock(updater)) {
+                if (updater.delete() == DeploySummary.Outcome.DELETED) {
+                    pruned.incrementAndGet();
+                    if (deletion != null) {
+                        deletion.track(updater);
+                    }
+                }
+            }
+        });
+        return pruned.get();
+    }
 
-        } else {
-            log(Messages.KubernetesClientWrapper_skipped(resource));
+    /**
+     * Get the factories registered in {@link ResourceUpdaterMap} for the resource's class type and handle the
+     * resource through the updater they build.
+     *
+     * @param resource k8s resource
+     * @param out       the console logger for the resource
+     * @param liveState the live state read ahead, or {@code null} to read the live resource when it's handled
+     * @param summary   the summary of the deployment, counting the retries and the conflicts
+     * @param rollout   the rollouts to follow, or {@code null} not to follow them
+     * @param deletion  the deletions to follow, or {@code null} not to follow them
+     * @return what happened to the resource
+     */
+    private DeploySummary.Outcome handleResource(Object resource, PrintStream out, LiveStateSnapshot liveState,
+                                                 DeploySummary summary, RolloutWaiter rollout,
+                                                 DeletionWaiter deletion) {
+        ResourceManager.ResourceUpdater<?> updater;
+        try {
+            updater = newUpdater(resource);
+        } catch (RuntimeException e) {
+            log(out, Messages.KubernetesClientWrapper_illegalUpdater(resource, e));
+            return DeploySummary.Outcome.SKIPPED;
+        }
+        if (updater == null) {
+            log(out, Messages.KubernetesClientWrapper_skipped(resource));
+            return DeploySummary.Outcome.SKIPPED;
+        }
+
+        updater.withConsoleLogger(out)
+                .withLiveState(liveState)
+                .withInformerCache(informerCache ? credentialFingerprint : null);
+        try {
+            int retry = 0;
+            while (true) {
+                retry++;
+                try {
+                    JobRunner job;
+                    try (ObjectLocks.Held held = lock(updater)) {
+                        if (held.isContended()) {
+                            summary.recordLockWait();
+                            log(out, Messages.KubernetesClientWrapper_waitedForLock(
+                                    updater.getKind(), updater.getName(), held.getWaitMillis()));
+                            // another build may have written the resource since its live state was read
+                            updater.withLiveState(null).withInformerCache(null);
+                        }
+                        if (deleteResource) {
+                            DeploySummary.Outcome outcome = updater.delete();
+                            if (deletion != null && outcome == DeploySummary.Outcome.DELETED) {
+                                deletion.track(updater);
+                            }
+                            return outcome;
+                        }
+                        if (!runJobs || !JobRunner.isJob(updater)) {
+                            DeploySummary.Outcome outcome = updater.createOrApply();
+                            if (rollout != null && outcome != DeploySummary.Outcome.UNCHANGED) {
+                                rollout.track(updater, updater.getWritten());
+                            }
+                            return outcome;
+                        }
+                        job = startJob(updater);
+                    }
+                    // the other deployments of the Job wait until it's created again, not until it completes
+                    return awaitJob(job);
+                } catch (RuntimeException e) {
+                    long delay = retryPolicy.delayMillis(retry, e);
+                    if (delay < 0) {
+                        throw e;
+                    }
+                    summary.recordRetry();
+                    log(out, Messages.KubernetesClientWrapper_retrying(updater.getKind(), updater.getName(), delay,
+                            retry, retryPolicy.getRetries(), RetryPolicy.apiException(e).getCode()));
+                    try {
+                        Thread.sleep(delay);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        throw e;
+                    }
+                    // the live state read before the failure may be out of date
+                    updater.withLiveState(null).withInformerCache(null);
+                }
+            }
+        } finally {
+            summary.recordConflicts(updater.getConflicts());
+        }
+    }
+
+    /**
+     * Lock the object of the updater against the other deployments running in this JVM.
+     *
+     * @param updater the updater of the object
+     * @return the lock held
+     */
+    private ObjectLocks.Held lock(ResourceManager.ResourceUpdater<?> updater) {
+        try {
+            return ObjectLocks.getInstance().lock(getClient().getBasePath(), updater.getObjectKey());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Delete the live Job with its pods and create it again. The Job logs to the build log directly rather than to
+     * the buffer of the resource, which is only flushed once the resource is done, so that the logs of its pods are
+     * printed as they are written and are not held in memory.
+     *
+     * @param updater the updater of the Job
+     * @return the runner of the Job, to wait until it completes
+     */
+    private JobRunner startJob(ResourceManager.ResourceUpdater<?> updater) {
+        JobRunner job = new JobRunner((V1ResourceManager.JobUpdater) updater, logger);
+        try {
+            job.start(TimeUnit.SECONDS.toMillis(jobTimeoutSeconds));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
         }
+        return job;
     }
 
+    /**
+     * Wait until a Job started completes.
+     *
+     * @param job the runner of the Job
+     * @return what happened to the Job
+     */
+    private static DeploySummary.Outcome awaitJob(JobRunner job) {
+        try {
+            return job.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ResourceManager.ResourceUpdater<?> newUpdater(Object resource) {
+        ResourceUpdaterMap.Entry<?, ?> entry = ResourceUpdaterMap.getUnmodifiableInstance().get(resource.getClass());
+        if (entry == null) {
+            return null;
+        }
+        ResourceManager resourceManager = managers.computeIfAbsent(
+                entry.getManagerType(), type -> entry.createManager(getClient())
+                        .withServerSideApply(serverSideApply)
+                        .withSkipUnchanged(skipUnchanged)
+                        .withCompactTransport(compactTransport)
+                        .withCachedReads(cachedReads)
+                        .withDeletePropagation(deletePropagation)
+                        // the updaters not given a logger of their own, e.g., to prefetch or prune, log to the build
+                        .setConsoleLogger(logger));
+        return entry.createUpdater(resourceManager, resource);
+    }
 
     /**
      * Construct the dockercfg with all the provided credentials, and create a new Secret resource for the Kubernetes
@@ -326,6 +910,8 @@ public class KubernetesClientWrapper {
         Map<String, String> data = new HashMap<>();
         data.put(".dockercfg", dockercfg);
         V1Secret secret = new V1SecretBuilder()
+                .withApiVersion("v1")
+                .withKind("Secret")
                 .withNewMetadata()
                 .withName(secretName)
                 .withNamespace(kubernetesNamespace)
@@ -333,7 +919,7 @@ public class KubernetesClientWrapper {
                 .withStringData(data)
                 .withType("kubernetes.io/dockercfg")
                 .build();
-        handleResource(secret);
+        handleResource(secret, logger, null, new DeploySummary(), null, null);
     }
 
     private static void restoreProperty(String name, String value) {
@@ -382,8 +968,12 @@ public class KubernetesClientWrapper {
     }
 
     private void log(String message) {
-        if (logger != null) {
-            logger.println(message);
+        log(logger, message);
+    }
+
+    private static void log(PrintStream out, String message) {
+        if (out != null) {
+            out.println(message);
         }
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The permits of an agent, leased from the {@link ClusterLimiter} of the controller in batches.
+ * <p>
+ * Asking the controller for each request would add a remoting round trip to every request, and park a thread of the
+ * controller while the limit is reached. The agent instead asks for up to
+ * {@link Constants#LIMITER_GRANT_BATCH_PROPERTY} permits at once, which the controller grants without waiting, and
+ * sends one request with each. The permits are given back asynchronously, with how their requests were answered, once
+ * a batch of requests completed, and the permits left unused after {@link Constants#LIMITER_GRANT_HOLD_MILLIS}
+ * without requests. While the controller grants none, the requests wait on the agent and ask again after
+ * {@link Constants#LIMITER_GRANT_RETRY_MILLIS}.
+ */
+final class LeasedPermits implements ClusterPermits {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LeasedPermits.class);
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final int batchSize;
+    private final long holdMillis;
+    private final Map<String, ServerPermits> servers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                    .setNameFormat("kubernetes-cd-permits-%d")
+                    .setDaemon(true)
+                    .build());
+    private volatile ClusterGrants grants;
+
+    LeasedPermits(ClusterGrants grants, int batchSize, long holdMillis) {
+        this.grants = grants;
+        this.batchSize = Math.max(1, batchSize);
+        this.holdMillis = holdMillis;
+    }
+
+    /**
+     * Lease the next permits from the grants exported to a later build, e.g., after the agent reconnected.
+     *
+     * @param controllerGrants the grants of the controller
+     */
+    void use(ClusterGrants controllerGrants) {
+        this.grants = controllerGrants;
+    }
+
+    @Override
+    public long acquire(String server) throws InterruptedException {
+        servers.computeIfAbsent(server, ServerPermits::new).acquire();
+        return 0;
+    }
+
+    @Override
+    public void release(String server, long lease, long latencyMillis, int status) {
+        ServerPermits permits = servers.get(server);
+        if (permits != null) {
+            permits.release(latencyMillis, status);
+        }
+    }
+
+    /**
+     * The permits leased for one API server.
+     */
+    private final class ServerPermits {
+        private final String server;
+        /**
+         * The permits granted and not used yet.
+         */
+        private int held;
+        /**
+         * The permits used by a request that completed, not given back yet.
+         */
+        private int answered;
+        private int throttled;
+        private long maxLatencyMillis;
+        private long lastUsed;
+        private boolean asking;
+        private boolean flushScheduled;
+
+        ServerPermits(String server) {
+            this.server = server;
+        }
+
+        void acquire() throws InterruptedException {
+            while (true) {
+                synchronized (this) {
+                    if (held > 0) {
+                        held--;
+                        lastUsed = System.currentTimeMillis();
+                        return;
+                    }
+                    if (asking) {
+                        // another request is asking the controller
+                        wait(Constants.LIMITER_GRANT_RETRY_MILLIS);
+                        continue;
+                    }
+                    asking = true;
+                }
+                int granted = 0;
+                try {
+                    granted = grants.grant(server, batchSize);
+                } finally {
+                    synchronized (this) {
+                        asking = false;
+                        held += granted;
+                        notifyAll();
+                    }
+                }
+                if (granted == 0) {
+                    Thread.sleep(Constants.LIMITER_GRANT_RETRY_MILLIS);
+                }
+            }
+        }
+
+        void release(long latencyMillis, int status) {
+            boolean batchDone;
+            synchronized (this) {
+                answered++;
+                if (status == TOO_MANY_REQUESTS) {
+                    throttled++;
+                }
+                maxLatencyMillis = Math.max(maxLatencyMillis, latencyMillis);
+                lastUsed = System.currentTimeMillis();
+                batchDone = answered >= batchSize;
+                if (!batchDone && !flushScheduled) {
+                    flushScheduled = true;
+                    scheduler.schedule(this::flushIdle, holdMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+            if (batchDone) {
+                flush(false);
+            }
+        }
+
+        private void flushIdle() {
+            synchronized (this) {
+                long remaining = lastUsed + holdMillis - System.currentTimeMillis();
+                if (remaining > 0) {
+                    scheduler.schedule(this::flushIdle, remaining, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                flushScheduled = false;
+            }
+            flush(true);
+        }
+
+        private void flush(boolean idle) {
+            int unused;
+            int completed;
+            int tooMany;
+            long latencyMillis;
+            synchronized (this) {
+                unused = idle ? held : 0;
+                held -= unused;
+                completed = answered;
+                tooMany = throttled;
+                latencyMillis = maxLatencyMillis;
+                answered = 0;
+                throttled = 0;
+                maxLatencyMillis = 0;
+            }
+            if (unused == 0 && completed == 0) {
+                return;
+            }
+            try {
+                grants.giveBack(server, unused, completed, tooMany, latencyMillis);
+            } catch (RuntimeException e) {
+                // the controller reclaims the permits of a closed channel
+                LOGGER.debug("Failed to give back the permits to call {}", server, e);
+            }
+        }
+    }
+}
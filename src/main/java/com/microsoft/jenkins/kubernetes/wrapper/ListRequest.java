@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+/**
+ * The parameters of a {@code LIST} or {@code WATCH} request on the resources of a kind in a namespace.
+ */
+final class ListRequest {
+    private String fieldSelector;
+    private String labelSelector;
+    private String continueToken;
+    private Integer limit;
+    private String resourceVersion;
+    private Integer timeoutSeconds;
+    private Boolean watch;
+    private Boolean allowWatchBookmarks;
+
+    String getFieldSelector() {
+        return fieldSelector;
+    }
+
+    ListRequest withFieldSelector(String selector) {
+        this.fieldSelector = selector;
+        return this;
+    }
+
+    String getLabelSelector() {
+        return labelSelector;
+    }
+
+    ListRequest withLabelSelector(String selector) {
+        this.labelSelector = selector;
+        return this;
+    }
+
+    String getContinueToken() {
+        return continueToken;
+    }
+
+    ListRequest withContinueToken(String token) {
+        this.continueToken = token;
+        return this;
+    }
+
+    Integer getLimit() {
+        return limit;
+    }
+
+    ListRequest withLimit(Integer pageSize) {
+        this.limit = pageSize;
+        return this;
+    }
+
+    String getResourceVersion() {
+        return resourceVersion;
+    }
+
+    ListRequest withResourceVersion(String version) {
+        this.resourceVersion = version;
+        return this;
+    }
+
+    Integer getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    ListRequest withTimeoutSeconds(Integer timeout) {
+        this.timeoutSeconds = timeout;
+        return this;
+    }
+
+    Boolean getWatch() {
+        return watch;
+    }
+
+    /**
+     * Turn the request into a watch, with bookmark events enabled.
+     *
+     * @return this request
+     */
+    ListRequest asWatch() {
+        this.watch = Boolean.TRUE;
+        this.allowWatchBookmarks = Boolean.TRUE;
+        return this;
+    }
+
+    Boolean getAllowWatchBookmarks() {
+        return allowWatchBookmarks;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import org.apache.commons.lang.StringUtils;
+import org.apache.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static com.microsoft.jenkins.kubernetes.wrapper.RolloutWaiter.stringField;
+
+/**
+ * Follows the objects of a kind in a namespace until a handler is done with them: lists the objects, then watches them
+ * from the resource version of the list. The objects are listed again when the watch times out or expires
+ * ({@code 410 Gone}), and after a failure to list or watch them, until the deadline.
+ * <p>
+ * The failures of the handler are not retried, but thrown to the caller of {@link #run(long)}.
+ */
+final class ListWatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ListWatcher.class);
+
+    private static final Type WATCH_TYPE = new TypeToken<Watch.Response<JsonObject>>() {
+    }.getType();
+
+    /**
+     * Builds the list and watch requests of the objects.
+     */
+    @FunctionalInterface
+    interface ListCall {
+        Call create(ListRequest request) throws ApiException;
+    }
+
+    /**
+     * Handles the objects followed.
+     */
+    interface Handler {
+        /**
+         * @return the request selecting the objects to follow, built again for each list and watch
+         */
+        ListRequest request();
+
+        /**
+         * @param objects all the objects listed
+         * @return whether the handler is done
+         */
+        boolean onList(List<JsonObject> objects);
+
+        /**
+         * @param type   the type of the event: {@code ADDED}, {@code MODIFIED}, {@code DELETED} or {@code BOOKMARK}
+         * @param object the object of the event
+         * @return whether the handler is done
+         */
+        boolean onEvent(String type, JsonObject object);
+    }
+
+    private final ApiClient client;
+    private final ListCall listCall;
+    private final Handler handler;
+    private final String description;
+    /**
+     * The client of the watches, which are held open by the server until their timeout.
+     */
+    private final OkHttpClient watchHttpClient;
+    private volatile boolean stopped;
+    private volatile Call active;
+
+    /**
+     * @param client      the client of the API server
+     * @param listCall    builds the list and watch requests
+     * @param handler     handles the objects
+     * @param description what is followed, for the logs
+     */
+    ListWatcher(ApiClient client, ListCall listCall, Handler handler, String description) {
+        this.client = client;
+        this.listCall = listCall;
+        this.handler = handler;
+        this.description = description;
+        this.watchHttpClient = client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
+    }
+
+    /**
+     * Follow the objects until the handler is done.
+     *
+     * @param deadline the time to give up at
+     * @return {@code true} if the handler is done, {@code false} if the deadline passed or it was stopped
+     * @throws InterruptedException if interrupted while waiting to try again
+     */
+    boolean run(long deadline) throws InterruptedException {
+        while (!stopped) {
+            try {
+                List<JsonObject> objects = new ArrayList<>();
+                String resourceVersion = list(objects);
+                if (handle(() -> handler.onList(objects))) {
+                    return true;
+                }
+                long remainingSeconds = TimeUnit.MILLISECONDS.toSeconds(deadline - System.currentTimeMillis());
+                if (remainingSeconds <= 0) {
+                    return false;
+                }
+                if (watch(resourceVersion,
+                        (int) Math.max(1, Math.min(Constants.ROLLOUT_WATCH_TIMEOUT_SECONDS, remainingSeconds)))) {
+                    return true;
+                }
+            } catch (HandlerFailure e) {
+                throw (RuntimeException) e.getCause();
+            } catch (ApiException | IOException | RuntimeException e) {
+                if (stopped) {
+                    return false;
+                }
+                LOGGER.debug("Failed to follow {}, trying again", description, e);
+                if (deadline - System.currentTimeMillis() <= Constants.ROLLOUT_RETRY_DELAY_MILLIS) {
+                    return false;
+                }
+                Thread.sleep(Constants.ROLLOUT_RETRY_DELAY_MILLIS);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stop following the objects, e.g., from another thread once the deadline passed.
+     */
+    void stop() {
+        stopped = true;
+        Call call = active;
+        if (call != null) {
+            call.cancel();
+        }
+    }
+
+    private String list(List<JsonObject> objects) throws ApiException {
+        String continueToken = null;
+        String resourceVersion;
+        do {
+            JsonObject page = client.<JsonObject>execute(listCall.create(handler.request()
+                    .withContinueToken(continueToken)
+                    .withLimit(Constants.PREFETCH_PAGE_SIZE)), JsonObject.class).getData();
+            JsonElement items = page.get("items");
+            if (items != null && items.isJsonArray()) {
+                for (JsonElement item : items.getAsJsonArray()) {
+                    if (item.isJsonObject()) {
+                        objects.add(item.getAsJsonObject());
+                    }
+                }
+            }
+            continueToken = stringField(page, "metadata", "continue");
+            resourceVersion = stringField(page, "metadata", "resourceVersion");
+        } while (StringUtils.isNotEmpty(continueToken));
+        return resourceVersion;
+    }
+
+    /**
+     * @return whether the handler is done, {@code false} if the watch ended and the objects are to be listed again
+     */
+    private boolean watch(String resourceVersion, int timeoutSeconds) throws ApiException, IOException {
+        Call call = watchHttpClient.newCall(listCall.create(handler.request()
+                .withResourceVersion(resourceVersion)
+                .withTimeoutSeconds(timeoutSeconds)
+                .asWatch()).request());
+        active = call;
+        if (stopped) {
+            return false;
+        }
+        try (Watch<JsonObject> watch = Watch.createWatch(client, call, WATCH_TYPE)) {
+            for (Watch.Response<JsonObject> event : watch) {
+                if (stopped) {
+                    return false;
+                }
+                if ("ERROR".equals(event.type)) {
+                    if (event.status != null && event.status.getCode() != null
+                            && event.status.getCode() == HttpStatus.SC_GONE) {
+                        // the resource version is too old, list again
+                        return false;
+                    }
+                    throw new IOException("Watch error: " + event.status);
+                }
+                if (event.object != null && handle(() -> handler.onEvent(event.type, event.object))) {
+                    return true;
+                }
+            }
+        } finally {
+            active = null;
+        }
+        return false;
+    }
+
+    private static boolean handle(BooleanSupplier call) {
+        try {
+            return call.getAsBoolean();
+        } catch (RuntimeException e) {
+            throw new HandlerFailure(e);
+        }
+    }
+
+    /**
+     * Carries a failure of the handler past the retries.
+     */
+    private static final class HandlerFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        HandlerFailure(RuntimeException cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import okhttp3.Call;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The live state of the resources of a deployment, fetched with one paginated {@code LIST} per kind and namespace
+ * before the resources are applied, instead of one {@code GET} per resource.
+ * <p>
+ * A group holding a single resource is listed with a {@code metadata.name} field selector. A group is given up if
+ * listing it fails, e.g., the credentials are allowed to get but not to list, or if the namespace holds more than
+ * {@link Constants#PREFETCH_MAX_OBJECTS} objects of the kind; its resources are then read one by one as before.
+ * Only the metadata of the objects is listed if the {@link ResourceManager#isMetadataOnly() manager} does not need
+ * more, and the first page is read from the watch cache of the API server if the manager
+ * {@link ResourceManager#isCachedReads() reads from it}.
+ */
+final class LiveStateSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiveStateSnapshot.class);
+
+    private final ApiClient client;
+    private final Map<String, Object> objects = new ConcurrentHashMap<>();
+    private final Set<String> coveredGroups = ConcurrentHashMap.newKeySet();
+
+    LiveStateSnapshot(ApiClient client) {
+        this.client = client;
+    }
+
+    /**
+     * The resources of the same kind in the same namespace.
+     */
+    static final class Group {
+        private final String key;
+        private final Class<?> type;
+        private final List<ResourceManager.ResourceUpdater<?>> updaters = new ArrayList<>();
+
+        Group(String key, Class<?> type) {
+            this.key = key;
+            this.type = type;
+        }
+
+        List<ResourceManager.ResourceUpdater<?>> getUpdaters() {
+            return updaters;
+        }
+    }
+
+    /**
+     * Group the updaters of the resources by kind and namespace.
+     *
+     * @param updaters the updaters of the resources to be applied
+     * @return the groups
+     */
+    static List<Group> group(List<ResourceManager.ResourceUpdater<?>> updaters) {
+        Map<String, Group> groups = new LinkedHashMap<>();
+        for (ResourceManager.ResourceUpdater<?> updater : updaters) {
+            String key = groupKey(updater.getKind(), updater.getNamespace());
+            groups.computeIfAbsent(key, k -> new Group(k, updater.get().getClass())).updaters.add(updater);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    /**
+     * List the live objects of the group.
+     *
+     * @param group the group to be listed
+     */
+    void fetch(Group group) {
+        ResourceManager.ResourceUpdater<?> lister = group.updaters.get(0);
+        String fieldSelector = group.updaters.size() == 1 ? "metadata.name=" + lister.getName() : null;
+        boolean metadataOnly = lister.getManager().isMetadataOnly();
+        boolean cachedReads = lister.getManager().isCachedReads();
+        Map<String, Object> fetched = new LinkedHashMap<>();
+        String continueToken = null;
+        try {
+            do {
+                Call call = lister.listCall(new ListRequest()
+                        .withFieldSelector(fieldSelector)
+                        .withContinueToken(continueToken)
+                        // the watch cache can't serve the next pages
+                        .withResourceVersion(cachedReads && continueToken == null ? "0" : null)
+                        .withLimit(Constants.PREFETCH_PAGE_SIZE));
+                JsonObject page = metadataOnly
+                        ? PartialObjectMetadata.list(client, call)
+                        : client.<JsonObject>execute(call, JsonObject.class).getData();
+                if (page.has("items") && page.get("items").isJsonArray()) {
+                    for (JsonElement item : page.getAsJsonArray("items")) {
+                        Object live = metadataOnly
+                                ? PartialObjectMetadata.decode(client, item, group.type)
+                                : client.getJSON().getGson().fromJson(item, group.type);
+                        V1ObjectMeta metadata = ResourceUpdaterMap.getMetadata(live);
+                        if (metadata != null && metadata.getName() != null) {
+                            fetched.put(metadata.getName(), live);
+                        }
+                    }
+                }
+                if (fetched.size() > Constants.PREFETCH_MAX_OBJECTS) {
+                    LOGGER.debug("Too many objects in {}, they will be read one by one", group.key);
+                    return;
+                }
+                continueToken = continueToken(page);
+            } while (continueToken != null);
+        } catch (ApiException | RuntimeException e) {
+            LOGGER.debug("Failed to list " + group.key + ", the objects will be read one by one", e);
+            return;
+        }
+
+        for (Map.Entry<String, Object> entry : fetched.entrySet()) {
+            objects.put(objectKey(group.key, entry.getKey()), entry.getValue());
+        }
+        coveredGroups.add(group.key);
+    }
+
+    /**
+     * Whether the live state of the resource handled by the updater is known.
+     *
+     * @param updater the updater of the resource
+     * @return {@code true} if the group of the resource was listed
+     */
+    boolean covers(ResourceManager.ResourceUpdater<?> updater) {
+        return coveredGroups.contains(groupKey(updater.getKind(), updater.getNamespace()));
+    }
+
+    /**
+     * Get the live object of the resource handled by the updater.
+     *
+     * @param updater the updater of the resource, whose group is {@link #covers(ResourceManager.ResourceUpdater)
+     *                covered}
+     * @return the live object, or {@code null} if it does not exist
+     */
+    Object get(ResourceManager.ResourceUpdater<?> updater) {
+        return objects.get(objectKey(groupKey(updater.getKind(), updater.getNamespace()), updater.getName()));
+    }
+
+    private static String continueToken(JsonObject page) {
+        JsonElement metadata = page.get("metadata");
+        if (metadata == null || !metadata.isJsonObject()) {
+            return null;
+        }
+        JsonElement token = metadata.getAsJsonObject().get("continue");
+        if (token == null || !token.isJsonPrimitive() || token.getAsString().isEmpty()) {
+            return null;
+        }
+        return token.getAsString();
+    }
+
+    private static String groupKey(String kind, String namespace) {
+        return kind + '/' + namespace;
+    }
+
+    private static String objectKey(String groupKey, String name) {
+        return groupKey + '/' + name;
+    }
+}
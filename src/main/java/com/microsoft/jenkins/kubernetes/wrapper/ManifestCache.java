@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import com.microsoft.jenkins.kubernetes.util.KubernetesJsonUtils;
+import hudson.util.VariableResolver;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubesphere.jenkins.kubernetes.generated.KubernetesModelIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A content-addressed cache of the resources decoded from the configuration files, shared by the builds running in
+ * this JVM, so that a promotion pipeline deploying the same files with the same variables to several environments
+ * only decodes them once.
+ * <p>
+ * The key is the hash of the file content and of the values of the variables the file references. The resources are
+ * stored as gzipped JSON, and decoded again on every hit, so that each build gets its own copies. The entries are
+ * kept in memory up to {@link Constants#MANIFEST_CACHE_MAX_BYTES_PROPERTY} bytes, and, if
+ * {@link Constants#MANIFEST_CACHE_DIR_PROPERTY} is set, on disk up to
+ * {@link Constants#MANIFEST_CACHE_MAX_DISK_BYTES_PROPERTY} bytes, the least recently used entries being evicted first.
+ * The files holding Secrets are not written to disk.
+ * <p>
+ * Only the model classes of the Kubernetes kinds are decoded, so that an entry written to the cache directory by
+ * anything else than this cache can't get another class loaded and populated.
+ */
+final class ManifestCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ManifestCache.class);
+
+    /**
+     * Changed when the stored form changes, so that the entries written by an older version are not read.
+     */
+    private static final String FORMAT = "1";
+
+    private static final String FILE_SUFFIX = ".json.gz";
+
+    private static final ManifestCache INSTANCE = new ManifestCache();
+
+    /**
+     * The names of the classes the cached resources can be decoded to.
+     */
+    private static final Set<String> MODEL_CLASSES = modelClasses();
+
+    private final Cache<String, byte[]> memory;
+    private final File directory;
+    private final long maxDiskBytes;
+
+    private ManifestCache() {
+        this(directory(System.getProperty(Constants.MANIFEST_CACHE_DIR_PROPERTY)),
+                Long.getLong(Constants.MANIFEST_CACHE_MAX_BYTES_PROPERTY, Constants.DEFAULT_MANIFEST_CACHE_MAX_BYTES),
+                Long.getLong(Constants.MANIFEST_CACHE_MAX_DISK_BYTES_PROPERTY,
+                        Constants.DEFAULT_MANIFEST_CACHE_MAX_DISK_BYTES));
+    }
+
+    @VisibleForTesting
+    ManifestCache(File directory, long maxBytes, long maxDiskBytes) {
+        this.memory = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, byte[] value) -> value.length)
+                .build();
+        this.directory = directory;
+        this.maxDiskBytes = maxDiskBytes;
+    }
+
+    private static File directory(String dir) {
+        return dir == null || dir.isEmpty() ? null : new File(dir);
+    }
+
+    private static Set<String> modelClasses() {
+        Set<String> names = new HashSet<>(KubernetesModelIndex.getKinds().values());
+        for (Class<?> type : ResourceUpdaterMap.getUnmodifiableInstance().keySet()) {
+            names.add(type.getName());
+        }
+        return names;
+    }
+
+    static ManifestCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Compute the key of a configuration file.
+     *
+     * @param contentHash the hash of the file content
+     * @param variables   the names of the variables the file references
+     * @param resolver    the variable resolver, or {@code null} if the variables are not replaced
+     * @return the key
+     */
+    static String key(String contentHash, Set<String> variables, VariableResolver<String> resolver) {
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(FORMAT, StandardCharsets.UTF_8).putByte((byte) 0)
+                .putString(contentHash, StandardCharsets.UTF_8).putByte((byte) 0);
+        if (resolver != null) {
+            for (String name : new TreeSet<>(variables)) {
+                String value = resolver.resolve(name);
+                hasher.putString(name, StandardCharsets.UTF_8)
+                        .putByte(value == null ? (byte) 0 : (byte) 1)
+                        .putString(value == null ? "" : value, StandardCharsets.UTF_8)
+                        .putByte((byte) 0);
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Get the resources decoded from a configuration file.
+     *
+     * @param key the key of the file
+     * @return new copies of the resources, or {@code null} if they are not cached
+     */
+    List<Object> get(String key) {
+        byte[] stored = memory.getIfPresent(key);
+        if (stored == null) {
+            stored = readFile(key);
+            if (stored == null) {
+                return null;
+            }
+            memory.put(key, stored);
+        }
+        try {
+            return decode(stored);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Discarding the cached resources {}", key, e);
+            memory.invalidate(key);
+            deleteFile(key);
+            return null;
+        }
+    }
+
+    /**
+     * Cache the resources decoded from a configuration file.
+     *
+     * @param key       the key of the file
+     * @param resources the resources, which are not modified
+     */
+    void put(String key, List<Object> resources) {
+        byte[] stored;
+        try {
+            stored = encode(resources);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Failed to cache the resources {}", key, e);
+            return;
+        }
+        memory.put(key, stored);
+        boolean holdsSecret = resources.stream().anyMatch(resource -> resource instanceof V1Secret);
+        if (directory != null && !holdsSecret) {
+            writeFile(key, stored);
+        }
+    }
+
+    private static byte[] encode(List<Object> resources) throws IOException {
+        Gson gson = KubernetesJsonUtils.getKubernetesJson().getGson();
+        JsonArray array = new JsonArray();
+        for (Object resource : resources) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("type", resource.getClass().getName());
+            entry.add("object", gson.toJsonTree(resource));
+            array.add(entry);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            gson.toJson(array, writer);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<Object> decode(byte[] stored) throws IOException {
+        Gson gson = KubernetesJsonUtils.getKubernetesJson().getGson();
+        JsonArray array;
+        try (InputStreamReader reader = new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(stored)), StandardCharsets.UTF_8)) {
+            array = new JsonParser().parse(reader).getAsJsonArray();
+        }
+        List<Object> resources = new ArrayList<>(array.size());
+        for (JsonElement element : array) {
+            JsonObject entry = element.getAsJsonObject();
+            String name = entry.get("type").getAsString();
+            if (!MODEL_CLASSES.contains(name)) {
+                throw new IOException("Not a Kubernetes model class: " + name);
+            }
+            Class<?> type;
+            try {
+                type = Class.forName(name, true, ManifestCache.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+            resources.add(gson.fromJson(entry.get("object"), type));
+        }
+        return resources;
+    }
+
+    private byte[] readFile(String key) {
+        if (directory == null) {
+            return null;
+        }
+        File file = new File(directory, key + FILE_SUFFIX);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            byte[] stored = Files.readAllBytes(file.toPath());
+            // the last modified time orders the entries for the eviction
+            if (!file.setLastModified(System.currentTimeMillis())) {
+                LOGGER.debug("Failed to touch {}", file);
+            }
+            return stored;
+        } catch (IOException e) {
+            LOGGER.debug("Failed to read {}", file, e);
+            return null;
+        }
+    }
+
+    private void deleteFile(String key) {
+        if (directory == null) {
+            return;
+        }
+        File file = new File(directory, key + FILE_SUFFIX);
+        if (file.isFile() && !file.delete()) {
+            LOGGER.debug("Failed to delete {}", file);
+        }
+    }
+
+    private synchronized void writeFile(String key, byte[] stored) {
+        try {
+            Files.createDirectories(directory.toPath());
+            File temp = File.createTempFile(key, ".tmp", directory);
+            Files.write(temp.toPath(), stored);
+            Files.move(temp.toPath(), new File(directory, key + FILE_SUFFIX).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            evict();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to write the cached resources {}", key, e);
+        }
+    }
+
+    private void evict() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+        if (files == null) {
+            return;
+        }
+        long total = 0;
+        for (File file : files) {
+            total += file.length();
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (total <= maxDiskBytes) {
+                return;
+            }
+            long size = file.length();
+            if (file.delete()) {
+                total -= size;
+            }
+        }
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.microsoft.jenkins.kubernetes.util.KubernetesJsonUtils;
+import io.kubesphere.jenkins.kubernetes.generated.KubernetesModelIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionEndEvent;
+import org.yaml.snakeyaml.events.DocumentEndEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decodes the Kubernetes manifests into the model objects.
+ * <p>
+ * The YAML documents are read from the SnakeYAML event stream into a JSON tree, which is bound to the model class
+ * with the same Gson adapters as the API responses, so a document is parsed once, without building the SnakeYAML
+ * objects and dumping them again. A document is buffered as a whole because its {@code apiVersion} and {@code kind}
+ * may come after the other fields. The {@code .json} manifests skip the YAML parser and are read by Gson directly.
+ * <p>
+ * The model class of a document is looked up by its {@code apiVersion} and {@code kind} in the generated
+ * {@link KubernetesModelIndex}, and only loaded the first time a manifest uses it. If there is no model class for the
+ * API group and version, the one for the version alone is used, e.g., {@code apps/v1} {@code Deployment} is decoded as
+ * a {@code V1Deployment}.
+ */
+final class ManifestDecoder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ManifestDecoder.class);
+
+    private static final Map<String, Optional<Class<?>>> MODEL_CLASSES = new ConcurrentHashMap<>();
+
+    private static final Resolver RESOLVER = new Resolver();
+    private static final SafeConstructor CONSTRUCTOR = new SafeConstructor();
+    private static final SafeConstructor.ConstructYamlBool BOOL = CONSTRUCTOR.new ConstructYamlBool();
+    private static final SafeConstructor.ConstructYamlInt INT = CONSTRUCTOR.new ConstructYamlInt();
+    private static final SafeConstructor.ConstructYamlFloat FLOAT = CONSTRUCTOR.new ConstructYamlFloat();
+
+    private static final String MERGE_KEY = "<<";
+
+    private ManifestDecoder() {
+        // hide constructor
+    }
+
+    /**
+     * Decode all the documents of a YAML manifest.
+     *
+     * @param reader the manifest
+     * @return the model objects
+     * @throws IOException if the manifest is not valid YAML, or a document is not a known Kubernetes kind
+     */
+    static List<Object> loadAll(Reader reader) throws IOException {
+        List<Object> resources = new ArrayList<>();
+        TreeBuilder builder = new TreeBuilder();
+        try {
+            for (Event event : new Yaml().parse(reader)) {
+                JsonElement document = builder.accept(event);
+                if (document != null) {
+                    bind(document, resources);
+                }
+            }
+        } catch (YAMLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        return resources;
+    }
+
+    /**
+     * Decode all the documents of a JSON manifest, i.e., the top-level JSON values one after another.
+     *
+     * @param reader the manifest
+     * @return the model objects
+     * @throws IOException if the manifest is not valid JSON, or a document is not a known Kubernetes kind
+     */
+    static List<Object> loadAllJson(Reader reader) throws IOException {
+        List<Object> resources = new ArrayList<>();
+        JsonReader json = new JsonReader(reader);
+        json.setLenient(true);
+        JsonParser parser = new JsonParser();
+        try {
+            while (json.peek() != JsonToken.END_DOCUMENT) {
+                bind(parser.parse(json), resources);
+            }
+        } catch (JsonParseException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        return resources;
+    }
+
+    /**
+     * Decode the documents of a manifest, choosing the parser by the file name.
+     *
+     * @param fileName the name of the manifest file
+     * @param reader   the manifest
+     * @return the model objects
+     * @throws IOException if the manifest is not valid, or a document is not a known Kubernetes kind
+     */
+    static List<Object> loadAll(String fileName, Reader reader) throws IOException {
+        if (fileName.toLowerCase(Locale.ROOT).endsWith(".json")) {
+            return loadAllJson(reader);
+        }
+        return loadAll(reader);
+    }
+
+    private static void bind(JsonElement document, List<Object> resources) throws IOException {
+        if (document.isJsonNull()) {
+            return;
+        }
+        if (!document.isJsonObject()) {
+            LOGGER.error("Unexpected document while loading yaml: {}", document);
+            return;
+        }
+        JsonObject object = document.getAsJsonObject();
+        Class<?> type = modelClass(stringValue(object.get("apiVersion")), stringValue(object.get("kind")));
+        Gson gson = KubernetesJsonUtils.getKubernetesJson().getGson();
+        try {
+            resources.add(gson.fromJson(object, type));
+        } catch (JsonParseException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static String stringValue(JsonElement element) {
+        if (element instanceof JsonPrimitive && ((JsonPrimitive) element).isString()) {
+            return element.getAsString();
+        }
+        return null;
+    }
+
+    /**
+     * Get the model class of a kind.
+     *
+     * @param apiVersion the {@code apiVersion} of the document
+     * @param kind       the {@code kind} of the document
+     * @return the model class
+     * @throws IOException if the {@code apiVersion} or {@code kind} is missing, or there is no model class for them
+     */
+    static Class<?> modelClass(Object apiVersion, Object kind) throws IOException {
+        if (!(kind instanceof String)) {
+            throw new IOException("Missing kind in YAML file!");
+        }
+        if (!(apiVersion instanceof String)) {
+            throw new IOException("Missing apiVersion in YAML file!");
+        }
+        String key = apiVersion + "/" + kind;
+        Optional<Class<?>> type = MODEL_CLASSES.computeIfAbsent(key, ManifestDecoder::resolve);
+        if (!type.isPresent()) {
+            throw new IOException("Unknown apiVersionKind: " + key);
+        }
+        return type.get();
+    }
+
+    private static Optional<Class<?>> resolve(String key) {
+        Map<String, String> kinds = KubernetesModelIndex.getKinds();
+        String className = kinds.get(key);
+        if (className == null) {
+            // e.g., apps/v1/Deployment -> v1/Deployment
+            String[] parts = key.split("/");
+            if (parts.length == 3) {
+                className = kinds.get(parts[1] + "/" + parts[2]);
+            }
+        }
+        if (className == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Class.forName(className, true, ManifestDecoder.class.getClassLoader()));
+        } catch (ClassNotFoundException e) {
+            LOGGER.error("Failed to load the model class {}", className, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Converts a scalar to the JSON value of the type the YAML resolver gives it, as SnakeYAML would construct it.
+     */
+    private static JsonElement scalar(ScalarEvent event) {
+        String value = event.getValue();
+        Tag tag;
+        if (event.getTag() == null || "!".equals(event.getTag())) {
+            tag = RESOLVER.resolve(NodeId.scalar, value, event.getImplicit().canOmitTagInPlainScalar());
+        } else {
+            tag = new Tag(event.getTag());
+        }
+        if (Tag.NULL.equals(tag)) {
+            return JsonNull.INSTANCE;
+        }
+        ScalarNode node = new ScalarNode(tag, value, null, null, DumperOptions.ScalarStyle.PLAIN);
+        if (Tag.BOOL.equals(tag)) {
+            return new JsonPrimitive((Boolean) BOOL.construct(node));
+        }
+        if (Tag.INT.equals(tag)) {
+            return new JsonPrimitive(new YamlNumber(value, (Number) INT.construct(node)));
+        }
+        if (Tag.FLOAT.equals(tag)) {
+            return new JsonPrimitive(new YamlNumber(value, (Number) FLOAT.construct(node)));
+        }
+        return new JsonPrimitive(value);
+    }
+
+    /**
+     * Builds the JSON tree of each document from the YAML events.
+     */
+    private static final class TreeBuilder {
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private final Map<String, JsonElement> anchors = new HashMap<>();
+        private JsonElement root;
+
+        /**
+         * @param event the next YAML event
+         * @return the document if the event ends one, or {@code null}
+         * @throws IOException if the document can't be represented in JSON
+         */
+        JsonElement accept(Event event) throws IOException {
+            if (event instanceof DocumentStartEvent) {
+                frames.clear();
+                anchors.clear();
+                root = null;
+            } else if (event instanceof DocumentEndEvent) {
+                return root == null ? JsonNull.INSTANCE : root;
+            } else if (event instanceof MappingStartEvent) {
+                JsonObject object = new JsonObject();
+                add(object, ((NodeEvent) event).getAnchor());
+                frames.push(new Frame(object));
+            } else if (event instanceof SequenceStartEvent) {
+                JsonArray array = new JsonArray();
+                add(array, ((NodeEvent) event).getAnchor());
+                frames.push(new Frame(array));
+            } else if (event instanceof CollectionEndEvent) {
+                Frame frame = frames.pop();
+                if (event instanceof MappingEndEvent) {
+                    frame.merge();
+                }
+            } else if (event instanceof ScalarEvent) {
+                add(scalar((ScalarEvent) event), ((NodeEvent) event).getAnchor());
+            } else if (event instanceof AliasEvent) {
+                String anchor = ((AliasEvent) event).getAnchor();
+                JsonElement element = anchors.get(anchor);
+                if (element == null) {
+                    throw new IOException("Undefined alias in YAML file: " + anchor);
+                }
+                add(element.deepCopy(), null);
+            }
+            return null;
+        }
+
+        private void add(JsonElement element, String anchor) throws IOException {
+            if (anchor != null) {
+                anchors.put(anchor, element);
+            }
+            Frame frame = frames.peek();
+            if (frame == null) {
+                root = element;
+            } else {
+                frame.add(element);
+            }
+        }
+    }
+
+    /**
+     * A mapping or sequence being built.
+     */
+    private static final class Frame {
+        private final JsonElement container;
+        private String key;
+        private final List<JsonElement> merges = new ArrayList<>();
+
+        Frame(JsonElement container) {
+            this.container = container;
+        }
+
+        void add(JsonElement element) throws IOException {
+            if (container.isJsonArray()) {
+                container.getAsJsonArray().add(element);
+            } else if (key == null) {
+                if (!element.isJsonPrimitive()) {
+                    throw new IOException("Unsupported mapping key in YAML file: " + element);
+                }
+                key = element.getAsString();
+            } else {
+                if (MERGE_KEY.equals(key)) {
+                    merges.add(element);
+                } else {
+                    container.getAsJsonObject().add(key, element);
+                }
+                key = null;
+            }
+        }
+
+        /**
+         * Adds the entries of the {@code <<} merge keys that are not defined in the mapping itself.
+         */
+        void merge() {
+            JsonObject object = container.getAsJsonObject();
+            for (JsonElement merge : merges) {
+                List<JsonElement> sources = new ArrayList<>();
+                if (merge.isJsonArray()) {
+                    merge.getAsJsonArray().forEach(sources::add);
+                } else {
+                    sources.add(merge);
+                }
+                for (JsonElement source : sources) {
+                    if (!source.isJsonObject()) {
+                        continue;
+                    }
+                    for (Map.Entry<String, JsonElement> entry : source.getAsJsonObject().entrySet()) {
+                        if (!object.has(entry.getKey())) {
+                            object.add(entry.getKey(), entry.getValue().deepCopy());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A YAML number, keeping its original text for the string fields, e.g., the octal {@code 0644} is bound as
+     * {@code 420} to a number field, but as {@code "0644"} to a string field.
+     */
+    private static final class YamlNumber extends Number {
+        private static final long serialVersionUID = 1L;
+
+        private final String text;
+        private final Number value;
+
+        YamlNumber(String text, Number value) {
+            this.text = text;
+            this.value = value;
+        }
+
+        @Override
+        public int intValue() {
+            return value.intValue();
+        }
+
+        @Override
+        public long longValue() {
+            return value.longValue();
+        }
+
+        @Override
+        public float floatValue() {
+            return value.floatValue();
+        }
+
+        @Override
+        public double doubleValue() {
+            return value.doubleValue();
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Serializes the writes of the same object by the deployments running in this JVM, so that two builds deploying the
+ * same object at the same time don't race between reading and writing it.
+ * <p>
+ * The objects are keyed by cluster, kind, namespace and name, and spread over {@link Constants#OBJECT_LOCK_STRIPES}
+ * locks. The deployments running on other nodes are not serialized: their writes may still conflict, and are then
+ * retried by the {@link ResourceManager.ResourceUpdater}. The waits for the locks and the conflicts are counted by
+ * object, so that the objects deployed by many builds at once can be found.
+ */
+final class ObjectLocks {
+    private static final ObjectLocks INSTANCE = new ObjectLocks(Constants.OBJECT_LOCK_STRIPES);
+
+    private final Striped<Lock> locks;
+    private final Cache<String, Contention> contention = CacheBuilder.newBuilder()
+            .maximumSize(Constants.OBJECT_LOCK_MAX_TRACKED)
+            .build();
+
+    ObjectLocks(int stripes) {
+        this.locks = Striped.lazyWeakLock(stripes);
+    }
+
+    static ObjectLocks getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Wait for the lock of an object.
+     *
+     * @param cluster the URL of the API server
+     * @param object  the kind, namespace and name of the object
+     * @return the lock held, to be closed once the object is written
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Held lock(String cluster, String object) throws InterruptedException {
+        Lock lock = locks.get(cluster + ' ' + object);
+        if (lock.tryLock()) {
+            return new Held(lock, false, 0);
+        }
+        long start = System.nanoTime();
+        lock.lockInterruptibly();
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Contention stats = contention(cluster, object);
+        stats.waits.incrementAndGet();
+        stats.waitMillis.addAndGet(waitMillis);
+        return new Held(lock, true, waitMillis);
+    }
+
+    /**
+     * Count a write of an object that conflicted with a concurrent write.
+     *
+     * @param cluster the URL of the API server
+     * @param object  the kind, namespace and name of the object
+     */
+    void recordConflict(String cluster, String object) {
+        contention(cluster, object).conflicts.incrementAndGet();
+    }
+
+    /**
+     * @param limit the maximum number of objects
+     * @return the objects with the most waits and conflicts, the most contended first
+     */
+    List<Contention> hottest(int limit) {
+        List<Contention> objects = new ArrayList<>(contention.asMap().values());
+        objects.sort(Comparator.comparingLong(Contention::getCount).reversed());
+        return objects.subList(0, Math.min(limit, objects.size()));
+    }
+
+    private Contention contention(String cluster, String object) {
+        try {
+            return contention.get(cluster + ' ' + object, () -> new Contention(object));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A lock held on an object.
+     */
+    static final class Held implements AutoCloseable {
+        private final Lock lock;
+        private final boolean contended;
+        private final long waitMillis;
+
+        private Held(Lock lock, boolean contended, long waitMillis) {
+            this.lock = lock;
+            this.contended = contended;
+            this.waitMillis = waitMillis;
+        }
+
+        /**
+         * @return whether the lock was held by another deployment when it was asked for
+         */
+        boolean isContended() {
+            return contended;
+        }
+
+        long getWaitMillis() {
+            return waitMillis;
+        }
+
+        @Override
+        public void close() {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The contention of an object.
+     */
+    static final class Contention {
+        private final String object;
+        private final AtomicLong waits = new AtomicLong();
+        private final AtomicLong waitMillis = new AtomicLong();
+        private final AtomicLong conflicts = new AtomicLong();
+
+        private Contention(String object) {
+            this.object = object;
+        }
+
+        String getObject() {
+            return object;
+        }
+
+        long getWaits() {
+            return waits.get();
+        }
+
+        long getWaitMillis() {
+            return waitMillis.get();
+        }
+
+        long getConflicts() {
+            return conflicts.get();
+        }
+
+        long getCount() {
+            return getWaits() + getConflicts();
+        }
+
+        @Override
+        public String toString() {
+            return Messages.KubernetesClientWrapper_contention(object, getWaits(), getWaitMillis(), getConflicts());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import okhttp3.Call;
+import okhttp3.Request;
+
+/**
+ * Reads the live objects as {@code PartialObjectMetadata}, i.e., only their metadata, with the list calls built by
+ * the generated API classes.
+ * <p>
+ * The request is rebuilt with an {@code Accept} header asking for a {@code PartialObjectMetadataList}, falling back to
+ * the full list if the API server is older than Kubernetes 1.15. The items are decoded into the model class of the
+ * resource with only the metadata set, whichever of the two the API server returned.
+ */
+final class PartialObjectMetadata {
+    static final String ACCEPT = "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1, application/json";
+
+    private PartialObjectMetadata() {
+        // hide constructor
+    }
+
+    /**
+     * Execute a list call, only reading the metadata of the objects.
+     *
+     * @param client the client that built the call
+     * @param call   the {@code LIST} call
+     * @return the list
+     * @throws ApiException if the API server rejects the request or it cannot be sent
+     */
+    static JsonObject list(ApiClient client, Call call) throws ApiException {
+        Request request = call.request().newBuilder().header("Accept", ACCEPT).build();
+        return client.<JsonObject>execute(client.getHttpClient().newCall(request), JsonObject.class).getData();
+    }
+
+    /**
+     * Decode an item of a list read by {@link #list(ApiClient, Call)}.
+     *
+     * @param client the client
+     * @param item   the item
+     * @param type   the model class of the resource
+     * @return the object of the model class, with only the metadata set
+     */
+    static Object decode(ApiClient client, JsonElement item, Class<?> type) {
+        JsonObject partial = new JsonObject();
+        if (item.isJsonObject() && item.getAsJsonObject().has("metadata")) {
+            partial.add("metadata", item.getAsJsonObject().get("metadata"));
+        }
+        return client.getJSON().getGson().fromJson(partial, type);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs the operations on a batch of resources through a bounded pool of worker threads.
+ * <p>
+ * Every resource writes to its own console buffer, which is flushed to the build log in submission order once the
+ * operation on the resource is done, so the output of different resources never interleaves. If any of the
+ * operations fails, the ones not yet started are cancelled, the ones already started are waited for so that their
+ * output is not lost, and the failure of the earliest resource in submission order is rethrown, no matter which
+ * operation finished first.
+ */
+final class ResourceDispatcher implements Closeable {
+    private final int parallelism;
+    private final PrintStream logger;
+    private ExecutorService executor;
+
+    ResourceDispatcher(int parallelism, PrintStream logger) {
+        this.parallelism = Math.max(1, parallelism);
+        this.logger = logger;
+    }
+
+    int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Handle all the given resources and return when all of them are done.
+     *
+     * @param resources the resources to be handled, in the order of the console output
+     * @param handler   the operation applied to each of the resources, with the console logger to write to
+     * @throws InterruptedException if the calling thread is interrupted while waiting for the workers
+     */
+    void dispatch(List<?> resources, BiConsumer<Object, PrintStream> handler) throws InterruptedException {
+        if (resources.isEmpty()) {
+            return;
+        }
+        if (parallelism == 1 || resources.size() == 1) {
+            for (Object resource : resources) {
+                handler.accept(resource, logger);
+            }
+            return;
+        }
+
+        ExecutorService pool = getExecutor();
+        List<Future<?>> futures = new ArrayList<>(resources.size());
+        List<ByteArrayOutputStream> buffers = new ArrayList<>(resources.size());
+        // claimed by the worker starting the operation, or by the caller cancelling it before it starts
+        List<AtomicBoolean> claims = new ArrayList<>(resources.size());
+        for (final Object resource : resources) {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            final AtomicBoolean claim = new AtomicBoolean();
+            buffers.add(buffer);
+            claims.add(claim);
+            futures.add(pool.submit(() -> {
+                if (!claim.compareAndSet(false, true)) {
+                    return null;
+                }
+                try (PrintStream out = new PrintStream(buffer, true, Constants.DEFAULT_CHARSET)) {
+                    handler.accept(resource, out);
+                }
+                return null;
+            }));
+        }
+
+        RuntimeException failure = null;
+        try {
+            for (int i = 0; i < futures.size(); ++i) {
+                Future<?> future = futures.get(i);
+                if (failure != null && claims.get(i).compareAndSet(false, true)) {
+                    // never started, nothing to report
+                    future.cancel(false);
+                    continue;
+                }
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = unwrap(e.getCause());
+                    }
+                } finally {
+                    flush(buffers.get(i));
+                }
+            }
+        } catch (InterruptedException e) {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            throw e;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+                    .setNameFormat("kubernetes-cd-apply-%d")
+                    .setDaemon(true)
+                    .build());
+        }
+        return executor;
+    }
+
+    private void flush(ByteArrayOutputStream buffer) {
+        if (logger != null && buffer.size() > 0) {
+            logger.print(new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+            logger.flush();
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new RuntimeException(cause);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
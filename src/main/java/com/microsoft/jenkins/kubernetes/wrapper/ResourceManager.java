@@ -6,11 +6,17 @@
 
 package com.microsoft.jenkins.kubernetes.wrapper;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Status;
+import okhttp3.Call;
 import org.apache.commons.lang.StringUtils;
 import org.apache.http.HttpStatus;
 import org.slf4j.Logger;
@@ -18,8 +24,6 @@ import org.slf4j.LoggerFactory;
 
 
 import java.io.PrintStream;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -30,9 +34,18 @@ public abstract class ResourceManager {
      * If true, then the output of api call is pretty printed.
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(ResourceManager.class);
-    private final String pretty;
+    private String pretty;
+    private final ApiClient apiClient;
+    private boolean serverSideApply;
+    private boolean skipUnchanged;
+    private boolean compactTransport;
+    private boolean cachedReads;
+    private String fieldManager = Constants.FIELD_MANAGER;
+    private String deletePropagation;
 
-    ResourceManager(boolean pretty) {
+    ResourceManager(ApiClient client, boolean pretty) {
+        checkNotNull(client);
+        this.apiClient = client;
         this.pretty = String.valueOf(pretty);
     }
 
@@ -40,25 +53,206 @@ public abstract class ResourceManager {
         return pretty;
     }
 
+    public ApiClient getApiClient() {
+        return apiClient;
+    }
+
+    public boolean isServerSideApply() {
+        return serverSideApply;
+    }
+
+    /**
+     * Apply the resources with a single server-side apply {@code PATCH} request, instead of reading the live object
+     * and replacing it. The API server merges the fields and takes care of the defaulted and immutable ones, so the
+     * client-side recovery of the live values is not needed. Conflicts with other field managers are forced.
+     *
+     * @param enabled whether to use server-side apply
+     * @return this manager
+     */
+    public ResourceManager withServerSideApply(boolean enabled) {
+        this.serverSideApply = enabled;
+        return this;
+    }
+
+    public boolean isSkipUnchanged() {
+        return skipUnchanged;
+    }
+
+    /**
+     * Skip the write of the resources that were last written with the same configuration, as recorded by the
+     * {@link Constants#DESIRED_STATE_HASH_ANNOTATION} annotation.
+     *
+     * @param enabled whether to skip the unchanged resources
+     * @return this manager
+     */
+    public ResourceManager withSkipUnchanged(boolean enabled) {
+        this.skipUnchanged = enabled;
+        return this;
+    }
+
+    public boolean isCompactTransport() {
+        return compactTransport;
+    }
+
+    /**
+     * Reduce the size of the responses of the API server: they are not pretty printed, and, when the resources are
+     * applied server-side and the unchanged ones skipped, only the metadata of the live objects is read, which holds
+     * the {@link Constants#DESIRED_STATE_HASH_ANNOTATION} annotation.
+     *
+     * @param enabled whether to use the compact transport
+     * @return this manager
+     */
+    public ResourceManager withCompactTransport(boolean enabled) {
+        this.compactTransport = enabled;
+        if (enabled) {
+            this.pretty = String.valueOf(false);
+        }
+        return this;
+    }
+
+    public boolean isCachedReads() {
+        return cachedReads;
+    }
+
+    /**
+     * Read the live objects with {@code resourceVersion=0}, so that the API server answers from its watch cache
+     * instead of reading etcd. The objects may then be slightly out of date: if writing a resource conflicts with
+     * its live object, the object is read again from etcd and the write retried.
+     *
+     * @param enabled whether to read from the watch cache of the API server
+     * @return this manager
+     */
+    public ResourceManager withCachedReads(boolean enabled) {
+        this.cachedReads = enabled;
+        return this;
+    }
+
+    /**
+     * The live objects are only compared by their desired state hash, and not merged with the resources, when they
+     * are applied server-side and the unchanged ones skipped. The objects read in this mode only hold the metadata.
+     *
+     * @return whether to read only the metadata of the live objects
+     */
+    boolean isMetadataOnly() {
+        return compactTransport && serverSideApply && skipUnchanged;
+    }
+
+    /**
+     * Called when the write of a resource is skipped as it's unchanged.
+     *
+     * @param current the live resource
+     */
+    void notifyUnchanged(Object current) {
+    }
+
+    public String getFieldManager() {
+        return fieldManager;
+    }
+
+    public ResourceManager withFieldManager(String manager) {
+        checkNotNull(manager);
+        this.fieldManager = manager;
+        return this;
+    }
+
+    /**
+     * Set the propagation policy of the deletions: {@code Background}, {@code Foreground} to delete the dependents of
+     * an object before the object itself, or {@code Orphan} to keep them.
+     *
+     * @param policy the policy, or {@code null} to use the default policy of each kind
+     * @return this manager
+     */
+    public ResourceManager withDeletePropagation(String policy) {
+        this.deletePropagation = StringUtils.trimToNull(policy);
+        return this;
+    }
+
+    /**
+     * @param defaultOptions the options of the deletions of the kind
+     * @return the options of a deletion, with the propagation policy set on this manager if any
+     */
+    V1DeleteOptions deleteOptions(V1DeleteOptions defaultOptions) {
+        if (deletePropagation == null) {
+            return defaultOptions;
+        }
+        return new V1DeleteOptions().propagationPolicy(deletePropagation);
+    }
+
     protected abstract class ResourceUpdater<T> {
         private final T resource;
         private final V1ObjectMeta metadata;
+        private PrintStream consoleLogger;
+        private LiveStateSnapshot liveState;
+        private String informerCredential;
+        /**
+         * Whether the live object was not read from etcd just before the write, e.g., from a cache or the snapshot.
+         */
+        private boolean staleRead;
+        /**
+         * Whether a conflict of the write is retried, rather than reported.
+         */
+        private boolean retryConflict;
+        private int conflicts;
+        private T written;
 
         ResourceUpdater(T resource) {
             checkNotNull(resource);
             this.resource = resource;
-            V1ObjectMeta meta = null;
-            try {
-                Method method = resource.getClass().getMethod("getMetadata");
-                meta = (V1ObjectMeta) method.invoke(resource);
-            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-                consoleLogger.println(String.format("Fail to fetch meta data for %s", resource));
-            }
-            metadata = meta;
+            this.metadata = ResourceUpdaterMap.getMetadata(resource);
             checkState(StringUtils.isNotBlank(getName()),
                     Messages.KubernetesClientWrapper_noName(), getKind(), resource);
         }
 
+        /**
+         * The console logger of this updater. The resource managers are shared by all the resources of a deployment,
+         * which may be handled concurrently, so each updater can write to its own console.
+         *
+         * @return the console logger set on this updater, or the one of the resource manager if not set
+         */
+        PrintStream getConsoleLogger() {
+            if (consoleLogger != null) {
+                return consoleLogger;
+            }
+            return ResourceManager.this.getConsoleLogger();
+        }
+
+        ResourceUpdater<T> withConsoleLogger(PrintStream log) {
+            this.consoleLogger = log;
+            return this;
+        }
+
+        ResourceUpdater<T> withLiveState(LiveStateSnapshot snapshot) {
+            this.liveState = snapshot;
+            return this;
+        }
+
+        /**
+         * Read the live resource from the {@link InformerCache} when it's in sync.
+         *
+         * @param credential the fingerprint of the credentials used to reach the cluster, or {@code null} not to use
+         *                   the cache
+         * @return this updater
+         */
+        ResourceUpdater<T> withInformerCache(String credential) {
+            this.informerCredential = credential;
+            return this;
+        }
+
+        final ResourceManager getManager() {
+            return ResourceManager.this;
+        }
+
+        void handleApiExceptionExceptNotFound(ApiException e) {
+            reportApiException(e, true, getConsoleLogger());
+        }
+
+        void handleApiException(ApiException e) {
+            if (retryConflict && e.getCode() == HttpStatus.SC_CONFLICT) {
+                throw new WriteConflict(e);
+            }
+            reportApiException(e, false, getConsoleLogger());
+        }
+
         final String getNamespace() {
             if (metadata != null) {
                 if (metadata.getNamespace() != null) {
@@ -85,28 +279,110 @@ public abstract class ResourceManager {
             return resource.getClass().getSimpleName();
         }
 
+        /**
+         * @return the kind, namespace and name of the object, whatever the API version of the resource
+         */
+        final String getObjectKey() {
+            return ResourcePlanner.kindOf(resource, null) + '/' + getNamespace() + '/' + getName();
+        }
+
+        /**
+         * @return the number of writes of the resource that conflicted with a concurrent write
+         */
+        final int getConflicts() {
+            return conflicts;
+        }
+
+        /**
+         * @return the resource returned by the API server when it was last created or applied, or {@code null}
+         */
+        final T getWritten() {
+            return written;
+        }
+
         /**
          * Explicitly apply the configuration if a resource with the same name exists in the namespace in the cluster,
          * or create one if not.
+         * <p>
+         * If unchanged resources are skipped, the hash of the configuration is recorded on the resource, and nothing
+         * is written if the live resource was last written with the same hash.
+         * <p>
+         * If the write conflicts with a concurrent write, e.g., by another build deploying the same resource, the live
+         * resource is read again and merged with the configuration, up to {@link Constants#CONFLICT_RETRIES} times.
+         *
+         * @return what happened to the resource
          */
-        final void createOrApply() {
-            T original = getCurrentResource();
-            T current = get();
+        final DeploySummary.Outcome createOrApply() {
+            String hash = null;
+            if (isSkipUnchanged()) {
+                hash = DesiredStateHash.of(get());
+                metadata.putAnnotationsItem(Constants.DESIRED_STATE_HASH_ANNOTATION, hash);
+            }
+            if (isServerSideApply() && hash == null) {
+                T applied = serverSideApply();
+                written = applied;
+                logApplied(applied);
+                // the live state before the apply is not read in this mode
+                notifyUpdate(null, applied);
+                return DeploySummary.Outcome.UPDATED;
+            }
+
+            T original = readCurrentResource();
+            if (hash != null && original != null
+                    && hash.equals(DesiredStateHash.recorded(ResourceUpdaterMap.getMetadata(original)))) {
+                logUnchanged();
+                notifyUnchanged(original);
+                return DeploySummary.Outcome.UNCHANGED;
+            }
+
+            T updated;
+            int attempt = 0;
+            while (true) {
+                try {
+                    retryConflict = attempt < Constants.CONFLICT_RETRIES;
+                    updated = write(original);
+                    break;
+                } catch (WriteConflict e) {
+                    LOGGER.debug("Conflict writing {} {}, stale read: {}", getKind(), getName(), staleRead, e);
+                    // the conflicts of a live object read from a cache are not counted
+                    if (!staleRead) {
+                        attempt++;
+                        conflicts++;
+                        ObjectLocks.getInstance().recordConflict(getApiClient().getBasePath(), getObjectKey());
+                        getConsoleLogger().println(Messages.KubernetesClientWrapper_conflict(
+                                getKind(), getName(), attempt, Constants.CONFLICT_RETRIES));
+                    }
+                    staleRead = false;
+                    original = getCurrentResource();
+                } finally {
+                    retryConflict = false;
+                }
+            }
+            written = updated;
+            notifyUpdate(original, updated);
+            return original == null ? DeploySummary.Outcome.CREATED : DeploySummary.Outcome.UPDATED;
+        }
+
+        private T write(T original) {
             T updated;
-            if (original != null) {
-                updated = applyResource(original, current);
+            if (isServerSideApply()) {
+                updated = serverSideApply();
+                logApplied(updated);
+            } else if (original != null) {
+                updated = applyResource(original, get());
                 logApplied(updated);
             } else {
                 updated = createResource(get());
                 logCreated(updated);
             }
-            notifyUpdate(original, updated);
+            return updated;
         }
 
-        final void delete() {
+        final DeploySummary.Outcome delete() {
             try {
                 V1Status status = deleteResource(get());
                 logDeleted(status);
+                return status == null ? DeploySummary.Outcome.NOT_FOUND : DeploySummary.Outcome.DELETED;
             } catch (JsonSyntaxException e) {
                 if (e.getCause() instanceof IllegalStateException) {
                     IllegalStateException ise = (IllegalStateException) e.getCause();
@@ -114,7 +390,8 @@ public abstract class ResourceManager {
                             "Expected a string but was BEGIN_OBJECT")) {
                         LOGGER.debug("Catching exception because of issue "
                                 + "https://github.com/kubernetes-client/java/issues/86", e);
-                        consoleLogger.println(Messages.KubernetesClientWrapper_deleted(get(), null));
+                        getConsoleLogger().println(Messages.KubernetesClientWrapper_deleted(get(), null));
+                        return DeploySummary.Outcome.DELETED;
                     } else {
                         throw e;
                     }
@@ -122,7 +399,70 @@ public abstract class ResourceManager {
                     throw e;
                 }
             }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T readCurrentResource() {
+            staleRead = true;
+            if (informerCredential != null) {
+                Object cached = InformerCache.getInstance().lookup(informerCredential, this);
+                if (cached != InformerCache.MISS) {
+                    return (T) cached;
+                }
+            }
+            if (liveState != null && liveState.covers(this)) {
+                return (T) liveState.get(this);
+            }
+            if (isMetadataOnly() || isCachedReads()) {
+                try {
+                    T live = readByName();
+                    staleRead = isCachedReads();
+                    return live;
+                } catch (ApiException | RuntimeException e) {
+                    LOGGER.debug("Failed to list {} {}, reading it from etcd", getKind(), getName(), e);
+                }
+            }
+            staleRead = false;
+            return getCurrentResource();
+        }
+
+        /**
+         * Read the live object with a {@code LIST} selecting its name, which may be served from the watch cache of the
+         * API server.
+         *
+         * @return the live object, holding only the metadata if the manager does not need more, or {@code null} if it
+         * does not exist
+         * @throws ApiException if the API server rejects the request or it cannot be sent
+         */
+        @SuppressWarnings("unchecked")
+        private T readByName() throws ApiException {
+            Call call = listCall(new ListRequest()
+                    .withFieldSelector("metadata.name=" + getName())
+                    .withResourceVersion(isCachedReads() ? "0" : null));
+            JsonObject list = isMetadataOnly()
+                    ? PartialObjectMetadata.list(getApiClient(), call)
+                    : getApiClient().<JsonObject>execute(call, JsonObject.class).getData();
+            JsonElement items = list.get("items");
+            if (items == null || !items.isJsonArray() || items.getAsJsonArray().size() == 0) {
+                return null;
+            }
+            JsonElement item = items.getAsJsonArray().get(0);
+            if (isMetadataOnly()) {
+                return (T) PartialObjectMetadata.decode(getApiClient(), item, get().getClass());
+            }
+            return (T) getApiClient().getJSON().getGson().fromJson(item, get().getClass());
+        }
 
+        @SuppressWarnings("unchecked")
+        private T serverSideApply() {
+            T applied = null;
+            try {
+                V1Patch patch = new V1Patch(getApiClient().getJSON().serialize(get()));
+                applied = ServerSideApply.execute(getApiClient(), applyCall(patch), (Class<T>) get().getClass());
+            } catch (ApiException e) {
+                handleApiException(e);
+            }
+            return applied;
         }
 
         abstract T getCurrentResource();
@@ -135,6 +475,25 @@ public abstract class ResourceManager {
 
         abstract void notifyUpdate(T original, T current);
 
+        /**
+         * Build the server-side apply request for the resource, without executing it.
+         *
+         * @param patch the desired state of the resource
+         * @return the {@code PATCH} call, with the content type to be replaced by {@link ServerSideApply}
+         * @throws ApiException if the call cannot be built
+         */
+        abstract Call applyCall(V1Patch patch) throws ApiException;
+
+        /**
+         * Build the request listing or watching the resources of the same kind in the namespace of the resource,
+         * without executing it.
+         *
+         * @param request the parameters of the request
+         * @return the {@code LIST} call
+         * @throws ApiException if the call cannot be built
+         */
+        abstract Call listCall(ListRequest request) throws ApiException;
+
         void logApplied(T res) {
             getConsoleLogger().println(Messages.KubernetesClientWrapper_applied(res.getClass().getSimpleName(), res));
         }
@@ -142,6 +501,10 @@ public abstract class ResourceManager {
         void logCreated(T res) {
             getConsoleLogger().println(Messages.KubernetesClientWrapper_created(res.getClass().getSimpleName(), res));
         }
+        void logUnchanged() {
+            getConsoleLogger().println(Messages.KubernetesClientWrapper_unchanged(getKind(), "name: " + getName()));
+        }
+
         void logDeleted(V1Status status) {
             if (status != null) {
                 getConsoleLogger().println(
@@ -157,6 +520,18 @@ public abstract class ResourceManager {
         return consoleLogger;
     }
 
+    /**
+     * Thrown when writing a resource conflicts with its live object, which was read from a cache and may be out of
+     * date, or was written concurrently.
+     */
+    private static final class WriteConflict extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        WriteConflict(ApiException cause) {
+            super(cause);
+        }
+    }
+
 
     public ResourceManager setConsoleLogger(PrintStream log) {
         this.consoleLogger = log;
@@ -171,13 +546,7 @@ public abstract class ResourceManager {
      * @throws RuntimeException
      */
     protected void handleApiExceptionExceptNotFound(ApiException e) throws RuntimeException {
-        int code = e.getCode();
-        if (code == HttpStatus.SC_NOT_FOUND) {
-            return;
-        }
-        String responseBody = e.getResponseBody();
-        getConsoleLogger().println(Messages.KubernetesClientWrapper_apiException(code, responseBody));
-        throw new RuntimeException(e);
+        reportApiException(e, true, getConsoleLogger());
     }
 
     /**
@@ -187,9 +556,16 @@ public abstract class ResourceManager {
      * @throws RuntimeException
      */
     protected void handleApiException(ApiException e) throws RuntimeException {
+        reportApiException(e, false, getConsoleLogger());
+    }
+
+    private static void reportApiException(ApiException e, boolean ignoreNotFound, PrintStream out) {
         int code = e.getCode();
+        if (ignoreNotFound && code == HttpStatus.SC_NOT_FOUND) {
+            return;
+        }
         String responseBody = e.getResponseBody();
-        getConsoleLogger().println(Messages.KubernetesClientWrapper_apiException(code, responseBody));
+        out.println(Messages.KubernetesClientWrapper_apiException(code, responseBody));
         throw new RuntimeException(e);
     }
 }
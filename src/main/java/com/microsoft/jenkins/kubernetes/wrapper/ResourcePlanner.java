@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.jenkins.kubernetes.util.CommonUtils;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import com.microsoft.jenkins.kubernetes.util.KubernetesJsonUtils;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Plans the order in which a set of resources is sent to the cluster.
+ * <p>
+ * A dependency graph is built over all the resources of a deployment, and then split into waves: a resource is put
+ * in the wave right after the last wave holding one of its dependencies, so the resources within a wave are
+ * independent of each other and can be handled concurrently. A resource depends on
+ * <ul>
+ * <li>the Namespace it lives in,</li>
+ * <li>the CustomResourceDefinition that defines its API group,</li>
+ * <li>the ServiceAccounts, ConfigMaps, Secrets, PersistentVolumeClaims and PersistentVolumes it references
+ * through {@code serviceAccountName}, {@code configMapRef}, {@code secretKeyRef}, {@code claimName}, etc.,</li>
+ * <li>the Roles and ServiceAccounts bound by a RoleBinding, the workload scaled by a HorizontalPodAutoscaler and
+ * the Services exposed by an Ingress.</li>
+ * </ul>
+ * References to resources that are not part of the deployment are ignored. Within a wave, the resources are sorted
+ * by kind (Namespaces, CRDs, RBAC, configurations, volume claims, workloads, Services and autoscalers), then by the
+ * order they are defined. If the references form a cycle, the resources on the cycle are put in a final wave in
+ * their definition order.
+ */
+final class ResourcePlanner {
+    private static final Pattern VERSION_PREFIX = Pattern.compile("^[A-Za-z]*?V\\d+(alpha\\d+|beta\\d+)?(?=[A-Z])");
+
+    private static final int UNKNOWN_KIND_ORDER = 5;
+
+    private static final Map<String, Integer> KIND_ORDER = ImmutableMap.<String, Integer>builder()
+            .put("Namespace", 0)
+            .put("CustomResourceDefinition", 0)
+            .put("StorageClass", 0)
+            .put("PriorityClass", 0)
+            .put("ServiceAccount", 1)
+            .put("ClusterRole", 1)
+            .put("Role", 1)
+            .put("ClusterRoleBinding", 2)
+            .put("RoleBinding", 2)
+            .put("ConfigMap", 3)
+            .put("Secret", 3)
+            .put("PersistentVolume", 3)
+            .put("NetworkPolicy", 3)
+            .put("PersistentVolumeClaim", 4)
+            .put("Deployment", UNKNOWN_KIND_ORDER)
+            .put("StatefulSet", UNKNOWN_KIND_ORDER)
+            .put("DaemonSet", UNKNOWN_KIND_ORDER)
+            .put("ReplicaSet", UNKNOWN_KIND_ORDER)
+            .put("ReplicationController", UNKNOWN_KIND_ORDER)
+            .put("Job", UNKNOWN_KIND_ORDER)
+            .put("CronJob", UNKNOWN_KIND_ORDER)
+            .put("Pod", UNKNOWN_KIND_ORDER)
+            .put("Service", UNKNOWN_KIND_ORDER + 1)
+            .put("Ingress", UNKNOWN_KIND_ORDER + 1)
+            .put("HorizontalPodAutoscaler", UNKNOWN_KIND_ORDER + 2)
+            .build();
+
+    private static final Set<String> CLUSTER_SCOPED_KINDS = ImmutableSet.of(
+            "Namespace", "CustomResourceDefinition", "StorageClass", "PriorityClass",
+            "ClusterRole", "ClusterRoleBinding", "PersistentVolume");
+
+    /**
+     * Fields that never hold references to other resources, and can be large.
+     */
+    private static final Set<String> SKIPPED_FIELDS = ImmutableSet.of(
+            "metadata", "status", "data", "stringData", "binaryData");
+
+    private ResourcePlanner() {
+        // hide constructor
+    }
+
+    /**
+     * Split the resources into waves of independent resources to be deleted, in the reverse order of their creation:
+     * a resource is deleted before its dependencies, e.g., a Deployment before the ConfigMaps it mounts and the
+     * Namespace it lives in.
+     *
+     * @param resources the resources in the order they are defined
+     * @return the waves, each of them to be handled after all the previous waves are done
+     */
+    static List<List<Object>> planDeletion(List<?> resources) {
+        List<List<Object>> waves = plan(resources);
+        Collections.reverse(waves);
+        for (List<Object> wave : waves) {
+            Collections.reverse(wave);
+        }
+        return waves;
+    }
+
+    /**
+     * Split the resources into waves of independent resources.
+     *
+     * @param resources the resources in the order they are defined
+     * @return the waves, each of them to be handled after all the previous waves are done
+     */
+    static List<List<Object>> plan(List<?> resources) {
+        List<Node> nodes = new ArrayList<>(resources.size());
+        Map<String, Node> nodesByKey = new HashMap<>();
+        Map<String, List<Node>> crdsByGroup = new HashMap<>();
+        for (Object resource : resources) {
+            Node node = new Node(resource, nodes.size());
+            nodes.add(node);
+            if (node.name != null) {
+                nodesByKey.putIfAbsent(node.key(), node);
+            }
+            if ("CustomResourceDefinition".equals(node.kind) && node.crdGroup != null) {
+                crdsByGroup.computeIfAbsent(node.crdGroup, k -> new ArrayList<>()).add(node);
+            }
+        }
+
+        for (Node node : nodes) {
+            for (String reference : node.references) {
+                link(nodesByKey.get(reference), node);
+            }
+            if (!node.namespace.isEmpty()) {
+                link(nodesByKey.get(key("Namespace", "", node.namespace)), node);
+            }
+            String group = node.apiGroup();
+            if (group != null) {
+                for (Node crd : crdsByGroup.getOrDefault(group, new ArrayList<>())) {
+                    link(crd, node);
+                }
+            }
+        }
+
+        List<List<Object>> waves = new ArrayList<>();
+        List<Node> current = new ArrayList<>();
+        for (Node node : nodes) {
+            if (node.pending == 0) {
+                current.add(node);
+            }
+        }
+        int planned = 0;
+        while (!current.isEmpty()) {
+            current.sort(Comparator.comparingInt((Node n) -> n.order).thenComparingInt(n -> n.index));
+            List<Object> wave = new ArrayList<>(current.size());
+            List<Node> next = new ArrayList<>();
+            for (Node node : current) {
+                wave.add(node.resource);
+                for (Node dependent : node.dependents) {
+                    if (--dependent.pending == 0) {
+                        next.add(dependent);
+                    }
+                }
+            }
+            planned += wave.size();
+            waves.add(wave);
+            current = next;
+        }
+
+        if (planned < nodes.size()) {
+            List<Object> cyclic = new ArrayList<>();
+            for (Node node : nodes) {
+                if (node.pending > 0) {
+                    cyclic.add(node.resource);
+                }
+            }
+            waves.add(cyclic);
+        }
+        return waves;
+    }
+
+    private static void link(Node dependency, Node dependent) {
+        if (dependency == null || dependency == dependent) {
+            return;
+        }
+        if (dependency.dependents.add(dependent)) {
+            dependent.pending++;
+        }
+    }
+
+    static String kindOf(Object resource, JsonObject json) {
+        if (json != null && json.has("kind") && json.get("kind").isJsonPrimitive()) {
+            return json.get("kind").getAsString();
+        }
+        return kindOf(resource.getClass());
+    }
+
+    /**
+     * @param type the model class of a resource
+     * @return the kind of the resource, whatever its API version
+     */
+    static String kindOf(Class<?> type) {
+        return VERSION_PREFIX.matcher(type.getSimpleName()).replaceFirst("");
+    }
+
+    static boolean isClusterScoped(String kind) {
+        return CLUSTER_SCOPED_KINDS.contains(kind);
+    }
+
+    private static String key(String kind, String namespace, String name) {
+        return kind + '/' + namespace + '/' + name;
+    }
+
+    private static String stringField(JsonObject object, String field) {
+        JsonElement element = object.get(field);
+        if (element != null && element.isJsonPrimitive()) {
+            return StringUtils.trimToNull(element.getAsString());
+        }
+        return null;
+    }
+
+    private static final class Node {
+        private final Object resource;
+        private final int index;
+        private final String kind;
+        private final String namespace;
+        private final String name;
+        private final String apiVersion;
+        private final String crdGroup;
+        private final int order;
+        private final Set<String> references = new LinkedHashSet<>();
+        private final Set<Node> dependents = new LinkedHashSet<>();
+        private int pending;
+
+        Node(Object resource, int index) {
+            this.resource = resource;
+            this.index = index;
+
+            JsonElement tree = KubernetesJsonUtils.getKubernetesJson().getGson().toJsonTree(resource);
+            JsonObject json = tree.isJsonObject() ? tree.getAsJsonObject() : new JsonObject();
+            this.kind = kindOf(resource, json);
+            this.apiVersion = stringField(json, "apiVersion");
+            this.order = KIND_ORDER.getOrDefault(kind, UNKNOWN_KIND_ORDER);
+
+            V1ObjectMeta metadata = CommonUtils.getMetadata(resource);
+            this.name = metadata == null ? null : metadata.getName();
+            if (CLUSTER_SCOPED_KINDS.contains(kind)) {
+                this.namespace = "";
+            } else if (metadata != null && StringUtils.isNotBlank(metadata.getNamespace())) {
+                this.namespace = metadata.getNamespace();
+            } else {
+                this.namespace = Constants.DEFAULT_KUBERNETES_NAMESPACE;
+            }
+
+            String group = null;
+            if ("CustomResourceDefinition".equals(kind) && json.has("spec") && json.get("spec").isJsonObject()) {
+                group = stringField(json.getAsJsonObject("spec"), "group");
+            }
+            this.crdGroup = group;
+
+            collectReferences(json);
+        }
+
+        String key() {
+            return ResourcePlanner.key(kind, namespace, name);
+        }
+
+        String apiGroup() {
+            if (apiVersion == null || apiVersion.indexOf('/') < 0) {
+                return null;
+            }
+            return apiVersion.substring(0, apiVersion.indexOf('/'));
+        }
+
+        private void reference(String refKind, String refNamespace, String refName) {
+            if (refName != null) {
+                String ns = CLUSTER_SCOPED_KINDS.contains(refKind) ? "" : StringUtils.defaultIfBlank(
+                        refNamespace, namespace);
+                references.add(ResourcePlanner.key(refKind, ns, refName));
+            }
+        }
+
+        private void collectReferences(JsonElement element) {
+            if (element.isJsonArray()) {
+                for (JsonElement item : element.getAsJsonArray()) {
+                    collectReferences(item);
+                }
+                return;
+            }
+            if (!element.isJsonObject()) {
+                return;
+            }
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                String field = entry.getKey();
+                JsonElement value = entry.getValue();
+                if (SKIPPED_FIELDS.contains(field)) {
+                    continue;
+                }
+                if (value.isJsonPrimitive()) {
+                    collectScalarReference(field, StringUtils.trimToNull(value.getAsString()));
+                } else if (value.isJsonObject()) {
+                    collectObjectReference(field, value.getAsJsonObject());
+                    collectReferences(value);
+                } else if (value.isJsonArray()) {
+                    collectArrayReference(field, value.getAsJsonArray());
+                    collectReferences(value);
+                }
+            }
+        }
+
+        private void collectScalarReference(String field, String value) {
+            switch (field) {
+                case "serviceAccountName":
+                case "serviceAccount":
+                    reference("ServiceAccount", null, value);
+                    break;
+                case "storageClassName":
+                    reference("StorageClass", null, value);
+                    break;
+                case "volumeName":
+                    if ("PersistentVolumeClaim".equals(kind)) {
+                        reference("PersistentVolume", null, value);
+                    }
+                    break;
+                case "serviceName":
+                    if ("Ingress".equals(kind)) {
+                        reference("Service", null, value);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void collectObjectReference(String field, JsonObject value) {
+            switch (field) {
+                case "configMapRef":
+                case "configMapKeyRef":
+                case "configMap":
+                    reference("ConfigMap", null, stringField(value, "name"));
+                    break;
+                case "secretRef":
+                case "secretKeyRef":
+                    reference("Secret", stringField(value, "namespace"), stringField(value, "name"));
+                    break;
+                case "secret":
+                    reference("Secret", null, StringUtils.defaultString(
+                            stringField(value, "secretName"), stringField(value, "name")));
+                    break;
+                case "persistentVolumeClaim":
+                    reference("PersistentVolumeClaim", null, stringField(value, "claimName"));
+                    break;
+                case "scaleTargetRef":
+                case "roleRef":
+                    String refKind = stringField(value, "kind");
+                    if (refKind != null) {
+                        reference(refKind, null, stringField(value, "name"));
+                    }
+                    break;
+                case "service":
+                    if ("Ingress".equals(kind)) {
+                        reference("Service", null, stringField(value, "name"));
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void collectArrayReference(String field, JsonArray value) {
+            for (JsonElement item : value) {
+                if (!item.isJsonObject()) {
+                    continue;
+                }
+                JsonObject object = item.getAsJsonObject();
+                if ("imagePullSecrets".equals(field)) {
+                    reference("Secret", null, stringField(object, "name"));
+                } else if ("subjects".equals(field) && "ServiceAccount".equals(stringField(object, "kind"))) {
+                    reference("ServiceAccount", stringField(object, "namespace"), stringField(object, "name"));
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.microsoft.jenkins.kubernetes.wrapper;
 
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.AppsV1beta1Deployment;
 import io.kubernetes.client.openapi.models.ExtensionsV1beta1Deployment;
 import io.kubernetes.client.openapi.models.NetworkingV1beta1Ingress;
@@ -11,6 +12,7 @@ import io.kubernetes.client.openapi.models.V1Deployment;
 import io.kubernetes.client.openapi.models.V1HorizontalPodAutoscaler;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1NetworkPolicy;
 import io.kubernetes.client.openapi.models.V1PersistentVolume;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
@@ -35,107 +37,171 @@ import io.kubernetes.client.openapi.models.V1beta2StatefulSet;
 import io.kubernetes.client.openapi.models.V2alpha1CronJob;
 import io.kubernetes.client.openapi.models.V2beta1HorizontalPodAutoscaler;
 import io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscaler;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
-
-public final class ResourceUpdaterMap extends HashMap<Class<?>,
-        Pair<Class<? extends ResourceManager>, Class<? extends ResourceManager.ResourceUpdater>>> {
-    private static final Map<Class<?>,
-            Pair<Class<? extends ResourceManager>, Class<? extends ResourceManager.ResourceUpdater>>> INSTANCE =
-            Collections.unmodifiableMap(new ResourceUpdaterMap());
+/**
+ * Registry of the supported resource model classes, with the factories to build the {@link ResourceManager} and the
+ * {@link ResourceManager.ResourceUpdater} that handle them.
+ */
+public final class ResourceUpdaterMap extends HashMap<Class<?>, ResourceUpdaterMap.Entry<?, ?>> {
+    private static final Map<Class<?>, Entry<?, ?>> INSTANCE = Collections.unmodifiableMap(new ResourceUpdaterMap());
 
     private ResourceUpdaterMap() {
-        put(V1Namespace.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.NamespaceUpdater.class));
-        put(V1Deployment.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.DeploymentUpdater.class));
-        put(V1Service.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.ServiceUpdater.class));
-        put(V1ReplicationController.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.ReplicationControllerUpdater.class));
-        put(V1DaemonSet.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.DaemonSetUpdater.class));
-        put(V1Job.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.JobUpdater.class));
-        put(V1Pod.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.PodUpdater.class));
-        put(V1HorizontalPodAutoscaler.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.HorizontalPodAutoscalerUpdater.class));
-        put(V1Secret.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.SecretUpdater.class));
-        put(V1ConfigMap.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.ConfigMapUpdater.class));
-        put(V1ReplicaSet.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.ReplicaSetUpdater.class));
-        put(V1StatefulSet.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.StatefulSetUpdater.class));
-        put(V1PersistentVolumeClaim.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.PersistentVolumeClaimUpdater.class));
-        put(V1PersistentVolume.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.PersistentVolumeUpdater.class));
-        put(V1NetworkPolicy.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.NetworkPolicyUpdater.class));
-        put(V1Role.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.RoleUpdater.class));
-        put(V1RoleBinding.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.RoleBindingUpdater.class));
-        put(V1ServiceAccount.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.ServiceAccountUpdater.class));
-        put(V1ClusterRole.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.ClusterRoleUpdater.class));
-        put(V1ClusterRoleBinding.class,
-                Pair.of(V1ResourceManager.class, V1ResourceManager.ClusterRoleBindingUpdater.class));
-
-
-
-        put(ExtensionsV1beta1Ingress.class,
-                Pair.of(V1beta1ResourceManager.class, V1beta1ResourceManager.ExtensionsIngressUpdater.class));
-        put(NetworkingV1beta1Ingress.class,
-                Pair.of(V1beta1ResourceManager.class, V1beta1ResourceManager.NetworkingIngressUpdater.class));
-        put(V1beta1DaemonSet.class,
-                Pair.of(V1beta1ResourceManager.class, V1beta1ResourceManager.DaemonSetUpdater.class));
-        put(V1beta1ReplicaSet.class,
-                Pair.of(V1beta1ResourceManager.class, V1beta1ResourceManager.ReplicaSetUpdater.class));
-        put(V1beta1StatefulSet.class,
-                Pair.of(V1beta1ResourceManager.class, V1beta1ResourceManager.StatefulSetUpdater.class));
-        put(V1beta1CronJob.class,
-                Pair.of(V1beta1ResourceManager.class, V1beta1ResourceManager.CronJobUpdater.class));
-        put(ExtensionsV1beta1Deployment.class,
-                Pair.of(V1beta1ResourceManager.class,
-                        V1beta1ResourceManager.ExtensionsDeploymentUpdater.class));
-        put(AppsV1beta1Deployment.class,
-                Pair.of(V1beta1ResourceManager.class,
-                        V1beta1ResourceManager.AppsDeploymentUpdater.class));
-
-        put(V1beta2Deployment.class,
-                Pair.of(V1beta2ResourceManager.class,
-                        V1beta2ResourceManager.DeploymentUpdater.class));
-        put(V1beta2DaemonSet.class,
-                Pair.of(V1beta2ResourceManager.class,
-                        V1beta2ResourceManager.DaemonSetUpdater.class));
-        put(V1beta2ReplicaSet.class,
-                Pair.of(V1beta2ResourceManager.class,
-                        V1beta2ResourceManager.ReplicaSetUpdater.class));
-        put(V1beta2StatefulSet.class,
-                Pair.of(V1beta2ResourceManager.class,
-                        V1beta2ResourceManager.StatefulSetUpdater.class));
-
-        put(V2beta1HorizontalPodAutoscaler.class,
-                Pair.of(V2beta1ResourceManager.class, V2beta1ResourceManager.HorizontalPodAutoscalerUpdater.class));
-
-        put(V2beta2HorizontalPodAutoscaler.class,
-                Pair.of(V2beta2ResourceManager.class, V2beta2ResourceManager.HorizontalPodAutoscalerUpdater.class));
-
-        put(V2alpha1CronJob.class,
-                Pair.of(V2alpha1ResourceManager.class, V2alpha1ResourceManager.CronJobUpdater.class));
+        register(V1Namespace.class, V1Namespace::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new NamespaceUpdater(r));
+        register(V1Deployment.class, V1Deployment::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new DeploymentUpdater(r));
+        register(V1Service.class, V1Service::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new ServiceUpdater(r));
+        register(V1ReplicationController.class, V1ReplicationController::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new ReplicationControllerUpdater(r));
+        register(V1DaemonSet.class, V1DaemonSet::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new DaemonSetUpdater(r));
+        register(V1Job.class, V1Job::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new JobUpdater(r));
+        register(V1Pod.class, V1Pod::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new PodUpdater(r));
+        register(V1HorizontalPodAutoscaler.class, V1HorizontalPodAutoscaler::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new HorizontalPodAutoscalerUpdater(r));
+        register(V1Secret.class, V1Secret::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new SecretUpdater(r));
+        register(V1ConfigMap.class, V1ConfigMap::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new ConfigMapUpdater(r));
+        register(V1ReplicaSet.class, V1ReplicaSet::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new ReplicaSetUpdater(r));
+        register(V1StatefulSet.class, V1StatefulSet::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new StatefulSetUpdater(r));
+        register(V1PersistentVolumeClaim.class, V1PersistentVolumeClaim::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new PersistentVolumeClaimUpdater(r));
+        register(V1PersistentVolume.class, V1PersistentVolume::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new PersistentVolumeUpdater(r));
+        register(V1NetworkPolicy.class, V1NetworkPolicy::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new NetworkPolicyUpdater(r));
+        register(V1Role.class, V1Role::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new RoleUpdater(r));
+        register(V1RoleBinding.class, V1RoleBinding::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new RoleBindingUpdater(r));
+        register(V1ServiceAccount.class, V1ServiceAccount::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new ServiceAccountUpdater(r));
+        register(V1ClusterRole.class, V1ClusterRole::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new ClusterRoleUpdater(r));
+        register(V1ClusterRoleBinding.class, V1ClusterRoleBinding::getMetadata,
+                V1ResourceManager.class, V1ResourceManager::new, (m, r) -> m.new ClusterRoleBindingUpdater(r));
+
+        register(ExtensionsV1beta1Ingress.class, ExtensionsV1beta1Ingress::getMetadata,
+                V1beta1ResourceManager.class, V1beta1ResourceManager::new, (m, r) -> m.new ExtensionsIngressUpdater(r));
+        register(NetworkingV1beta1Ingress.class, NetworkingV1beta1Ingress::getMetadata,
+                V1beta1ResourceManager.class, V1beta1ResourceManager::new, (m, r) -> m.new NetworkingIngressUpdater(r));
+        register(V1beta1DaemonSet.class, V1beta1DaemonSet::getMetadata,
+                V1beta1ResourceManager.class, V1beta1ResourceManager::new, (m, r) -> m.new DaemonSetUpdater(r));
+        register(V1beta1ReplicaSet.class, V1beta1ReplicaSet::getMetadata,
+                V1beta1ResourceManager.class, V1beta1ResourceManager::new, (m, r) -> m.new ReplicaSetUpdater(r));
+        register(V1beta1StatefulSet.class, V1beta1StatefulSet::getMetadata,
+                V1beta1ResourceManager.class, V1beta1ResourceManager::new, (m, r) -> m.new StatefulSetUpdater(r));
+        register(V1beta1CronJob.class, V1beta1CronJob::getMetadata,
+                V1beta1ResourceManager.class, V1beta1ResourceManager::new, (m, r) -> m.new CronJobUpdater(r));
+        register(ExtensionsV1beta1Deployment.class, ExtensionsV1beta1Deployment::getMetadata,
+                V1beta1ResourceManager.class, V1beta1ResourceManager::new,
+                (m, r) -> m.new ExtensionsDeploymentUpdater(r));
+        register(AppsV1beta1Deployment.class, AppsV1beta1Deployment::getMetadata,
+                V1beta1ResourceManager.class, V1beta1ResourceManager::new, (m, r) -> m.new AppsDeploymentUpdater(r));
+
+        register(V1beta2Deployment.class, V1beta2Deployment::getMetadata,
+                V1beta2ResourceManager.class, V1beta2ResourceManager::new, (m, r) -> m.new DeploymentUpdater(r));
+        register(V1beta2DaemonSet.class, V1beta2DaemonSet::getMetadata,
+                V1beta2ResourceManager.class, V1beta2ResourceManager::new, (m, r) -> m.new DaemonSetUpdater(r));
+        register(V1beta2ReplicaSet.class, V1beta2ReplicaSet::getMetadata,
+                V1beta2ResourceManager.class, V1beta2ResourceManager::new, (m, r) -> m.new ReplicaSetUpdater(r));
+        register(V1beta2StatefulSet.class, V1beta2StatefulSet::getMetadata,
+                V1beta2ResourceManager.class, V1beta2ResourceManager::new, (m, r) -> m.new StatefulSetUpdater(r));
+
+        register(V2beta1HorizontalPodAutoscaler.class, V2beta1HorizontalPodAutoscaler::getMetadata,
+                V2beta1ResourceManager.class, V2beta1ResourceManager::new,
+                (m, r) -> m.new HorizontalPodAutoscalerUpdater(r));
+
+        register(V2beta2HorizontalPodAutoscaler.class, V2beta2HorizontalPodAutoscaler::getMetadata,
+                V2beta2ResourceManager.class, V2beta2ResourceManager::new,
+                (m, r) -> m.new HorizontalPodAutoscalerUpdater(r));
+
+        register(V2alpha1CronJob.class, V2alpha1CronJob::getMetadata,
+                V2alpha1ResourceManager.class, V2alpha1ResourceManager::new, (m, r) -> m.new CronJobUpdater(r));
+    }
+
+    private <R, M extends ResourceManager> void register(
+            Class<R> resourceType,
+            Function<R, V1ObjectMeta> metadataAccessor,
+            Class<M> managerType,
+            Function<ApiClient, M> managerFactory,
+            BiFunction<M, R, ? extends ResourceManager.ResourceUpdater<R>> updaterFactory) {
+        put(resourceType, new Entry<>(resourceType, metadataAccessor, managerType, managerFactory, updaterFactory));
     }
 
-    public static Map<Class<?>, Pair<Class<? extends ResourceManager>,
-            Class<? extends ResourceManager.ResourceUpdater>>> getUnmodifiableInstance() {
+    public static Map<Class<?>, Entry<?, ?>> getUnmodifiableInstance() {
         return INSTANCE;
     }
+
+    /**
+     * Get the metadata of a supported resource without reflection.
+     *
+     * @param resource the resource model object
+     * @return the metadata, or {@code null} if the resource is not supported or does not have metadata
+     */
+    public static V1ObjectMeta getMetadata(Object resource) {
+        Entry<?, ?> entry = INSTANCE.get(resource.getClass());
+        return entry == null ? null : entry.getMetadata(resource);
+    }
+
+    /**
+     * The factories for one resource model class.
+     *
+     * @param <R> the resource model class
+     * @param <M> the resource manager for the API group of the resource
+     */
+    public static final class Entry<R, M extends ResourceManager> {
+        private final Class<R> resourceType;
+        private final Function<R, V1ObjectMeta> metadataAccessor;
+        private final Class<M> managerType;
+        private final Function<ApiClient, M> managerFactory;
+        private final BiFunction<M, R, ? extends ResourceManager.ResourceUpdater<R>> updaterFactory;
+
+        Entry(Class<R> resourceType,
+              Function<R, V1ObjectMeta> metadataAccessor,
+              Class<M> managerType,
+              Function<ApiClient, M> managerFactory,
+              BiFunction<M, R, ? extends ResourceManager.ResourceUpdater<R>> updaterFactory) {
+            this.resourceType = resourceType;
+            this.metadataAccessor = metadataAccessor;
+            this.managerType = managerType;
+            this.managerFactory = managerFactory;
+            this.updaterFactory = updaterFactory;
+        }
+
+        public Class<M> getManagerType() {
+            return managerType;
+        }
+
+        public V1ObjectMeta getMetadata(Object resource) {
+            return metadataAccessor.apply(resourceType.cast(resource));
+        }
+
+        public M createManager(ApiClient client) {
+            return managerFactory.apply(client);
+        }
+
+        /**
+         * Create the updater for the resource.
+         *
+         * @param manager  the manager for the API group of the resource, as built by {@link #createManager(ApiClient)}
+         * @param resource the resource model object
+         * @return the updater
+         */
+        public ResourceManager.ResourceUpdater<R> createUpdater(ResourceManager manager, Object resource) {
+            return updaterFactory.apply(managerType.cast(manager), resourceType.cast(resource));
+        }
+    }
 }
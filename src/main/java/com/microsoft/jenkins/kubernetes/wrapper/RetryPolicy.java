@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.openapi.ApiException;
+
+import java.io.EOFException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether and when a resource is handled again after a failure of the API server.
+ * <p>
+ * The failures retried are the {@code 429 Too Many Requests} of API Priority and Fairness, the {@code 5xx} but
+ * {@code 501 Not Implemented}, and the requests that got no response because of a timeout, a refused or reset
+ * connection. The delay before a retry is the one asked by the {@code Retry-After} header if any, or else picked at
+ * random up to the base delay doubled for each retry, capped at the maximum delay.
+ */
+final class RetryPolicy {
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
+    private static final int NOT_IMPLEMENTED = 501;
+    private static final int MAX_STATUS = 599;
+    /**
+     * Bounds the shift of the exponential backoff, the delay being capped anyway.
+     */
+    private static final int MAX_SHIFT = 20;
+
+    private final int retries;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    RetryPolicy(int retries, long baseDelayMillis, long maxDelayMillis) {
+        this.retries = Math.max(0, retries);
+        this.baseDelayMillis = Math.max(1, baseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+    }
+
+    /**
+     * @param retries the number of retries
+     * @return the policy with the delays set by the system properties
+     */
+    static RetryPolicy of(int retries) {
+        return new RetryPolicy(retries,
+                Long.getLong(Constants.API_RETRY_BASE_DELAY_MILLIS_PROPERTY,
+                        Constants.DEFAULT_API_RETRY_BASE_DELAY_MILLIS),
+                Long.getLong(Constants.API_RETRY_MAX_DELAY_MILLIS_PROPERTY,
+                        Constants.DEFAULT_API_RETRY_MAX_DELAY_MILLIS));
+    }
+
+    int getRetries() {
+        return retries;
+    }
+
+    /**
+     * Get the delay before handling the resource again.
+     *
+     * @param retry   the number of the retry, starting at 1
+     * @param failure the failure of the previous attempt
+     * @return the delay in milliseconds, or {@code -1} if the failure is not retried
+     */
+    long delayMillis(int retry, Throwable failure) {
+        ApiException e = apiException(failure);
+        if (retry > retries || e == null || !isRetryable(e)) {
+            return -1;
+        }
+        long retryAfter = retryAfterMillis(e);
+        if (retryAfter >= 0) {
+            return Math.min(retryAfter, maxDelayMillis);
+        }
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(retry - 1, MAX_SHIFT));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * @param failure a failure
+     * @return the API exception causing the failure, or {@code null} if it's not caused by a call to the API server
+     */
+    static ApiException apiException(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof ApiException) {
+                return (ApiException) t;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    static boolean isRetryable(ApiException e) {
+        int code = e.getCode();
+        if (code == TOO_MANY_REQUESTS) {
+            return true;
+        }
+        if (code >= SERVER_ERROR && code <= MAX_STATUS) {
+            return code != NOT_IMPLEMENTED;
+        }
+        if (code != 0) {
+            return false;
+        }
+        // no response was received
+        Throwable cause = e.getCause();
+        return cause instanceof InterruptedIOException
+                || cause instanceof ConnectException
+                || cause instanceof SocketException
+                || cause instanceof EOFException;
+    }
+
+    private static long retryAfterMillis(ApiException e) {
+        Map<String, List<String>> headers = e.getResponseHeaders();
+        if (headers == null) {
+            return -1;
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if ("Retry-After".equalsIgnoreCase(header.getKey())
+                    && header.getValue() != null && !header.getValue().isEmpty()) {
+                try {
+                    return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(header.getValue().get(0).trim())));
+                } catch (NumberFormatException ignored) {
+                    // an HTTP date, which the API server does not send
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+}
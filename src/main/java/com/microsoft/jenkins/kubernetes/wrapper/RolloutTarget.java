@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import java.io.Serializable;
+
+/**
+ * A workload written by a deployment, whose rollout can be waited for later, e.g., by another call to the node, or
+ * after Jenkins restarted.
+ */
+public final class RolloutTarget implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String resourceType;
+    private final String namespace;
+    private final String name;
+    private final long generation;
+
+    RolloutTarget(Class<?> resourceType, String namespace, String name, long generation) {
+        this.resourceType = resourceType.getName();
+        this.namespace = namespace;
+        this.name = name;
+        this.generation = generation;
+    }
+
+    /**
+     * @return the name of the model class of the workload
+     */
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the generation of the workload written by the deployment
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    @Override
+    public String toString() {
+        return resourceType.substring(resourceType.lastIndexOf('.') + 1) + ' ' + namespace + '/' + name;
+    }
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import org.apache.commons.lang.StringUtils;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for the rollout of the Deployments, StatefulSets and DaemonSets written by a deployment, like
+ * {@code kubectl rollout status} does for each of them.
+ * <p>
+ * The workloads of the same kind in the same namespace are followed by a single watch, and all the kinds and
+ * namespaces concurrently. A workload is rolled out when its controller observed the generation that was written and
+ * all its replicas are updated and available. The wait fails as soon as a rollout fails, i.e., a Deployment exceeds
+ * its progress deadline or a workload is deleted, or when the timeout expires.
+ */
+final class RolloutWaiter {
+    private static final Set<String> KINDS = ImmutableSet.of("Deployment", "StatefulSet", "DaemonSet");
+
+    private final PrintStream logger;
+    private final Map<String, Group> groups = new LinkedHashMap<>();
+    private final List<RolloutTarget> targets = new ArrayList<>();
+
+    RolloutWaiter(PrintStream logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Follow the rollout of the resource written by the updater, if it's a workload.
+     *
+     * @param updater the updater of the resource
+     * @param written the resource returned by the API server
+     */
+    void track(ResourceManager.ResourceUpdater<?> updater, Object written) {
+        if (written == null) {
+            return;
+        }
+        V1ObjectMeta metadata = ResourceUpdaterMap.getMetadata(written);
+        track(updater, metadata == null || metadata.getGeneration() == null ? 0 : metadata.getGeneration());
+    }
+
+    /**
+     * Follow the rollout of the resource handled by the updater, if it's a workload.
+     *
+     * @param updater    the updater of the resource
+     * @param generation the generation written
+     */
+    synchronized void track(ResourceManager.ResourceUpdater<?> updater, long generation) {
+        String kind = ResourcePlanner.kindOf(updater.get(), null);
+        if (!KINDS.contains(kind)) {
+            return;
+        }
+        groups.computeIfAbsent(updater.getKind() + '/' + updater.getNamespace(), key -> new Group(kind, updater))
+                .pending.put(updater.getName(), generation);
+        targets.add(new RolloutTarget(updater.get().getClass(), updater.getNamespace(), updater.getName(),
+                generation));
+    }
+
+    /**
+     * @return the workloads tracked
+     */
+    synchronized List<RolloutTarget> getTargets() {
+        return new ArrayList<>(targets);
+    }
+
+    synchronized int size() {
+        int size = 0;
+        for (Group group : groups.values()) {
+            size += group.pending.size();
+        }
+        return size;
+    }
+
+    /**
+     * Wait until all the workloads tracked are rolled out.
+     *
+     * @param timeoutMillis the time to wait for all of them
+     * @throws InterruptedException  if interrupted while waiting
+     * @throws IllegalStateException if a rollout failed or the timeout expired
+     */
+    synchronized void await(long timeoutMillis) throws InterruptedException {
+        if (groups.isEmpty()) {
+            return;
+        }
+        logger.println(Messages.RolloutWaiter_waiting(size(), TimeUnit.MILLISECONDS.toSeconds(timeoutMillis)));
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        ExecutorService executor = Executors.newFixedThreadPool(groups.size(), new ThreadFactoryBuilder()
+                .setNameFormat("kubernetes-cd-rollout-%d")
+                .setDaemon(true)
+                .build());
+        CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+        try {
+            for (Group group : groups.values()) {
+                completion.submit(() -> {
+                    group.run(deadline);
+                    return null;
+                });
+            }
+            for (int i = 0; i < groups.size(); i++) {
+                long remaining = deadline - System.currentTimeMillis();
+                Future<Void> done = remaining > 0 ? completion.poll(remaining, TimeUnit.MILLISECONDS) : null;
+                if (done == null) {
+                    throw new IllegalStateException(Messages.RolloutWaiter_timeout(
+                            TimeUnit.MILLISECONDS.toSeconds(timeoutMillis), StringUtils.join(pending(), ", ")));
+                }
+                try {
+                    done.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            for (Group group : groups.values()) {
+                group.stop();
+            }
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> pending() {
+        List<String> pending = new ArrayList<>();
+        for (Group group : groups.values()) {
+            for (String name : group.pending.keySet()) {
+                pending.add(group.kind + ' ' + group.namespace + '/' + name);
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * The state of the rollout of a workload.
+     */
+    enum State {
+        PROGRESSING,
+        COMPLETE,
+        FAILED
+    }
+
+    /**
+     * The state of the rollout of a workload, with the reason why it's not complete.
+     */
+    static final class Status {
+        private static final Status COMPLETE = new Status(State.COMPLETE, null);
+
+        private final State state;
+        private final String message;
+
+        private Status(State state, String message) {
+            this.state = state;
+            this.message = message;
+        }
+
+        State getState() {
+            return state;
+        }
+
+        String getMessage() {
+            return message;
+        }
+    }
+
+    /**
+     * Get the state of the rollout of a workload, as {@code kubectl rollout status} does.
+     *
+     * @param kind       the kind of the workload
+     * @param object     the live workload
+     * @param generation the generation written by the deployment
+     * @return the state of the rollout
+     */
+    static Status status(String kind, JsonObject object, long generation) {
+        long observed = longField(object, "status", "observedGeneration");
+        if (observed < Math.max(generation, longField(object, "metadata", "generation"))) {
+            return progressing(Messages.RolloutWaiter_waitingGeneration());
+        }
+        switch (kind) {
+            case "Deployment":
+                return deploymentStatus(object);
+            case "StatefulSet":
+                return statefulSetStatus(object);
+            case "DaemonSet":
+                return daemonSetStatus(object);
+            default:
+                return Status.COMPLETE;
+        }
+    }
+
+    private static Status deploymentStatus(JsonObject object) {
+        JsonElement conditions = field(object, "status", "conditions");
+        if (conditions != null && conditions.isJsonArray()) {
+            for (JsonElement condition : conditions.getAsJsonArray()) {
+                if (condition.isJsonObject()
+                        && "Progressing".equals(stringField(condition.getAsJsonObject(), "type"))
+                        && "ProgressDeadlineExceeded".equals(stringField(condition.getAsJsonObject(), "reason"))) {
+                    return new Status(State.FAILED, Messages.RolloutWaiter_deadlineExceeded(
+                            stringField(condition.getAsJsonObject(), "message")));
+                }
+            }
+        }
+        long replicas = longField(object, 1, "spec", "replicas");
+        long updated = longField(object, "status", "updatedReplicas");
+        long current = longField(object, "status", "replicas");
+        long available = longField(object, "status", "availableReplicas");
+        if (updated < replicas) {
+            return progressing(Messages.RolloutWaiter_waitingUpdated(updated, replicas));
+        }
+        if (current > updated) {
+            return progressing(Messages.RolloutWaiter_waitingOldReplicas(current - updated));
+        }
+        if (available < updated) {
+            return progressing(Messages.RolloutWaiter_waitingAvailable(available, updated));
+        }
+        return Status.COMPLETE;
+    }
+
+    private static Status statefulSetStatus(JsonObject object) {
+        if (!isRollingUpdate(object)) {
+            return Status.COMPLETE;
+        }
+        long replicas = longField(object, 1, "spec", "replicas");
+        long ready = longField(object, "status", "readyReplicas");
+        if (ready < replicas) {
+            return progressing(Messages.RolloutWaiter_waitingReady(ready, replicas));
+        }
+        JsonElement partition = field(object, "spec", "updateStrategy", "rollingUpdate", "partition");
+        if (partition != null && partition.isJsonPrimitive()) {
+            long updated = longField(object, "status", "updatedReplicas");
+            long expected = replicas - partition.getAsLong();
+            if (updated < expected) {
+                return progressing(Messages.RolloutWaiter_waitingUpdated(updated, expected));
+            }
+            return Status.COMPLETE;
+        }
+        String updateRevision = stringField(object, "status", "updateRevision");
+        if (updateRevision != null && !updateRevision.equals(stringField(object, "status", "currentRevision"))) {
+            return progressing(Messages.RolloutWaiter_waitingRevision(updateRevision));
+        }
+        return Status.COMPLETE;
+    }
+
+    private static Status daemonSetStatus(JsonObject object) {
+        if (!isRollingUpdate(object)) {
+            return Status.COMPLETE;
+        }
+        long desired = longField(object, "status", "desiredNumberScheduled");
+        long updated = longField(object, "status", "updatedNumberScheduled");
+        long available = longField(object, "status", "numberAvailable");
+        long unavailable = longField(object, "status", "numberUnavailable");
+        if (updated < desired) {
+            return progressing(Messages.RolloutWaiter_waitingUpdated(updated, desired));
+        }
+        if (available < desired || unavailable > 0) {
+            return progressing(Messages.RolloutWaiter_waitingAvailable(available, desired));
+        }
+        return Status.COMPLETE;
+    }
+
+    private static boolean isRollingUpdate(JsonObject object) {
+        String strategy = stringField(object, "spec", "updateStrategy", "type");
+        // the strategy defaults to RollingUpdate
+        return strategy == null || "RollingUpdate".equals(strategy);
+    }
+
+    private static Status progressing(String message) {
+        return new Status(State.PROGRESSING, message);
+    }
+
+    static JsonElement field(JsonObject object, String... path) {
+        JsonElement element = object;
+        for (String name : path) {
+            if (element == null || !element.isJsonObject()) {
+                return null;
+            }
+            element = element.getAsJsonObject().get(name);
+        }
+        return element;
+    }
+
+    private static long longField(JsonObject object, String... path) {
+        return longField(object, 0, path);
+    }
+
+    private static long longField(JsonObject object, long defaultValue, String... path) {
+        JsonElement element = field(object, path);
+        return element != null && element.isJsonPrimitive() ? element.getAsLong() : defaultValue;
+    }
+
+    static String stringField(JsonObject object, String... path) {
+        JsonElement element = field(object, path);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+    }
+
+    /**
+     * Thrown when the rollout of a workload failed.
+     */
+    private static final class RolloutFailed extends IllegalStateException {
+        private static final long serialVersionUID = 1L;
+
+        RolloutFailed(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * The workloads of a kind in a namespace, followed by one watch.
+     */
+    private final class Group implements ListWatcher.Handler {
+        private final String kind;
+        private final String namespace;
+        private final ListWatcher watcher;
+        /**
+         * The generation written of each workload not yet rolled out, by name.
+         */
+        private final Map<String, Long> pending = new ConcurrentHashMap<>();
+        private final Map<String, String> lastMessages = new ConcurrentHashMap<>();
+
+        Group(String kind, ResourceManager.ResourceUpdater<?> lister) {
+            this.kind = kind;
+            this.namespace = lister.getNamespace();
+            this.watcher = new ListWatcher(lister.getManager().getApiClient(), lister::listCall, this,
+                    "the rollout of " + kind + " in " + namespace);
+        }
+
+        void run(long deadline) throws InterruptedException {
+            watcher.run(deadline);
+        }
+
+        void stop() {
+            watcher.stop();
+        }
+
+        @Override
+        public ListRequest request() {
+            ListRequest request = new ListRequest();
+            if (pending.size() == 1) {
+                request.withFieldSelector("metadata.name=" + pending.keySet().iterator().next());
+            }
+            return request;
+        }
+
+        @Override
+        public boolean onList(List<JsonObject> objects) {
+            for (JsonObject object : objects) {
+                update(object);
+            }
+            return pending.isEmpty();
+        }
+
+        @Override
+        public boolean onEvent(String type, JsonObject object) {
+            if ("DELETED".equals(type)) {
+                String name = stringField(object, "metadata", "name");
+                if (name != null && pending.containsKey(name)) {
+                    throw new RolloutFailed(Messages.RolloutWaiter_failed(
+                            kind, namespace + '/' + name, Messages.RolloutWaiter_deleted()));
+                }
+            } else if ("ADDED".equals(type) || "MODIFIED".equals(type)) {
+                update(object);
+            }
+            return pending.isEmpty();
+        }
+
+        private void update(JsonObject object) {
+            String name = stringField(object, "metadata", "name");
+            Long generation = name == null ? null : pending.get(name);
+            if (generation == null) {
+                return;
+            }
+            Status status = status(kind, object, generation);
+            String qualifiedName = namespace + '/' + name;
+            switch (status.getState()) {
+                case COMPLETE:
+                    pending.remove(name);
+                    logger.println(Messages.RolloutWaiter_complete(kind, qualifiedName));
+                    break;
+                case FAILED:
+                    throw new RolloutFailed(Messages.RolloutWaiter_failed(
+                            kind, qualifiedName, status.getMessage()));
+                default:
+                    if (!status.getMessage().equals(lastMessages.put(name, status.getMessage()))) {
+                        logger.println(Messages.RolloutWaiter_progress(kind, qualifiedName, status.getMessage()));
+                    }
+                    break;
+            }
+        }
+    }
+}
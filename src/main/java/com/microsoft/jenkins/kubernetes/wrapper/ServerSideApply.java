@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import okhttp3.Call;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Executes the {@code PATCH} calls built by the generated API classes as server-side apply requests.
+ * <p>
+ * The generated API classes pick the first of the patch content types declared for the operation, which is never
+ * {@code application/apply-patch+yaml}. The request is rebuilt with the same URL, headers and body, and the apply
+ * content type. A JSON document being a valid YAML document, the body is sent as is.
+ */
+final class ServerSideApply {
+    static final String CONTENT_TYPE = "application/apply-patch+yaml";
+
+    private ServerSideApply() {
+        // hide constructor
+    }
+
+    /**
+     * Execute the call as a server-side apply.
+     *
+     * @param client     the client that built the call
+     * @param call       the {@code PATCH} call
+     * @param returnType the type of the resource returned by the API server
+     * @param <T>        the type of the resource
+     * @return the resource after the apply
+     * @throws ApiException if the API server rejects the request or it cannot be sent
+     */
+    static <T> T execute(ApiClient client, Call call, Type returnType) throws ApiException {
+        Request request = call.request();
+        Buffer content = new Buffer();
+        try {
+            if (request.body() != null) {
+                request.body().writeTo(content);
+            }
+        } catch (IOException e) {
+            throw new ApiException(e);
+        }
+        Request applyRequest = request.newBuilder()
+                .header("Content-Type", CONTENT_TYPE)
+                .patch(RequestBody.create(MediaType.parse(CONTENT_TYPE), content.readByteArray()))
+                .build();
+        return client.<T>execute(client.getHttpClient().newCall(applyRequest), returnType).getData();
+    }
+}
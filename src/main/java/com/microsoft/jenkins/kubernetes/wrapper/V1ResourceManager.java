@@ -8,6 +8,7 @@ package com.microsoft.jenkins.kubernetes.wrapper;
 
 import com.microsoft.jenkins.kubernetes.util.Constants;
 import com.microsoft.jenkins.kubernetes.util.KubernetesJsonUtils;
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
@@ -39,6 +40,7 @@ import io.kubernetes.client.openapi.models.V1ServiceAccount;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1StatefulSet;
 import io.kubernetes.client.openapi.models.V1Status;
+import okhttp3.Call;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -48,6 +50,7 @@ import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.microsoft.jenkins.kubernetes.util.Constants.DRY_RUN_ALL;
+import static com.microsoft.jenkins.kubernetes.util.Constants.FOREGROUND_PROPAGATION;
 import static com.microsoft.jenkins.kubernetes.util.Constants.KUBERNETES_CONTROLLER_UID_FIELD;
 import static com.microsoft.jenkins.kubernetes.util.Constants.KUBERNETES_JOB_NAME_FIELD;
 
@@ -63,7 +66,7 @@ public class V1ResourceManager extends ResourceManager {
     private V1ResourceUpdateMonitor resourceUpdateMonitor = V1ResourceUpdateMonitor.NOOP;
 
     public V1ResourceManager(ApiClient client) {
-        super(true);
+        super(client, true);
         checkNotNull(client);
 
         coreV1ApiInstance = new CoreV1Api(client);
@@ -75,7 +78,7 @@ public class V1ResourceManager extends ResourceManager {
     }
 
     public V1ResourceManager(ApiClient client, boolean pretty) {
-        super(pretty);
+        super(client, pretty);
         checkNotNull(client);
 
         coreV1ApiInstance = new CoreV1Api(client);
@@ -139,6 +142,11 @@ public class V1ResourceManager extends ResourceManager {
         return this;
     }
 
+    @Override
+    void notifyUnchanged(Object current) {
+        resourceUpdateMonitor.onResourceUnchanged(current);
+    }
+
     class ReplicaSetUpdater extends ResourceUpdater<V1ReplicaSet> {
         ReplicaSetUpdater(V1ReplicaSet rs) {
             super(rs);
@@ -185,13 +193,27 @@ public class V1ResourceManager extends ResourceManager {
             V1Status result = null;
             try {
                 result = appsV1ApiInstance.deleteNamespacedReplicaSet(
-                        getName(), getNamespace(), getPretty(), null, null, null, null, null);
+                        getName(), getNamespace(), getPretty(), null, null, null, null, deleteOptions(null));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return appsV1ApiInstance.patchNamespacedReplicaSetCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return appsV1ApiInstance.listNamespacedReplicaSetCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1ReplicaSet original, V1ReplicaSet current) {
             resourceUpdateMonitor.onReplicaSetUpdate(original, current);
@@ -244,7 +266,7 @@ public class V1ResourceManager extends ResourceManager {
             V1Status result = null;
             try {
                 result = appsV1ApiInstance.deleteNamespacedDeployment(
-                        getName(), getNamespace(), getPretty(), null, null, null, null, null);
+                        getName(), getNamespace(), getPretty(), null, null, null, null, deleteOptions(null));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
@@ -252,6 +274,20 @@ public class V1ResourceManager extends ResourceManager {
         }
 
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return appsV1ApiInstance.patchNamespacedDeploymentCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return appsV1ApiInstance.listNamespacedDeploymentCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1Deployment original, V1Deployment current) {
             resourceUpdateMonitor.onDeploymentUpdate(original, current);
@@ -304,13 +340,27 @@ public class V1ResourceManager extends ResourceManager {
             V1Status result = null;
             try {
                 result = appsV1ApiInstance.deleteNamespacedDaemonSet(
-                        getName(), getNamespace(), getPretty(), null, null, null, null, null);
+                        getName(), getNamespace(), getPretty(), null, null, null, null, deleteOptions(null));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return appsV1ApiInstance.patchNamespacedDaemonSetCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return appsV1ApiInstance.listNamespacedDaemonSetCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1DaemonSet original, V1DaemonSet current) {
             resourceUpdateMonitor.onDaemonSetUpdate(original, current);
@@ -363,13 +413,27 @@ public class V1ResourceManager extends ResourceManager {
             V1Status result = null;
             try {
                 result = coreV1ApiInstance.deleteNamespacedReplicationController(
-                        getName(), getNamespace(), getPretty(), null, null, null, null, null);
+                        getName(), getNamespace(), getPretty(), null, null, null, null, deleteOptions(null));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return coreV1ApiInstance.patchNamespacedReplicationControllerCall(
+                    getName(), getNamespace(), patch, getPretty(), null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return coreV1ApiInstance.listNamespacedReplicationControllerCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1ReplicationController original, V1ReplicationController current) {
             resourceUpdateMonitor.onReplicationControllerUpdate(original, current);
@@ -468,13 +532,27 @@ public class V1ResourceManager extends ResourceManager {
             V1Status result = null;
             try {
                 result = coreV1ApiInstance.deleteNamespacedService(
-                        getName(), getNamespace(), getPretty(), null, null, null, null, null);
+                        getName(), getNamespace(), getPretty(), null, null, null, null, deleteOptions(null));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return coreV1ApiInstance.patchNamespacedServiceCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return coreV1ApiInstance.listNamespacedServiceCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1Service original, V1Service current) {
             resourceUpdateMonitor.onServiceUpdate(original, current);
@@ -544,7 +622,7 @@ public class V1ResourceManager extends ResourceManager {
                     creationTimestamp(original.getMetadata().getCreationTimestamp()).
                     selfLink(original.getMetadata().getSelfLink()).
                     uid(original.getMetadata().getUid()).
-                    resourceVersion(original.getMetadata().getUid()).
+                    resourceVersion(original.getMetadata().getResourceVersion()).
                     ownerReferences(original.getMetadata().getOwnerReferences()).
                     generateName(null);
 
@@ -586,13 +664,44 @@ public class V1ResourceManager extends ResourceManager {
             V1Status result = null;
             try {
                 result = batchV1ApiInstance.deleteNamespacedJob(
-                        getName(), getNamespace(), getPretty(), null, null, null, null, null);
+                        getName(), getNamespace(), getPretty(), null, null, null, null, deleteOptions(null));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        /**
+         * Delete the live Job with its pods, so that it can be created again and run from the start. The Job is gone
+         * once its pods are deleted.
+         *
+         * @return the status of the deletion, or {@code null} if the Job does not exist
+         */
+        V1Status deleteWithPods() {
+            V1Status result = null;
+            try {
+                result = batchV1ApiInstance.deleteNamespacedJob(
+                        getName(), getNamespace(), getPretty(), null, null, null, FOREGROUND_PROPAGATION, null);
+            } catch (ApiException e) {
+                handleApiExceptionExceptNotFound(e);
+            }
+            return result;
+        }
+
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return batchV1ApiInstance.patchNamespacedJobCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return batchV1ApiInstance.listNamespacedJobCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1Job original, V1Job current) {
             resourceUpdateMonitor.onJobUpdate(original, current);
@@ -663,7 +772,7 @@ public class V1ResourceManager extends ResourceManager {
                     creationTimestamp(original.getMetadata().getCreationTimestamp()).
                     selfLink(original.getMetadata().getSelfLink()).
                     uid(original.getMetadata().getUid()).
-                    resourceVersion(original.getMetadata().getUid()).
+                    resourceVersion(original.getMetadata().getResourceVersion()).
                     ownerReferences(original.getMetadata().getOwnerReferences()).
                     generateName(null);
 
@@ -697,13 +806,27 @@ public class V1ResourceManager extends ResourceManager {
             V1Status result = null;
             try {
                 result = coreV1ApiInstance.deleteNamespacedPod(
-                        getName(), getNamespace(), getPretty(), null, null, null, null, null);
+                        getName(), getNamespace(), getPretty(), null, null, null, null, deleteOptions(null));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return coreV1ApiInstance.patchNamespacedPodCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return coreV1ApiInstance.listNamespacedPodCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1Pod original, V1Pod current) {
             resourceUpdateMonitor.onPodUpdate(original, current);
@@ -756,13 +879,27 @@ public class V1ResourceManager extends ResourceManager {
             V1Status result = null;
             try {
                 result = coreV1ApiInstance.deleteNamespacedConfigMap(
-                        getName(), getNamespace(), getPretty(), null, null, null, null, null);
+                        getName(), getNamespace(), getPretty(), null, null, null, null, deleteOptions(null));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return coreV1ApiInstance.patchNamespacedConfigMapCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return coreV1ApiInstance.listNamespacedConfigMapCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1ConfigMap original, V1ConfigMap current) {
             resourceUpdateMonitor.onConfigMapUpdate(original, current);
@@ -815,13 +952,27 @@ public class V1ResourceManager extends ResourceManager {
             V1Status result = null;
             try {
                 result = coreV1ApiInstance.deleteNamespacedSecret(
-                        getName(), getNamespace(), getPretty(), null, null, null, null, null);
+                        getName(), getNamespace(), getPretty(), null, null, null, null, deleteOptions(null));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return coreV1ApiInstance.patchNamespacedSecretCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return coreV1ApiInstance.listNamespacedSecretCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1Secret original, V1Secret current) {
             resourceUpdateMonitor.onSecretUpdate(original, current);
@@ -882,13 +1033,27 @@ public class V1ResourceManager extends ResourceManager {
             V1Status result = null;
             try {
                 result = coreV1ApiInstance.deleteNamespace(
-                        getName(), getPretty(), null, null, null, null, null);
+                        getName(), getPretty(), null, null, null, null, deleteOptions(null));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return coreV1ApiInstance.patchNamespaceCall(
+                    getName(), patch, getPretty(), null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return coreV1ApiInstance.listNamespaceCall(getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1Namespace original, V1Namespace current) {
             resourceUpdateMonitor.onNamespaceUpdate(original, current);
@@ -942,13 +1107,27 @@ public class V1ResourceManager extends ResourceManager {
             try {
                 result = autoscalingV1Api.deleteNamespacedHorizontalPodAutoscaler(
                         getName(), getNamespace(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return autoscalingV1Api.patchNamespacedHorizontalPodAutoscalerCall(
+                    getName(), getNamespace(), patch, getPretty(), null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return autoscalingV1Api.listNamespacedHorizontalPodAutoscalerCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1HorizontalPodAutoscaler original, V1HorizontalPodAutoscaler current) {
             resourceUpdateMonitor.onHorizontalPodAutoscalerUpdate(original, current);
@@ -1003,7 +1182,7 @@ public class V1ResourceManager extends ResourceManager {
             try {
                 result = appsV1ApiInstance.deleteNamespacedStatefulSet(
                         getName(), getNamespace(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
@@ -1044,7 +1223,7 @@ public class V1ResourceManager extends ResourceManager {
                     creationTimestamp(original.getMetadata().getCreationTimestamp()).
                     selfLink(original.getMetadata().getSelfLink()).
                     uid(original.getMetadata().getUid()).
-                    resourceVersion(original.getMetadata().getUid()).
+                    resourceVersion(original.getMetadata().getResourceVersion()).
                     ownerReferences(original.getMetadata().getOwnerReferences()).
                     generateName(null);
 
@@ -1058,6 +1237,20 @@ public class V1ResourceManager extends ResourceManager {
         }
 
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return appsV1ApiInstance.patchNamespacedStatefulSetCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return appsV1ApiInstance.listNamespacedStatefulSetCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1StatefulSet original, V1StatefulSet current) {
             resourceUpdateMonitor.onStatefulSetUpdate(original, current);
@@ -1133,13 +1326,27 @@ public class V1ResourceManager extends ResourceManager {
             try {
                 result = coreV1ApiInstance.deleteNamespacedPersistentVolumeClaim(
                         getName(), getNamespace(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return coreV1ApiInstance.patchNamespacedPersistentVolumeClaimCall(
+                    getName(), getNamespace(), patch, getPretty(), null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return coreV1ApiInstance.listNamespacedPersistentVolumeClaimCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1PersistentVolumeClaim original, V1PersistentVolumeClaim current) {
             resourceUpdateMonitor.onPersistentVolumeClaimUpdate(original, current);
@@ -1193,13 +1400,27 @@ public class V1ResourceManager extends ResourceManager {
             try {
                 result = coreV1ApiInstance.deletePersistentVolume(
                         getName(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return coreV1ApiInstance.patchPersistentVolumeCall(
+                    getName(), patch, getPretty(), null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return coreV1ApiInstance.listPersistentVolumeCall(getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1PersistentVolume original, V1PersistentVolume current) {
             resourceUpdateMonitor.onPersistentVolumeUpdate(original, current);
@@ -1253,13 +1474,27 @@ public class V1ResourceManager extends ResourceManager {
             try {
                 result = networkingV1Api.deleteNamespacedNetworkPolicy(
                         getName(), getNamespace(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return networkingV1Api.patchNamespacedNetworkPolicyCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return networkingV1Api.listNamespacedNetworkPolicyCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1NetworkPolicy original, V1NetworkPolicy current) {
             resourceUpdateMonitor.onNetworkPolicyUpdate(original, current);
@@ -1313,13 +1548,27 @@ public class V1ResourceManager extends ResourceManager {
             try {
                 result = rbacV1Api.deleteNamespacedRole(
                         getName(), getNamespace(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return rbacV1Api.patchNamespacedRoleCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return rbacV1Api.listNamespacedRoleCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1Role original, V1Role current) {
             resourceUpdateMonitor.onRoleUpdate(original, current);
@@ -1373,13 +1622,27 @@ public class V1ResourceManager extends ResourceManager {
             try {
                 result = rbacV1Api.deleteNamespacedRoleBinding(
                         getName(), getNamespace(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return rbacV1Api.patchNamespacedRoleBindingCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return rbacV1Api.listNamespacedRoleBindingCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1RoleBinding original, V1RoleBinding current) {
             resourceUpdateMonitor.onRoleBindingUpdate(original, current);
@@ -1433,13 +1696,27 @@ public class V1ResourceManager extends ResourceManager {
             try {
                 result = coreV1ApiInstance.deleteNamespacedServiceAccount(
                         getName(), getNamespace(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return coreV1ApiInstance.patchNamespacedServiceAccountCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return coreV1ApiInstance.listNamespacedServiceAccountCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1ServiceAccount original, V1ServiceAccount current) {
             resourceUpdateMonitor.onServiceAccountUpdate(original, current);
@@ -1493,13 +1770,26 @@ public class V1ResourceManager extends ResourceManager {
             try {
                 result = rbacV1Api.deleteClusterRole(
                         getName(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return rbacV1Api.patchClusterRoleCall(getName(), patch, getPretty(), null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return rbacV1Api.listClusterRoleCall(getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1ClusterRole original, V1ClusterRole current) {
             resourceUpdateMonitor.onClusterRoleUpdate(original, current);
@@ -1553,13 +1843,27 @@ public class V1ResourceManager extends ResourceManager {
             try {
                 result = rbacV1Api.deleteClusterRoleBinding(
                         getName(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return rbacV1Api.patchClusterRoleBindingCall(
+                    getName(), patch, getPretty(), null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return rbacV1Api.listClusterRoleBindingCall(getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1ClusterRoleBinding original, V1ClusterRoleBinding current) {
             resourceUpdateMonitor.onClusterRoleBindingUpdate(original, current);
@@ -70,6 +70,14 @@ public interface V1ResourceUpdateMonitor {
 
     void onClusterRoleBindingUpdate(V1ClusterRoleBinding original, V1ClusterRoleBinding current);
 
+    /**
+     * Called when the write of a resource is skipped, as the live resource was last written with the same
+     * configuration.
+     *
+     * @param current the live resource
+     */
+    default void onResourceUnchanged(Object current) {
+    }
 
     class Adapter implements V1ResourceUpdateMonitor {
 
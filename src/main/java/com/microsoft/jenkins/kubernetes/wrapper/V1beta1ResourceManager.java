@@ -7,6 +7,7 @@
 package com.microsoft.jenkins.kubernetes.wrapper;
 
 import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1beta1Api;
@@ -22,6 +23,7 @@ import io.kubernetes.client.openapi.models.V1beta1DaemonSet;
 import io.kubernetes.client.openapi.models.ExtensionsV1beta1Ingress;
 import io.kubernetes.client.openapi.models.V1beta1ReplicaSet;
 import io.kubernetes.client.openapi.models.V1beta1StatefulSet;
+import okhttp3.Call;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -33,7 +35,7 @@ public class V1beta1ResourceManager extends ResourceManager {
     private V1beta1ResourceUpdateMonitor resourceUpdateMonitor = V1beta1ResourceUpdateMonitor.NOOP;
 
     public V1beta1ResourceManager(ApiClient client) {
-        super(true);
+        super(client, true);
         checkNotNull(client);
         extensionsV1beta1Api = new ExtensionsV1beta1Api(client);
         appsV1beta1Api = new AppsV1beta1Api(client);
@@ -42,7 +44,7 @@ public class V1beta1ResourceManager extends ResourceManager {
     }
 
     public V1beta1ResourceManager(ApiClient client, boolean pretty) {
-        super(pretty);
+        super(client, pretty);
         checkNotNull(client);
         extensionsV1beta1Api = new ExtensionsV1beta1Api(client);
         appsV1beta1Api = new AppsV1beta1Api(client);
@@ -60,6 +62,11 @@ public class V1beta1ResourceManager extends ResourceManager {
         return this;
     }
 
+    @Override
+    void notifyUnchanged(Object current) {
+        resourceUpdateMonitor.onResourceUnchanged(current);
+    }
+
     class ReplicaSetUpdater extends ResourceUpdater<V1beta1ReplicaSet> {
         ReplicaSetUpdater(V1beta1ReplicaSet replicaSet) {
             super(replicaSet);
@@ -107,13 +114,27 @@ public class V1beta1ResourceManager extends ResourceManager {
             try {
                 result = extensionsV1beta1Api.deleteNamespacedReplicaSet(
                         getName(), getNamespace(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return extensionsV1beta1Api.patchNamespacedReplicaSetCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return extensionsV1beta1Api.listNamespacedReplicaSetCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1beta1ReplicaSet original, V1beta1ReplicaSet current) {
             resourceUpdateMonitor.onReplicaSetUpdate(original, current);
@@ -167,13 +188,27 @@ public class V1beta1ResourceManager extends ResourceManager {
             try {
                 result = extensionsV1beta1Api.deleteNamespacedDaemonSet(
                         getName(), getNamespace(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return extensionsV1beta1Api.patchNamespacedDaemonSetCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return extensionsV1beta1Api.listNamespacedDaemonSetCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1beta1DaemonSet original, V1beta1DaemonSet current) {
             resourceUpdateMonitor.onDaemonSetUpdate(original, current);
@@ -228,7 +263,7 @@ public class V1beta1ResourceManager extends ResourceManager {
             try {
                 result = extensionsV1beta1Api.deleteNamespacedIngress(
                         getName(), getNamespace(),
-                        getPretty(), null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        getPretty(), null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
@@ -236,6 +271,20 @@ public class V1beta1ResourceManager extends ResourceManager {
         }
 
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return extensionsV1beta1Api.patchNamespacedIngressCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return extensionsV1beta1Api.listNamespacedIngressCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(ExtensionsV1beta1Ingress original, ExtensionsV1beta1Ingress current) {
             resourceUpdateMonitor.onExtensionsIngressUpdate(original, current);
@@ -289,7 +338,7 @@ public class V1beta1ResourceManager extends ResourceManager {
             try {
                 result = networkingV1beta1Api.deleteNamespacedIngress(
                         getName(), getNamespace(),
-                        getPretty(), null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        getPretty(), null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
@@ -297,6 +346,20 @@ public class V1beta1ResourceManager extends ResourceManager {
         }
 
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return networkingV1beta1Api.patchNamespacedIngressCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return networkingV1beta1Api.listNamespacedIngressCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(NetworkingV1beta1Ingress original, NetworkingV1beta1Ingress current) {
             resourceUpdateMonitor.onNetworkingIngressUpdate(original, current);
@@ -352,7 +415,7 @@ public class V1beta1ResourceManager extends ResourceManager {
             try {
                 result = extensionsV1beta1Api.deleteNamespacedDeployment(
                         getName(), getNamespace(),
-                        getPretty(), null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        getPretty(), null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
@@ -360,6 +423,20 @@ public class V1beta1ResourceManager extends ResourceManager {
         }
 
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return extensionsV1beta1Api.patchNamespacedDeploymentCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return extensionsV1beta1Api.listNamespacedDeploymentCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(ExtensionsV1beta1Deployment original, ExtensionsV1beta1Deployment current) {
             resourceUpdateMonitor.onDeploymentUpdate(original, current);
@@ -414,13 +491,27 @@ public class V1beta1ResourceManager extends ResourceManager {
             try {
                 result = appsV1beta1Api.deleteNamespacedDeployment(
                         getName(), getNamespace(),
-                        getPretty(), null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        getPretty(), null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return appsV1beta1Api.patchNamespacedDeploymentCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return appsV1beta1Api.listNamespacedDeploymentCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(AppsV1beta1Deployment original, AppsV1beta1Deployment current) {
             resourceUpdateMonitor.onDeploymentUpdate(original, current);
@@ -474,13 +565,27 @@ public class V1beta1ResourceManager extends ResourceManager {
             try {
                 result = appsV1beta1Api.deleteNamespacedStatefulSet(
                         getName(), getNamespace(),
-                        getPretty(), null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        getPretty(), null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return appsV1beta1Api.patchNamespacedStatefulSetCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return appsV1beta1Api.listNamespacedStatefulSetCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1beta1StatefulSet original, V1beta1StatefulSet current) {
             resourceUpdateMonitor.onStatefulSetUpdate(original, current);
@@ -534,13 +639,27 @@ public class V1beta1ResourceManager extends ResourceManager {
             try {
                 result = batchV1beta1Api.deleteNamespacedCronJob(
                         getName(), getNamespace(),
-                        getPretty(), null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        getPretty(), null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return batchV1beta1Api.patchNamespacedCronJobCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return batchV1beta1Api.listNamespacedCronJobCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1beta1CronJob original, V1beta1CronJob current) {
             resourceUpdateMonitor.onCronJobUpdate(original, current);
@@ -35,6 +35,15 @@ public interface V1beta1ResourceUpdateMonitor {
 
     void onCronJobUpdate(V1beta1CronJob original, V1beta1CronJob current);
 
+    /**
+     * Called when the write of a resource is skipped, as the live resource was last written with the same
+     * configuration.
+     *
+     * @param current the live resource
+     */
+    default void onResourceUnchanged(Object current) {
+    }
+
     class Adapter implements V1beta1ResourceUpdateMonitor {
         @Override
         public void onExtensionsIngressUpdate(ExtensionsV1beta1Ingress original, ExtensionsV1beta1Ingress current) {
@@ -1,6 +1,7 @@
 package com.microsoft.jenkins.kubernetes.wrapper;
 
 import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1beta2Api;
@@ -9,6 +10,7 @@ import io.kubernetes.client.openapi.models.V1beta2DaemonSet;
 import io.kubernetes.client.openapi.models.V1beta2Deployment;
 import io.kubernetes.client.openapi.models.V1beta2ReplicaSet;
 import io.kubernetes.client.openapi.models.V1beta2StatefulSet;
+import okhttp3.Call;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -17,13 +19,13 @@ public class V1beta2ResourceManager extends ResourceManager {
     private V1beta2ResourceUpdateMonitor resourceUpdateMonitor = V1beta2ResourceUpdateMonitor.NOOP;
 
     public V1beta2ResourceManager(ApiClient client) {
-        super(true);
+        super(client, true);
         checkNotNull(client);
         appsV1beta2Api = new AppsV1beta2Api(client);
     }
 
     public V1beta2ResourceManager(ApiClient client, boolean pretty) {
-        super(pretty);
+        super(client, pretty);
         checkNotNull(client);
         appsV1beta2Api = new AppsV1beta2Api(client);
     }
@@ -38,6 +40,11 @@ public class V1beta2ResourceManager extends ResourceManager {
         return this;
     }
 
+    @Override
+    void notifyUnchanged(Object current) {
+        resourceUpdateMonitor.onResourceUnchanged(current);
+    }
+
 
     class DeploymentUpdater extends ResourceUpdater<V1beta2Deployment> {
         DeploymentUpdater(V1beta2Deployment deployment) {
@@ -86,13 +93,27 @@ public class V1beta2ResourceManager extends ResourceManager {
             try {
                 result = appsV1beta2Api.deleteNamespacedDeployment(
                         getName(), getNamespace(), getPretty(), null,
-                        null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return appsV1beta2Api.patchNamespacedDeploymentCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return appsV1beta2Api.listNamespacedDeploymentCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1beta2Deployment original, V1beta2Deployment current) {
             resourceUpdateMonitor.onDeploymentUpdate(original, current);
@@ -146,7 +167,7 @@ public class V1beta2ResourceManager extends ResourceManager {
             try {
                 result = appsV1beta2Api.deleteNamespacedDaemonSet(
                         getName(), getNamespace(), getPretty(), null,
-                        null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
@@ -154,6 +175,20 @@ public class V1beta2ResourceManager extends ResourceManager {
         }
 
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return appsV1beta2Api.patchNamespacedDaemonSetCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return appsV1beta2Api.listNamespacedDaemonSetCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1beta2DaemonSet original, V1beta2DaemonSet current) {
             resourceUpdateMonitor.onDaemonSetUpdate(original, current);
@@ -207,13 +242,27 @@ public class V1beta2ResourceManager extends ResourceManager {
             try {
                 result = appsV1beta2Api.deleteNamespacedReplicaSet(
                         getName(), getNamespace(), getPretty(), null,
-                        null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return appsV1beta2Api.patchNamespacedReplicaSetCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return appsV1beta2Api.listNamespacedReplicaSetCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1beta2ReplicaSet original, V1beta2ReplicaSet current) {
             resourceUpdateMonitor.onReplicaSetUpdate(original, current);
@@ -267,13 +316,27 @@ public class V1beta2ResourceManager extends ResourceManager {
             try {
                 result = appsV1beta2Api.deleteNamespacedStatefulSet(
                         getName(), getNamespace(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return appsV1beta2Api.patchNamespacedStatefulSetCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return appsV1beta2Api.listNamespacedStatefulSetCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V1beta2StatefulSet original, V1beta2StatefulSet current) {
             resourceUpdateMonitor.onStatefulSetUpdate(original, current);
@@ -18,6 +18,15 @@ public interface V1beta2ResourceUpdateMonitor {
 
     void onStatefulSetUpdate(V1beta2StatefulSet original, V1beta2StatefulSet current);
 
+    /**
+     * Called when the write of a resource is skipped, as the live resource was last written with the same
+     * configuration.
+     *
+     * @param current the live resource
+     */
+    default void onResourceUnchanged(Object current) {
+    }
+
     class Adapter implements V1beta2ResourceUpdateMonitor {
 
         @Override
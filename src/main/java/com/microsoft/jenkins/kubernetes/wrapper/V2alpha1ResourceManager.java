@@ -1,11 +1,13 @@
 package com.microsoft.jenkins.kubernetes.wrapper;
 
 import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.BatchV2alpha1Api;
 import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.openapi.models.V2alpha1CronJob;
+import okhttp3.Call;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -16,7 +18,7 @@ public class V2alpha1ResourceManager extends ResourceManager {
     private V2alpha1ResourceUpdateMonitor resourceUpdateMonitor = V2alpha1ResourceUpdateMonitor.NOOP;
 
     public V2alpha1ResourceManager(ApiClient client) {
-        super(true);
+        super(client, true);
         checkNotNull(client);
 
         batchV2alpha1Api = new BatchV2alpha1Api(client);
@@ -24,7 +26,7 @@ public class V2alpha1ResourceManager extends ResourceManager {
     }
 
     public V2alpha1ResourceManager(ApiClient client, boolean pretty) {
-        super(pretty);
+        super(client, pretty);
         checkNotNull(client);
 
         batchV2alpha1Api = new BatchV2alpha1Api(client);
@@ -40,6 +42,11 @@ public class V2alpha1ResourceManager extends ResourceManager {
         return this;
     }
 
+    @Override
+    void notifyUnchanged(Object current) {
+        resourceUpdateMonitor.onResourceUnchanged(current);
+    }
+
     class CronJobUpdater extends ResourceUpdater<V2alpha1CronJob> {
         CronJobUpdater(V2alpha1CronJob namespace) {
             super(namespace);
@@ -87,13 +94,27 @@ public class V2alpha1ResourceManager extends ResourceManager {
             try {
                 result = batchV2alpha1Api.deleteNamespacedCronJob(
                         getName(), getNamespace(), getPretty(),
-                        null, null, null, null, Constants.BACKGROUND_DELETEION);
+                        null, null, null, null, deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return batchV2alpha1Api.patchNamespacedCronJobCall(getName(), getNamespace(), patch, getPretty(),
+                    null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return batchV2alpha1Api.listNamespacedCronJobCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V2alpha1CronJob original, V2alpha1CronJob current) {
             resourceUpdateMonitor.onCronJobUpdate(original, current);
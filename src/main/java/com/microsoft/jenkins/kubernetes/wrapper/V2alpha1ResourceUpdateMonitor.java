@@ -10,6 +10,15 @@ public interface V2alpha1ResourceUpdateMonitor {
     void onCronJobUpdate(
             V2alpha1CronJob original, V2alpha1CronJob current);
 
+    /**
+     * Called when the write of a resource is skipped, as the live resource was last written with the same
+     * configuration.
+     *
+     * @param current the live resource
+     */
+    default void onResourceUnchanged(Object current) {
+    }
+
     class Adapter implements V2alpha1ResourceUpdateMonitor {
 
         @Override
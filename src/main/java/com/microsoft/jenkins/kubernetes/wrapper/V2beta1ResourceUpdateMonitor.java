@@ -10,6 +10,15 @@ public interface V2beta1ResourceUpdateMonitor {
     void onHorizontalPodAutoscalerUpdate(
             V2beta1HorizontalPodAutoscaler original, V2beta1HorizontalPodAutoscaler current);
 
+    /**
+     * Called when the write of a resource is skipped, as the live resource was last written with the same
+     * configuration.
+     *
+     * @param current the live resource
+     */
+    default void onResourceUnchanged(Object current) {
+    }
+
     class Adapter implements V2beta1ResourceUpdateMonitor {
 
         @Override
@@ -1,11 +1,13 @@
 package com.microsoft.jenkins.kubernetes.wrapper;
 
 import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AutoscalingV2beta2Api;
 import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscaler;
+import okhttp3.Call;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -15,7 +17,7 @@ public class V2beta2ResourceManager extends ResourceManager {
     private V2beta2ResourceUpdateMonitor resourceUpdateMonitor = V2beta2ResourceUpdateMonitor.NOOP;
 
     public V2beta2ResourceManager(ApiClient client) {
-        super(true);
+        super(client, true);
         checkNotNull(client);
 
         autoscalingV2beta2Api = new AutoscalingV2beta2Api(client);
@@ -23,7 +25,7 @@ public class V2beta2ResourceManager extends ResourceManager {
     }
 
     public V2beta2ResourceManager(ApiClient client, boolean pretty) {
-        super(pretty);
+        super(client, pretty);
         checkNotNull(client);
 
         autoscalingV2beta2Api = new AutoscalingV2beta2Api(client);
@@ -39,6 +41,11 @@ public class V2beta2ResourceManager extends ResourceManager {
         return this;
     }
 
+    @Override
+    void notifyUnchanged(Object current) {
+        resourceUpdateMonitor.onResourceUnchanged(current);
+    }
+
     class HorizontalPodAutoscalerUpdater extends ResourceUpdater<V2beta2HorizontalPodAutoscaler> {
         HorizontalPodAutoscalerUpdater(V2beta2HorizontalPodAutoscaler namespace) {
             super(namespace);
@@ -87,13 +94,27 @@ public class V2beta2ResourceManager extends ResourceManager {
             try {
                 result = autoscalingV2beta2Api.deleteNamespacedHorizontalPodAutoscaler(
                         getName(), getNamespace(), getPretty(), null, null, null, null,
-                        Constants.BACKGROUND_DELETEION);
+                        deleteOptions(Constants.BACKGROUND_DELETEION));
             } catch (ApiException e) {
                 handleApiExceptionExceptNotFound(e);
             }
             return result;
         }
 
+        @Override
+        Call applyCall(V1Patch patch) throws ApiException {
+            return autoscalingV2beta2Api.patchNamespacedHorizontalPodAutoscalerCall(
+                    getName(), getNamespace(), patch, getPretty(), null, getFieldManager(), true, null);
+        }
+
+        @Override
+        Call listCall(ListRequest request) throws ApiException {
+            return autoscalingV2beta2Api.listNamespacedHorizontalPodAutoscalerCall(getNamespace(), getPretty(),
+                    request.getAllowWatchBookmarks(), request.getContinueToken(), request.getFieldSelector(),
+                    request.getLabelSelector(), request.getLimit(), request.getResourceVersion(),
+                    request.getTimeoutSeconds(), request.getWatch(), null);
+        }
+
         @Override
         void notifyUpdate(V2beta2HorizontalPodAutoscaler original, V2beta2HorizontalPodAutoscaler current) {
             resourceUpdateMonitor.onHorizontalPodAutoscalerUpdate(original, current);
@@ -10,6 +10,15 @@ public interface V2beta2ResourceUpdateMonitor {
     void onHorizontalPodAutoscalerUpdate(
             V2beta2HorizontalPodAutoscaler original, V2beta2HorizontalPodAutoscaler current);
 
+    /**
+     * Called when the write of a resource is skipped, as the live resource was last written with the same
+     * configuration.
+     *
+     * @param current the live resource
+     */
+    default void onResourceUnchanged(Object current) {
+    }
+
     class Adapter implements V2beta2ResourceUpdateMonitor {
 
         @Override
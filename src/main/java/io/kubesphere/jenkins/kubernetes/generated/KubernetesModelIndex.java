@@ -0,0 +1,127 @@
+package io.kubesphere.jenkins.kubernetes.generated;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Generated by KubernetesModelIndexGen, do not edit.
+ * <p>
+ * Maps the {@code apiVersion/kind} of the top-level Kubernetes kinds to the names of their model classes, so that
+ * a model class is only loaded when a manifest uses it.
+ */
+public final class KubernetesModelIndex {
+
+  private static final Map<String, String> KINDS;
+
+  static {
+    Map<String, String> kinds = new HashMap<>();
+    kinds.put("apps/v1beta1/Deployment", "io.kubernetes.client.openapi.models.AppsV1beta1Deployment");
+    kinds.put("apps/v1beta1/Scale", "io.kubernetes.client.openapi.models.AppsV1beta1Scale");
+    kinds.put("extensions/v1beta1/Deployment", "io.kubernetes.client.openapi.models.ExtensionsV1beta1Deployment");
+    kinds.put("extensions/v1beta1/Ingress", "io.kubernetes.client.openapi.models.ExtensionsV1beta1Ingress");
+    kinds.put("extensions/v1beta1/PodSecurityPolicy", "io.kubernetes.client.openapi.models.ExtensionsV1beta1PodSecurityPolicy");
+    kinds.put("extensions/v1beta1/Scale", "io.kubernetes.client.openapi.models.ExtensionsV1beta1Scale");
+    kinds.put("networking.k8s.io/v1beta1/Ingress", "io.kubernetes.client.openapi.models.NetworkingV1beta1Ingress");
+    kinds.put("policy/v1beta1/PodSecurityPolicy", "io.kubernetes.client.openapi.models.PolicyV1beta1PodSecurityPolicy");
+    kinds.put("v1/APIService", "io.kubernetes.client.openapi.models.V1APIService");
+    kinds.put("v1/Binding", "io.kubernetes.client.openapi.models.V1Binding");
+    kinds.put("v1/ClusterRole", "io.kubernetes.client.openapi.models.V1ClusterRole");
+    kinds.put("v1/ClusterRoleBinding", "io.kubernetes.client.openapi.models.V1ClusterRoleBinding");
+    kinds.put("v1/ComponentStatus", "io.kubernetes.client.openapi.models.V1ComponentStatus");
+    kinds.put("v1/ConfigMap", "io.kubernetes.client.openapi.models.V1ConfigMap");
+    kinds.put("v1/ControllerRevision", "io.kubernetes.client.openapi.models.V1ControllerRevision");
+    kinds.put("v1/DaemonSet", "io.kubernetes.client.openapi.models.V1DaemonSet");
+    kinds.put("v1/Deployment", "io.kubernetes.client.openapi.models.V1Deployment");
+    kinds.put("v1/Endpoints", "io.kubernetes.client.openapi.models.V1Endpoints");
+    kinds.put("v1/Event", "io.kubernetes.client.openapi.models.V1Event");
+    kinds.put("v1/HorizontalPodAutoscaler", "io.kubernetes.client.openapi.models.V1HorizontalPodAutoscaler");
+    kinds.put("v1/Job", "io.kubernetes.client.openapi.models.V1Job");
+    kinds.put("v1/Lease", "io.kubernetes.client.openapi.models.V1Lease");
+    kinds.put("v1/LimitRange", "io.kubernetes.client.openapi.models.V1LimitRange");
+    kinds.put("v1/LocalSubjectAccessReview", "io.kubernetes.client.openapi.models.V1LocalSubjectAccessReview");
+    kinds.put("v1/Namespace", "io.kubernetes.client.openapi.models.V1Namespace");
+    kinds.put("v1/NetworkPolicy", "io.kubernetes.client.openapi.models.V1NetworkPolicy");
+    kinds.put("v1/Node", "io.kubernetes.client.openapi.models.V1Node");
+    kinds.put("v1/PersistentVolume", "io.kubernetes.client.openapi.models.V1PersistentVolume");
+    kinds.put("v1/PersistentVolumeClaim", "io.kubernetes.client.openapi.models.V1PersistentVolumeClaim");
+    kinds.put("v1/Pod", "io.kubernetes.client.openapi.models.V1Pod");
+    kinds.put("v1/PodTemplate", "io.kubernetes.client.openapi.models.V1PodTemplate");
+    kinds.put("v1/PriorityClass", "io.kubernetes.client.openapi.models.V1PriorityClass");
+    kinds.put("v1/ReplicaSet", "io.kubernetes.client.openapi.models.V1ReplicaSet");
+    kinds.put("v1/ReplicationController", "io.kubernetes.client.openapi.models.V1ReplicationController");
+    kinds.put("v1/ResourceQuota", "io.kubernetes.client.openapi.models.V1ResourceQuota");
+    kinds.put("v1/Role", "io.kubernetes.client.openapi.models.V1Role");
+    kinds.put("v1/RoleBinding", "io.kubernetes.client.openapi.models.V1RoleBinding");
+    kinds.put("v1/Scale", "io.kubernetes.client.openapi.models.V1Scale");
+    kinds.put("v1/Secret", "io.kubernetes.client.openapi.models.V1Secret");
+    kinds.put("v1/SelfSubjectAccessReview", "io.kubernetes.client.openapi.models.V1SelfSubjectAccessReview");
+    kinds.put("v1/SelfSubjectRulesReview", "io.kubernetes.client.openapi.models.V1SelfSubjectRulesReview");
+    kinds.put("v1/Service", "io.kubernetes.client.openapi.models.V1Service");
+    kinds.put("v1/ServiceAccount", "io.kubernetes.client.openapi.models.V1ServiceAccount");
+    kinds.put("v1/StatefulSet", "io.kubernetes.client.openapi.models.V1StatefulSet");
+    kinds.put("v1/StorageClass", "io.kubernetes.client.openapi.models.V1StorageClass");
+    kinds.put("v1/SubjectAccessReview", "io.kubernetes.client.openapi.models.V1SubjectAccessReview");
+    kinds.put("v1/TokenReview", "io.kubernetes.client.openapi.models.V1TokenReview");
+    kinds.put("v1/VolumeAttachment", "io.kubernetes.client.openapi.models.V1VolumeAttachment");
+    kinds.put("v1alpha1/AuditSink", "io.kubernetes.client.openapi.models.V1alpha1AuditSink");
+    kinds.put("v1alpha1/ClusterRole", "io.kubernetes.client.openapi.models.V1alpha1ClusterRole");
+    kinds.put("v1alpha1/ClusterRoleBinding", "io.kubernetes.client.openapi.models.V1alpha1ClusterRoleBinding");
+    kinds.put("v1alpha1/PodPreset", "io.kubernetes.client.openapi.models.V1alpha1PodPreset");
+    kinds.put("v1alpha1/PriorityClass", "io.kubernetes.client.openapi.models.V1alpha1PriorityClass");
+    kinds.put("v1alpha1/Role", "io.kubernetes.client.openapi.models.V1alpha1Role");
+    kinds.put("v1alpha1/RoleBinding", "io.kubernetes.client.openapi.models.V1alpha1RoleBinding");
+    kinds.put("v1alpha1/RuntimeClass", "io.kubernetes.client.openapi.models.V1alpha1RuntimeClass");
+    kinds.put("v1alpha1/VolumeAttachment", "io.kubernetes.client.openapi.models.V1alpha1VolumeAttachment");
+    kinds.put("v1beta1/APIService", "io.kubernetes.client.openapi.models.V1beta1APIService");
+    kinds.put("v1beta1/CSIDriver", "io.kubernetes.client.openapi.models.V1beta1CSIDriver");
+    kinds.put("v1beta1/CSINode", "io.kubernetes.client.openapi.models.V1beta1CSINode");
+    kinds.put("v1beta1/CertificateSigningRequest", "io.kubernetes.client.openapi.models.V1beta1CertificateSigningRequest");
+    kinds.put("v1beta1/ClusterRole", "io.kubernetes.client.openapi.models.V1beta1ClusterRole");
+    kinds.put("v1beta1/ClusterRoleBinding", "io.kubernetes.client.openapi.models.V1beta1ClusterRoleBinding");
+    kinds.put("v1beta1/ControllerRevision", "io.kubernetes.client.openapi.models.V1beta1ControllerRevision");
+    kinds.put("v1beta1/CronJob", "io.kubernetes.client.openapi.models.V1beta1CronJob");
+    kinds.put("v1beta1/CustomResourceDefinition", "io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinition");
+    kinds.put("v1beta1/DaemonSet", "io.kubernetes.client.openapi.models.V1beta1DaemonSet");
+    kinds.put("v1beta1/Event", "io.kubernetes.client.openapi.models.V1beta1Event");
+    kinds.put("v1beta1/Eviction", "io.kubernetes.client.openapi.models.V1beta1Eviction");
+    kinds.put("v1beta1/Lease", "io.kubernetes.client.openapi.models.V1beta1Lease");
+    kinds.put("v1beta1/LocalSubjectAccessReview", "io.kubernetes.client.openapi.models.V1beta1LocalSubjectAccessReview");
+    kinds.put("v1beta1/MutatingWebhookConfiguration", "io.kubernetes.client.openapi.models.V1beta1MutatingWebhookConfiguration");
+    kinds.put("v1beta1/NetworkPolicy", "io.kubernetes.client.openapi.models.V1beta1NetworkPolicy");
+    kinds.put("v1beta1/PodDisruptionBudget", "io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget");
+    kinds.put("v1beta1/PriorityClass", "io.kubernetes.client.openapi.models.V1beta1PriorityClass");
+    kinds.put("v1beta1/ReplicaSet", "io.kubernetes.client.openapi.models.V1beta1ReplicaSet");
+    kinds.put("v1beta1/Role", "io.kubernetes.client.openapi.models.V1beta1Role");
+    kinds.put("v1beta1/RoleBinding", "io.kubernetes.client.openapi.models.V1beta1RoleBinding");
+    kinds.put("v1beta1/RuntimeClass", "io.kubernetes.client.openapi.models.V1beta1RuntimeClass");
+    kinds.put("v1beta1/SelfSubjectAccessReview", "io.kubernetes.client.openapi.models.V1beta1SelfSubjectAccessReview");
+    kinds.put("v1beta1/SelfSubjectRulesReview", "io.kubernetes.client.openapi.models.V1beta1SelfSubjectRulesReview");
+    kinds.put("v1beta1/StatefulSet", "io.kubernetes.client.openapi.models.V1beta1StatefulSet");
+    kinds.put("v1beta1/StorageClass", "io.kubernetes.client.openapi.models.V1beta1StorageClass");
+    kinds.put("v1beta1/SubjectAccessReview", "io.kubernetes.client.openapi.models.V1beta1SubjectAccessReview");
+    kinds.put("v1beta1/TokenReview", "io.kubernetes.client.openapi.models.V1beta1TokenReview");
+    kinds.put("v1beta1/ValidatingWebhookConfiguration", "io.kubernetes.client.openapi.models.V1beta1ValidatingWebhookConfiguration");
+    kinds.put("v1beta1/VolumeAttachment", "io.kubernetes.client.openapi.models.V1beta1VolumeAttachment");
+    kinds.put("v1beta2/ControllerRevision", "io.kubernetes.client.openapi.models.V1beta2ControllerRevision");
+    kinds.put("v1beta2/DaemonSet", "io.kubernetes.client.openapi.models.V1beta2DaemonSet");
+    kinds.put("v1beta2/Deployment", "io.kubernetes.client.openapi.models.V1beta2Deployment");
+    kinds.put("v1beta2/ReplicaSet", "io.kubernetes.client.openapi.models.V1beta2ReplicaSet");
+    kinds.put("v1beta2/Scale", "io.kubernetes.client.openapi.models.V1beta2Scale");
+    kinds.put("v1beta2/StatefulSet", "io.kubernetes.client.openapi.models.V1beta2StatefulSet");
+    kinds.put("v2alpha1/CronJob", "io.kubernetes.client.openapi.models.V2alpha1CronJob");
+    kinds.put("v2beta1/HorizontalPodAutoscaler", "io.kubernetes.client.openapi.models.V2beta1HorizontalPodAutoscaler");
+    kinds.put("v2beta2/HorizontalPodAutoscaler", "io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscaler");
+    KINDS = Collections.unmodifiableMap(kinds);
+  }
+
+  private KubernetesModelIndex() {
+  }
+
+  /**
+   * @return the model class names, keyed by {@code apiVersion/kind}, where the API group is omitted for the core group
+   */
+  public static Map<String, String> getKinds() {
+    return KINDS;
+  }
+}
@@ -0,0 +1,111 @@
+import com.google.common.reflect.ClassPath
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import io.kubernetes.client.util.Yaml
+
+class KubernetesModelIndexGen {
+
+    // Prefixes of the model class names, mapped to their API groups
+    static final Map<String, String> API_GROUPS = [
+            'Admissionregistration': 'admissionregistration.k8s.io',
+            'Apiextensions'        : 'apiextensions.k8s.io',
+            'Apiregistration'      : 'apiregistration.k8s.io',
+            'Apps'                 : 'apps',
+            'Authentication'       : 'authentication.k8s.io',
+            'Authorization'        : 'authorization.k8s.io',
+            'Autoscaling'          : 'autoscaling',
+            'Extensions'           : 'extensions',
+            'Batch'                : 'batch',
+            'Certificates'         : 'certificates.k8s.io',
+            'Networking'           : 'networking.k8s.io',
+            'Policy'               : 'policy',
+            'RbacAuthorization'    : 'rbac.authorization.k8s.io',
+            'Scheduling'           : 'scheduling.k8s.io',
+            'Settings'             : 'settings.k8s.io',
+            'Storage'              : 'storage.k8s.io',
+    ]
+
+    // Order important
+    static final List<String> API_VERSIONS = ['V2beta1', 'V2beta2', 'V2alpha1', 'V1beta2', 'V1beta1', 'V1alpha1', 'V1']
+
+    public generate( project, String packageName, String className ) {
+
+        // Where to write the classes
+        File targetDirectory = new File( project.basedir.toString() + '/src/main/java' )
+
+        ClassPath cp = ClassPath.from(Yaml.class.getClassLoader());
+        Set<ClassPath.ClassInfo> allClasses = cp.getTopLevelClasses("io.kubernetes.client.openapi.models");
+
+        // Only the top-level kinds, i.e., the models with an apiVersion, a kind and an object metadata
+        Map<String, String> kinds = new TreeMap<>()
+        for (ClassPath.ClassInfo info : allClasses) {
+            if (!isKind(info.load())) {
+                continue
+            }
+            String name = info.simpleName
+            String apiGroupVersion = ''
+            String group = API_GROUPS.keySet().find { name.startsWith(it) }
+            if (group != null) {
+                apiGroupVersion += API_GROUPS[group] + '/'
+                name = name.substring(group.length())
+            }
+            String version = API_VERSIONS.find { name.startsWith(it) }
+            if (version != null) {
+                apiGroupVersion += version.toLowerCase()
+                name = name.substring(version.length())
+            }
+            kinds.put(apiGroupVersion + '/' + name, info.name)
+        }
+
+        // The directory to write the source to
+        File packageDir = new File( targetDirectory, packageName.replace( '.', '/' ) )
+
+        def out = []
+        out<<'package '+packageName+';\n\n'
+
+        out<<'import java.util.Collections;\n'
+        out<<'import java.util.HashMap;\n'
+        out<<'import java.util.Map;\n\n'
+        out<<'/**\n'
+        out<<' * Generated by KubernetesModelIndexGen, do not edit.\n'
+        out<<' * <p>\n'
+        out<<' * Maps the {@code apiVersion/kind} of the top-level Kubernetes kinds to the names of their model classes, so that\n'
+        out<<' * a model class is only loaded when a manifest uses it.\n'
+        out<<' */\n'
+        out<<'public final class '+className+' {\n\n'
+        out<<'  private static final Map<String, String> KINDS;\n\n'
+        out<<'  static {\n'
+        out<<'    Map<String, String> kinds = new HashMap<>();\n'
+        kinds.each { key, value ->
+            out<<'    kinds.put("'+key+'", "'+value+'");\n'
+        }
+        out<<'    KINDS = Collections.unmodifiableMap(kinds);\n'
+        out<<'  }\n\n'
+        out<<'  private '+className+'() {\n'
+        out<<'  }\n\n'
+        out<<'  /**\n'
+        out<<'   * @return the model class names, keyed by {@code apiVersion/kind}, where the API group is omitted for the core group\n'
+        out<<'   */\n'
+        out<<'  public static Map<String, String> getKinds() {\n'
+        out<<'    return KINDS;\n'
+        out<<'  }\n'
+        out<<'}\n'
+
+        // Convert the array into a string
+        StringBuilder sb = new StringBuilder()
+        out.each { sb.append(it) }
+
+        // Now write the source, ensuring the directory exists first
+        packageDir.mkdirs()
+        new File( packageDir, className + ".java" ).write( sb.toString() );
+    }
+
+    private static boolean isKind(Class clazz) {
+        try {
+            return clazz.getMethod('getApiVersion') != null && clazz.getMethod('getKind') != null &&
+                    clazz.getMethod('getMetadata').returnType == V1ObjectMeta
+        } catch (NoSuchMethodException ignored) {
+            return false
+        }
+    }
+
+}
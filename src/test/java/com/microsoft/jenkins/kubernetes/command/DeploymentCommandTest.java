@@ -5,6 +5,8 @@ import io.kubernetes.client.openapi.ApiClient;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -29,4 +31,26 @@ public class DeploymentCommandTest {
         when(client.getBasePath()).thenReturn(host);
         assertEquals(host, DeploymentCommand.getMasterHost(wrapper));
     }
+
+    @Test
+    public void testApplySet() {
+        String applySet = DeploymentCommand.applySet("folder/job", null, "cluster-a", "k8s/*.yaml");
+        assertEquals(32, applySet.length());
+        assertTrue(applySet.matches("[0-9a-f]+"));
+        assertEquals(applySet, DeploymentCommand.applySet("folder/job", "", "cluster-a", "k8s/*.yaml"));
+        assertNotEquals(applySet, DeploymentCommand.applySet("folder/job", null, "cluster-a", "other/*.yaml"));
+        assertNotEquals(applySet, DeploymentCommand.applySet("folder/other", null, "cluster-a", "k8s/*.yaml"));
+        // the same files deployed to another cluster, or with other credentials
+        assertNotEquals(applySet, DeploymentCommand.applySet("folder/job", null, "cluster-b", "k8s/*.yaml"));
+    }
+
+    @Test
+    public void testNamedApplySet() {
+        String applySet = DeploymentCommand.applySet("folder/job", "blue", "cluster-a", "k8s/*.yaml");
+        assertNotEquals(applySet, DeploymentCommand.applySet("folder/job", null, "cluster-a", "k8s/*.yaml"));
+        assertNotEquals(applySet, DeploymentCommand.applySet("folder/job", "green", "cluster-a", "k8s/*.yaml"));
+        assertNotEquals(applySet, DeploymentCommand.applySet("folder/other", "blue", "cluster-a", "k8s/*.yaml"));
+        // a named apply set follows its objects when the credentials or the files change
+        assertEquals(applySet, DeploymentCommand.applySet("folder/job", "blue", "cluster-b", "other/*.yaml"));
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.command;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import hudson.model.Run;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link IncrementalDeployAction}.
+ */
+public class IncrementalDeployActionTest {
+    @Test
+    public void testTarget() {
+        String target = IncrementalDeployAction.target("cluster", "*.yaml");
+        assertEquals(target, IncrementalDeployAction.target("cluster", "*.yaml"));
+        assertNotEquals(target, IncrementalDeployAction.target("cluster", "*.yml"));
+        assertNotEquals(target, IncrementalDeployAction.target("other", "*.yaml"));
+    }
+
+    @Test
+    public void testLatestRecords() {
+        IncrementalDeployAction current = record("a", 3);
+        IncrementalDeployAction previousA = record("a", 2);
+        IncrementalDeployAction previousB = record("b", 2);
+        IncrementalDeployAction older = record("c", 1);
+
+        Run<?, ?> oldest = run(null, older);
+        Run<?, ?> invalidating = run(oldest, record("c", 1), IncrementalDeployAction.invalidated());
+        Run<?, ?> previous = run(invalidating, previousB, previousA);
+        Run<?, ?> run = run(previous, current);
+
+        assertEquals(Arrays.asList(current, previousB), IncrementalDeployAction.latestRecords(run));
+        assertEquals(Arrays.asList(previousA, previousB), IncrementalDeployAction.latestRecords(previous));
+        assertTrue(IncrementalDeployAction.latestRecords(invalidating).isEmpty());
+        assertEquals(Collections.singletonList(older), IncrementalDeployAction.latestRecords(oldest));
+    }
+
+    private static IncrementalDeployAction record(String target, long fullSyncTime) {
+        return new IncrementalDeployAction(target, ImmutableMap.of("app.yaml", target), fullSyncTime);
+    }
+
+    private static Run<?, ?> run(Run<?, ?> previous, IncrementalDeployAction... actions) {
+        Run<?, ?> run = mock(Run.class);
+        List<IncrementalDeployAction> list = ImmutableList.copyOf(actions);
+        doReturn(list).when(run).getActions(IncrementalDeployAction.class);
+        doReturn(previous).when(run).getPreviousBuild();
+        return run;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.command;
+
+import hudson.FilePath;
+import jenkins.security.MasterToSlaveCallable;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link NodeTask}.
+ */
+public class NodeTaskTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSuccess() throws Exception {
+        Result<String> result = new Result<>();
+        NodeTask.start(new FilePath(folder.getRoot()), new Task("done", null), result);
+        assertEquals("done", result.get());
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        Result<String> result = new Result<>();
+        NodeTask.start(new FilePath(folder.getRoot()), new Task(null, null), result);
+        try {
+            result.get();
+            fail("Should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause().getMessage().contains("failed"));
+        }
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Result<String> result = new Result<>();
+        NodeTask.Handle handle = NodeTask.start(new FilePath(folder.getRoot()), new Task(null, started), result);
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        handle.cancel();
+        try {
+            result.get();
+            fail("Should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause().getMessage().contains("InterruptedException"));
+        }
+    }
+
+    @Test
+    public void testCalledOnce() throws Exception {
+        Result<String> result = new Result<>();
+        AtomicInteger done = new AtomicInteger();
+        NodeTask.Once<String> once = new NodeTask.Once<>(result);
+        once.whenDone(done::incrementAndGet);
+        once.onFailure(new IllegalStateException("closed"));
+        once.onSuccess("done");
+        once.onFailure(new IllegalStateException("again"));
+        assertEquals(1, done.get());
+        try {
+            result.get();
+            fail("Should fail");
+        } catch (ExecutionException e) {
+            assertEquals("closed", e.getCause().getMessage());
+        }
+    }
+
+    private static final class Task extends MasterToSlaveCallable<String, Exception> {
+        private static final long serialVersionUID = 1L;
+
+        private final String value;
+        private final transient CountDownLatch started;
+
+        Task(String value, CountDownLatch started) {
+            this.value = value;
+            this.started = started;
+        }
+
+        @Override
+        public String call() throws Exception {
+            if (started != null) {
+                started.countDown();
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            }
+            if (value == null) {
+                throw new IllegalStateException("failed");
+            }
+            return value;
+        }
+    }
+
+    private static final class Result<V> extends CompletableFuture<V> implements NodeTask.Callback<V> {
+        @Override
+        public void onSuccess(V value) {
+            complete(value);
+        }
+
+        @Override
+        public void onFailure(Throwable cause) {
+            completeExceptionally(cause);
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            try {
+                return get(10, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
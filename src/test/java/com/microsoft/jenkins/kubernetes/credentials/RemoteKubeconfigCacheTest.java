@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.credentials;
+
+import com.cloudbees.jenkins.plugins.sshcredentials.SSHUserPrivateKey;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link RemoteKubeconfigCache}.
+ */
+public class RemoteKubeconfigCacheTest {
+    private static SSHUserPrivateKey credentials(String id, String username, String privateKey) {
+        SSHUserPrivateKey credentials = mock(SSHUserPrivateKey.class);
+        when(credentials.getId()).thenReturn(id);
+        when(credentials.getUsername()).thenReturn(username);
+        when(credentials.getPrivateKeys()).thenReturn(Collections.singletonList(privateKey));
+        return credentials;
+    }
+
+    @Test
+    public void testKey() {
+        String key = RemoteKubeconfigCache.key("master", 22, credentials("ssh", "azureuser", "key-a"), ".kube/config");
+        assertEquals(key,
+                RemoteKubeconfigCache.key("master", 22, credentials("ssh", "azureuser", "key-a"), ".kube/config"));
+
+        // the same ID defined in another folder, with another key
+        assertNotEquals(key,
+                RemoteKubeconfigCache.key("master", 22, credentials("ssh", "azureuser", "key-b"), ".kube/config"));
+        assertNotEquals(key,
+                RemoteKubeconfigCache.key("master", 22, credentials("ssh", "admin", "key-a"), ".kube/config"));
+        assertNotEquals(key,
+                RemoteKubeconfigCache.key("master", 2222, credentials("ssh", "azureuser", "key-a"), ".kube/config"));
+        assertNotEquals(key,
+                RemoteKubeconfigCache.key("master", 22, credentials("ssh", "azureuser", "key-a"), "config"));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.util;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import hudson.Util;
+import hudson.util.VariableResolver;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link MacroReader}.
+ */
+public class MacroReaderTest {
+    private static final VariableResolver<String> RESOLVER = new VariableResolver.ByMap<>(ImmutableMap.of(
+            "a", "1", "name", "value", "a.b", "dotted", "ref", "$a"));
+
+    @Test
+    public void testSameAsUtilReplaceMacro() throws IOException {
+        String[] inputs = {
+                "", "abcd", "$", "$$", "$$a", "$a", "${a}", "$a$b", "$ab", "${a.b}", "$a.b", "${a-b}", "${}",
+                "${a", "{$a}", "$ref", "${ref}", "x$name-y", "a: ${name}\nb: $name\n", "$-", "$${a}", "$1$_",
+        };
+        for (String input : inputs) {
+            assertEquals(input, Util.replaceMacro(input, RESOLVER), replace(input));
+        }
+    }
+
+    @Test
+    public void testAcrossChunks() throws IOException {
+        String padding = Strings.repeat("x", 8191);
+        String input = padding + "${name}" + padding + "$a";
+        assertEquals(Util.replaceMacro(input, RESOLVER), replace(input));
+    }
+
+    private static String replace(String input) throws IOException {
+        return IOUtils.toString(new MacroReader(new StringReader(input), RESOLVER));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.util;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import hudson.Util;
+import hudson.util.VariableResolver;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link MacroTemplate}.
+ */
+public class MacroTemplateTest {
+    private static final VariableResolver<String> RESOLVER = new VariableResolver.ByMap<>(ImmutableMap.of(
+            "a", "1", "name", "value", "a.b", "dotted"));
+
+    @Test
+    public void testRender() throws IOException {
+        String[] inputs = {
+                "", "abcd", "$", "$$a", "${a}", "$a$b", "${a.b}", "${a-b}", "x$name-y", "a: ${name}\nb: $name\n",
+        };
+        for (String input : inputs) {
+            MacroTemplate template = MacroTemplate.compile(new StringReader(input));
+            assertEquals(input, Util.replaceMacro(input, RESOLVER), IOUtils.toString(template.open(RESOLVER)));
+        }
+    }
+
+    @Test
+    public void testVariables() throws IOException {
+        MacroTemplate template = MacroTemplate.compile(new StringReader("$b ${a} $$c $b ${a.b} ${d-e}"));
+        assertEquals(ImmutableSet.of("b", "a", "a.b"), template.getVariables());
+    }
+
+    @Test
+    public void testCachedByContentHash() throws IOException {
+        MacroTemplate compiled = MacroTemplate.compile("testCachedByContentHash", () -> new StringReader("$a"));
+        MacroTemplate cached = MacroTemplate.compile("testCachedByContentHash", () -> {
+            throw new AssertionError("compiled again");
+        });
+        assertSame(compiled, cached);
+    }
+}
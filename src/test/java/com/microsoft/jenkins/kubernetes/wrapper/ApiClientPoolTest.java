@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ApiClientPool}.
+ */
+public class ApiClientPoolTest {
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final long EXPIRY_MILLIS = 100;
+    private static final int MAX_REQUESTS = 8;
+
+    private final AtomicInteger built = new AtomicInteger();
+
+    @Test
+    public void testSeparateCredentials() {
+        ApiClientPool pool = new ApiClientPool(HOUR_MILLIS, HOUR_MILLIS, MAX_REQUESTS);
+        ApiClient first = pool.acquire("first", factory());
+        ApiClient second = pool.acquire("second", factory());
+        assertNotSame(first, second);
+        assertNotSame(first.getHttpClient().connectionPool(), second.getHttpClient().connectionPool());
+        assertEquals(2, built.get());
+
+        // the same credentials reuse the client
+        assertSame(first, pool.acquire("first", factory()));
+        assertSame(second, pool.acquire("second", factory()));
+        assertSame(first, pool.current("first"));
+        assertEquals(2, built.get());
+        assertNull(pool.current("third"));
+    }
+
+    @Test
+    public void testMaxAge() throws Exception {
+        ApiClientPool pool = new ApiClientPool(EXPIRY_MILLIS, HOUR_MILLIS, MAX_REQUESTS);
+        ApiClient client = pool.acquire("credential", factory());
+
+        Thread.sleep(EXPIRY_MILLIS);
+        // too old to be reused
+        assertNull(pool.current("credential"));
+        ApiClient replaced = pool.acquire("credential", factory());
+        assertNotSame(client, replaced);
+        assertSame(replaced, pool.current("credential"));
+        assertEquals(2, built.get());
+    }
+
+    @Test
+    public void testIdleEviction() throws Exception {
+        ApiClientPool pool = new ApiClientPool(HOUR_MILLIS, EXPIRY_MILLIS, MAX_REQUESTS);
+        ApiClient idle = pool.acquire("idle", factory());
+
+        Thread.sleep(EXPIRY_MILLIS + 1);
+        // acquiring any client drops the ones not used for the idle time
+        ApiClient used = pool.acquire("used", factory());
+        assertNull(pool.current("idle"));
+        assertSame(used, pool.current("used"));
+        assertNotSame(idle, pool.acquire("idle", factory()));
+        assertEquals(3, built.get());
+    }
+
+    @Test
+    public void testTuned() {
+        ApiClientPool pool = new ApiClientPool(HOUR_MILLIS, HOUR_MILLIS, MAX_REQUESTS);
+        Interceptor interceptor = chain -> chain.proceed(chain.request());
+        OkHttpClient original = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+        ApiClient client = pool.acquire("credential", () -> {
+            ApiClient apiClient = new ApiClient();
+            apiClient.setHttpClient(original);
+            return apiClient;
+        });
+
+        OkHttpClient tuned = client.getHttpClient();
+        assertNotSame(original, tuned);
+        assertNotSame(original.connectionPool(), tuned.connectionPool());
+        assertNotSame(original.dispatcher(), tuned.dispatcher());
+        assertEquals(MAX_REQUESTS, tuned.dispatcher().getMaxRequestsPerHost());
+        // the interceptors of the client are kept, and the limiter added after them
+        assertEquals(2, tuned.interceptors().size());
+        assertSame(interceptor, tuned.interceptors().get(0));
+        assertTrue(tuned.interceptors().get(1) instanceof ClusterLimiterInterceptor);
+    }
+
+    private Supplier<ApiClient> factory() {
+        return () -> {
+            built.incrementAndGet();
+            return new ApiClient();
+        };
+    }
+}
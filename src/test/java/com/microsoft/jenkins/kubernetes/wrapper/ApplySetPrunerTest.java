@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1Ingress;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1HorizontalPodAutoscaler;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1beta1CronJob;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ApplySetPruner}.
+ */
+public class ApplySetPrunerTest {
+    @Test
+    public void testKinds() {
+        assertEquals(Arrays.asList("Deployment", "Service", "ConfigMap"),
+                new ArrayList<>(ApplySetPruner.kinds(" Deployment,Service ,\nConfigMap,,Service")));
+        assertTrue(ApplySetPruner.kinds(null).isEmpty());
+        assertEquals(10, ApplySetPruner.kinds(Constants.DEFAULT_PRUNE_KINDS).size());
+    }
+
+    @Test
+    public void testModelClass() {
+        Set<Class<?>> types = ResourceUpdaterMap.getUnmodifiableInstance().keySet();
+        assertEquals(V1Deployment.class, ApplySetPruner.modelClass("Deployment", types));
+        assertEquals(NetworkingV1beta1Ingress.class, ApplySetPruner.modelClass("Ingress", types));
+        assertEquals(V1beta1CronJob.class, ApplySetPruner.modelClass("CronJob", types));
+        assertEquals(V1HorizontalPodAutoscaler.class, ApplySetPruner.modelClass("HorizontalPodAutoscaler", types));
+        assertNull(ApplySetPruner.modelClass("Unknown", types));
+        assertEquals("Deployment", ResourcePlanner.kindOf(V1Deployment.class));
+    }
+
+    @Test
+    public void testStamp() {
+        V1Deployment deployment = new V1Deployment().metadata(new V1ObjectMeta().name("app")
+                .putLabelsItem("app", "app"));
+        ApplySetPruner.stamp(deployment, "abc");
+        assertEquals("abc", deployment.getMetadata().getLabels().get(Constants.APPLY_SET_LABEL));
+        assertEquals("app", deployment.getMetadata().getLabels().get("app"));
+
+        // the label is part of the desired state, so the hash is the same from one deployment to the next
+        V1Deployment again = new V1Deployment().metadata(new V1ObjectMeta().name("app")
+                .putLabelsItem("app", "app"));
+        ApplySetPruner.stamp(again, "abc");
+        assertEquals(DesiredStateHash.of(deployment), DesiredStateHash.of(again));
+    }
+}
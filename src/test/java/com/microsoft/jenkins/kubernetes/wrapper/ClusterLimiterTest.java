@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ClusterLimiter}.
+ */
+public class ClusterLimiterTest {
+    private static final String SERVER = "https://cluster.example.com:443";
+
+    @Test
+    public void testMode() {
+        assertEquals(ClusterLimiter.Mode.ADAPTIVE, ClusterLimiter.mode("adaptive"));
+        assertEquals(ClusterLimiter.Mode.TOKEN_BUCKET, ClusterLimiter.mode("tokenBucket"));
+        assertEquals(ClusterLimiter.Mode.OFF, ClusterLimiter.mode(" OFF "));
+        assertEquals(ClusterLimiter.Mode.ADAPTIVE, ClusterLimiter.mode("unknown"));
+    }
+
+    @Test
+    public void testDecreaseOnTooManyRequests() throws Exception {
+        ClusterLimiter limiter = new ClusterLimiter(ClusterLimiter.Mode.ADAPTIVE);
+        long first = limiter.acquire(SERVER);
+        long second = limiter.acquire(SERVER);
+        assertNotEquals(first, second);
+        assertEquals(Constants.DEFAULT_LIMITER_INITIAL_LIMIT, limiter.getLimit(SERVER));
+
+        limiter.release(SERVER, first, 1, 429);
+        assertEquals(Constants.DEFAULT_LIMITER_INITIAL_LIMIT / 2, limiter.getLimit(SERVER));
+        // the requests in flight saw the same overload
+        limiter.release(SERVER, second, 1, 429);
+        assertEquals(Constants.DEFAULT_LIMITER_INITIAL_LIMIT / 2, limiter.getLimit(SERVER));
+    }
+
+    @Test
+    public void testDecreaseOnLatency() throws Exception {
+        ClusterLimiter limiter = new ClusterLimiter(ClusterLimiter.Mode.ADAPTIVE);
+        long lease = limiter.acquire(SERVER);
+        limiter.release(SERVER, lease, Constants.DEFAULT_LIMITER_LATENCY_TARGET_MILLIS + 1, 200);
+        assertEquals(Constants.DEFAULT_LIMITER_INITIAL_LIMIT / 2, limiter.getLimit(SERVER));
+    }
+
+    @Test
+    public void testAdditiveIncrease() throws Exception {
+        ClusterLimiter limiter = new ClusterLimiter(ClusterLimiter.Mode.ADAPTIVE);
+        int limit = Constants.DEFAULT_LIMITER_INITIAL_LIMIT;
+        // the bound grows by 1 / limit per request, so a round of limit requests falls just short of one more
+        for (int i = 0; i < limit; i++) {
+            limiter.release(SERVER, limiter.acquire(SERVER), 1, 200);
+            assertEquals(limit, limiter.getLimit(SERVER));
+        }
+        limiter.release(SERVER, limiter.acquire(SERVER), 1, 200);
+        assertEquals(limit + 1, limiter.getLimit(SERVER));
+    }
+
+    @Test
+    public void testUnknownLeaseIgnored() throws Exception {
+        ClusterLimiter limiter = new ClusterLimiter(ClusterLimiter.Mode.ADAPTIVE);
+        limiter.acquire(SERVER);
+        limiter.release(SERVER, -1, 1, 429);
+        limiter.release("https://other.example.com:443", 1, 1, 429);
+        assertEquals(Constants.DEFAULT_LIMITER_INITIAL_LIMIT, limiter.getLimit(SERVER));
+    }
+
+    @Test
+    public void testTokenBucketBurst() throws Exception {
+        ClusterLimiter limiter = new ClusterLimiter(ClusterLimiter.Mode.TOKEN_BUCKET);
+        for (int i = 0; i < Constants.DEFAULT_LIMITER_BURST; i++) {
+            assertEquals(0, limiter.acquire(SERVER));
+        }
+        assertEquals(-1, limiter.getLimit(SERVER));
+    }
+
+    @Test
+    public void testGrantWithoutWaiting() {
+        ClusterLimiter limiter = new ClusterLimiter(ClusterLimiter.Mode.ADAPTIVE);
+        int limit = Constants.DEFAULT_LIMITER_INITIAL_LIMIT;
+        assertEquals(limit, limiter.grant(SERVER, limit + 1));
+        assertEquals(0, limiter.grant(SERVER, 1));
+
+        limiter.giveBack(SERVER, 1, 0, 0, 0);
+        assertEquals(1, limiter.grant(SERVER, 2));
+        assertEquals(limit, limiter.getLimit(SERVER));
+    }
+
+    @Test
+    public void testGiveBackFeedback() {
+        ClusterLimiter limiter = new ClusterLimiter(ClusterLimiter.Mode.ADAPTIVE);
+        int limit = Constants.DEFAULT_LIMITER_INITIAL_LIMIT;
+        limiter.grant(SERVER, limit + 1);
+        // the requests answered in time, as in testAdditiveIncrease
+        limiter.giveBack(SERVER, 0, limit, 0, 1);
+        assertEquals(limit, limiter.getLimit(SERVER));
+        limiter.giveBack(SERVER, 0, 1, 0, 1);
+        assertEquals(limit + 1, limiter.getLimit(SERVER));
+
+        limiter.grant(SERVER, 2);
+        limiter.giveBack(SERVER, 0, 2, 1, 1);
+        assertEquals((limit + 1) / 2, limiter.getLimit(SERVER));
+    }
+
+    @Test
+    public void testChannelGrantsReclaimed() {
+        ClusterLimiter limiter = new ClusterLimiter(ClusterLimiter.Mode.ADAPTIVE);
+        ClusterLimiter.ChannelGrants agent = new ClusterLimiter.ChannelGrants(limiter);
+        int limit = Constants.DEFAULT_LIMITER_INITIAL_LIMIT;
+        assertEquals(limit, agent.grant(SERVER, limit));
+        assertEquals(0, limiter.grant(SERVER, 1));
+
+        // the channel of the agent was closed
+        agent.reclaim();
+        assertEquals(limit, limiter.grant(SERVER, limit));
+        // the permits reclaimed are not given back twice
+        agent.giveBack(SERVER, limit, 0, 0, 0);
+        assertEquals(0, limiter.grant(SERVER, 1));
+    }
+
+    @Test
+    public void testTokenBucketGrant() {
+        ClusterLimiter limiter = new ClusterLimiter(ClusterLimiter.Mode.TOKEN_BUCKET);
+        int burst = Constants.DEFAULT_LIMITER_BURST;
+        assertEquals(burst, limiter.grant(SERVER, burst + 1));
+        // the unused tokens are refunded, the used ones are spent
+        limiter.giveBack(SERVER, 2, burst - 2, 0, 1);
+        assertTrue(limiter.grant(SERVER, burst) >= 2);
+    }
+
+    @Test
+    public void testOff() throws Exception {
+        ClusterLimiter limiter = new ClusterLimiter(ClusterLimiter.Mode.OFF);
+        assertEquals(0, limiter.acquire(SERVER));
+        limiter.release(SERVER, 0, 1, 429);
+        assertEquals(-1, limiter.getLimit(SERVER));
+        assertEquals(Integer.MAX_VALUE, limiter.grant(SERVER, Integer.MAX_VALUE));
+    }
+}
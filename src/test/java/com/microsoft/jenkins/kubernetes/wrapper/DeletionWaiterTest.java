@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InterruptedIOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link DeletionWaiter}, and the {@link ListWatcher} following the objects.
+ */
+public class DeletionWaiterTest {
+    private static final long TIMEOUT_MILLIS = 10000;
+    private static final long WATCH_POLL_MILLIS = 50;
+
+    /**
+     * The names of the objects returned by the successive lists, the last one being returned from then on.
+     */
+    private final Deque<List<String>> lists = new ConcurrentLinkedDeque<>();
+    private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private final ByteArrayOutputStream console = new ByteArrayOutputStream();
+    private V1ResourceManager manager;
+
+    @Before
+    public void setUp() {
+        ApiClient client = new ApiClient();
+        client.setBasePath("https://kubernetes.local");
+        client.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            requests.add(request);
+            try {
+                return new Response.Builder()
+                        .request(request)
+                        .protocol(Protocol.HTTP_1_1)
+                        .code(200)
+                        .message("OK")
+                        .body(ResponseBody.create(MediaType.parse("application/json"), serve(request)))
+                        .build();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }).build());
+        manager = new V1ResourceManager(client);
+    }
+
+    @Test(timeout = 30000)
+    public void testAlreadyGone() throws Exception {
+        lists.add(Collections.singletonList("other"));
+        DeletionWaiter waiter = waiter("a", "b");
+        assertEquals(2, waiter.size());
+
+        waiter.await(TIMEOUT_MILLIS);
+        assertTrue(console().contains(Messages.DeletionWaiter_gone(2)));
+        // listed without a watch
+        assertEquals(1, requests.size());
+    }
+
+    @Test(timeout = 30000)
+    public void testDeletedEvent() throws Exception {
+        lists.add(Collections.singletonList("a"));
+        events.add(event("MODIFIED", "a"));
+        events.add(event("DELETED", "a"));
+
+        waiter("a").await(TIMEOUT_MILLIS);
+        assertTrue(console().contains(Messages.DeletionWaiter_gone(1)));
+        // a single object is selected by name
+        Request watch = requests.get(requests.size() - 1);
+        assertEquals("true", watch.url().queryParameter("watch"));
+        assertEquals("metadata.name=a", watch.url().queryParameter("fieldSelector"));
+        assertEquals("7", watch.url().queryParameter("resourceVersion"));
+    }
+
+    @Test(timeout = 30000)
+    public void testListAgainWhenExpired() throws Exception {
+        lists.add(Arrays.asList("a", "b"));
+        lists.add(Collections.emptyList());
+        events.add("{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"code\":410,\"reason\":\"Expired\"}}");
+
+        waiter("a", "b").await(TIMEOUT_MILLIS);
+        assertTrue(console().contains(Messages.DeletionWaiter_gone(2)));
+        assertEquals(2, requests.stream().filter(r -> r.url().queryParameter("watch") == null).count());
+    }
+
+    @Test(timeout = 30000)
+    public void testTimeout() throws Exception {
+        lists.add(Arrays.asList("a", "b"));
+        DeletionWaiter waiter = waiter("a", "b");
+        events.add(event("DELETED", "b"));
+        try {
+            waiter.await(TimeUnit.SECONDS.toMillis(2));
+            fail("The timeout should be reported");
+        } catch (IllegalStateException e) {
+            // only the object still present is reported
+            assertEquals(Messages.DeletionWaiter_timeout(2, "ConfigMap default/a"), e.getMessage());
+        }
+    }
+
+    private DeletionWaiter waiter(String... names) {
+        DeletionWaiter waiter = new DeletionWaiter(new PrintStream(console, true));
+        for (String name : names) {
+            waiter.track(manager.new ConfigMapUpdater(new V1ConfigMap()
+                    .metadata(new V1ObjectMeta().name(name).namespace("default"))));
+        }
+        return waiter;
+    }
+
+    private String console() throws Exception {
+        return console.toString(StandardCharsets.UTF_8.name());
+    }
+
+    private String serve(Request request) throws InterruptedException {
+        if ("true".equals(request.url().queryParameter("watch"))) {
+            String event = events.poll(WATCH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            StringBuilder body = new StringBuilder();
+            while (event != null) {
+                body.append(event).append('\n');
+                event = events.poll();
+            }
+            return body.toString();
+        }
+        List<String> names = lists.size() > 1 ? lists.poll() : lists.peek();
+        StringBuilder items = new StringBuilder();
+        for (String name : names) {
+            items.append(items.length() == 0 ? "" : ",").append(configMap(name));
+        }
+        return "{\"metadata\":{\"resourceVersion\":\"7\"},\"items\":[" + items + "]}";
+    }
+
+    private static String event(String type, String name) {
+        return "{\"type\":\"" + type + "\",\"object\":" + configMap(name) + "}";
+    }
+
+    private static String configMap(String name) {
+        return "{\"metadata\":{\"name\":\"" + name + "\",\"namespace\":\"default\"}}";
+    }
+}
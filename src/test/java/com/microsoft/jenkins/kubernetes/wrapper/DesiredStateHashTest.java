@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.collect.ImmutableMap;
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapBuilder;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link DesiredStateHash}.
+ */
+public class DesiredStateHashTest {
+    @Test
+    public void testKeyOrderDoesNotMatter() {
+        Map<String, String> ordered = new LinkedHashMap<>();
+        ordered.put("a", "1");
+        ordered.put("b", "2");
+        Map<String, String> reversed = new LinkedHashMap<>();
+        reversed.put("b", "2");
+        reversed.put("a", "1");
+
+        assertEquals(DesiredStateHash.of(configMap(ordered)), DesiredStateHash.of(configMap(reversed)));
+    }
+
+    @Test
+    public void testServerFieldsAndHashAreIgnored() {
+        V1ConfigMap desired = configMap(ImmutableMap.of("a", "1"));
+        String hash = DesiredStateHash.of(desired);
+
+        V1ConfigMap live = configMap(ImmutableMap.of("a", "1"));
+        live.getMetadata()
+                .resourceVersion("42")
+                .uid("0c5a4d4e-1b5f-4e0f-9a53-3f7f2f0c1c3d")
+                .putAnnotationsItem(Constants.DESIRED_STATE_HASH_ANNOTATION, hash);
+
+        assertEquals(hash, DesiredStateHash.of(live));
+        assertEquals(hash, DesiredStateHash.recorded(live.getMetadata()));
+    }
+
+    @Test
+    public void testContentChangesHash() {
+        assertNotEquals(DesiredStateHash.of(configMap(ImmutableMap.of("a", "1"))),
+                DesiredStateHash.of(configMap(ImmutableMap.of("a", "2"))));
+    }
+
+    @Test
+    public void testRecordedWithoutAnnotation() {
+        assertNull(DesiredStateHash.recorded(null));
+        assertNull(DesiredStateHash.recorded(configMap(ImmutableMap.of("a", "1")).getMetadata()));
+    }
+
+    private static V1ConfigMap configMap(Map<String, String> data) {
+        return new V1ConfigMapBuilder()
+                .withApiVersion("v1")
+                .withKind("ConfigMap")
+                .withNewMetadata().withName("cfg").withNamespace("default").endMetadata()
+                .withData(data)
+                .build();
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Test;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link InformerCache}.
+ */
+public class InformerCacheTest {
+    private static final long TIMEOUT_MILLIS = 10000;
+    private static final long WATCH_POLL_MILLIS = 50;
+    private static final int MAX_REQUESTS = 8;
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+    // the informers left running by a test stop soon after it
+    private static final long IDLE_MILLIS = 5000;
+    private static final AtomicInteger CREDENTIALS = new AtomicInteger();
+
+    private final ApiClientPool pool = new ApiClientPool(HOUR_MILLIS, HOUR_MILLIS, MAX_REQUESTS);
+    private final String credential = "credential-" + CREDENTIALS.incrementAndGet();
+
+    @Test
+    public void testSecretNotCached() {
+        FakeCluster cluster = new FakeCluster();
+        InformerCache cache = new InformerCache(pool, HOUR_MILLIS, IDLE_MILLIS, Integer.MAX_VALUE);
+        V1Secret secret = new V1Secret().metadata(new V1ObjectMeta().name("password").namespace("default"));
+        ResourceManager.ResourceUpdater<?> updater = new V1ResourceManager(cluster.client(pool, credential))
+                .new SecretUpdater(secret);
+
+        assertFalse(InformerCache.isCacheable(updater));
+        assertSame(InformerCache.MISS, cache.lookup(credential, updater));
+        assertFalse(cache.isSynced(credential, updater));
+        assertEquals(0, cache.size());
+        assertTrue(cluster.requests.isEmpty());
+    }
+
+    @Test(timeout = 30000)
+    public void testSyncAndWatch() throws Exception {
+        FakeCluster cluster = new FakeCluster();
+        cluster.put("default", "a", "b", "c");
+        InformerCache cache = new InformerCache(pool, HOUR_MILLIS, IDLE_MILLIS, Integer.MAX_VALUE);
+        ResourceManager.ResourceUpdater<?> a = updater(cluster.client(pool, credential), "default", "a");
+
+        // the first read starts the informer, and falls back to the API server until it is in sync
+        assertSame(InformerCache.MISS, cache.lookup(credential, a));
+        awaitTrue(() -> cache.isSynced(credential, a));
+        assertEquals("a", ((V1ConfigMap) cache.lookup(credential, a)).getMetadata().getName());
+        // the objects were listed in pages
+        assertEquals(1, cluster.count("continue=next"));
+
+        ResourceManager.ResourceUpdater<?> b = updater(cluster.client(pool, credential), "default", "b");
+        ResourceManager.ResourceUpdater<?> d = updater(cluster.client(pool, credential), "default", "d");
+        assertEquals("b", ((V1ConfigMap) cache.lookup(credential, b)).getMetadata().getName());
+        assertNull(cache.lookup(credential, d));
+
+        cluster.event("MODIFIED", "a", "2");
+        cluster.event("DELETED", "b", "3");
+        cluster.event("ADDED", "d", "4");
+        awaitTrue(() -> cache.lookup(credential, d) != null);
+        assertEquals("2", ((V1ConfigMap) cache.lookup(credential, a)).getMetadata().getResourceVersion());
+        assertNull(cache.lookup(credential, b));
+        // the watch resumes from the last event seen
+        awaitTrue(() -> cluster.count("resourceVersion=4") > 0);
+        // a copy is returned on every read
+        assertNotSame(cache.lookup(credential, a), cache.lookup(credential, a));
+        assertEquals(1, cache.size());
+    }
+
+    @Test(timeout = 30000)
+    public void testEnforceCap() throws Exception {
+        FakeCluster cluster = new FakeCluster();
+        cluster.put("first", "a", "b");
+        cluster.put("second", "c", "d");
+        InformerCache cache = new InformerCache(pool, HOUR_MILLIS, IDLE_MILLIS, 3);
+        ResourceManager.ResourceUpdater<?> first = updater(cluster.client(pool, credential), "first", "a");
+        ResourceManager.ResourceUpdater<?> second = updater(cluster.client(pool, credential), "second", "c");
+
+        awaitTrue(() -> cache.isSynced(credential, first));
+        Thread.sleep(WATCH_POLL_MILLIS);
+        awaitTrue(() -> cache.isSynced(credential, second));
+        // the least recently read informer was stopped, so the cached objects fit in the cap
+        awaitTrue(() -> cache.size() == 1);
+        assertEquals("c", ((V1ConfigMap) cache.lookup(credential, second)).getMetadata().getName());
+    }
+
+    @Test(timeout = 30000)
+    public void testIdleStop() throws Exception {
+        FakeCluster cluster = new FakeCluster();
+        cluster.put("default", "a");
+        long idleMillis = 200;
+        InformerCache cache = new InformerCache(pool, HOUR_MILLIS, idleMillis, Integer.MAX_VALUE);
+        ResourceManager.ResourceUpdater<?> a = updater(cluster.client(pool, credential), "default", "a");
+
+        awaitTrue(() -> cache.isSynced(credential, a));
+        awaitTrue(() -> cache.size() == 0);
+        int requests = cluster.requests.size();
+        Thread.sleep(idleMillis);
+        assertEquals(requests, cluster.requests.size());
+    }
+
+    @Test(timeout = 30000)
+    public void testClientReplaced() throws Exception {
+        long maxAgeMillis = 200;
+        ApiClientPool agingPool = new ApiClientPool(maxAgeMillis, HOUR_MILLIS, MAX_REQUESTS);
+        FakeCluster cluster = new FakeCluster();
+        cluster.put("default", "a");
+        InformerCache cache = new InformerCache(agingPool, HOUR_MILLIS, IDLE_MILLIS, Integer.MAX_VALUE);
+        ResourceManager.ResourceUpdater<?> a = updater(cluster.client(agingPool, credential), "default", "a");
+        awaitTrue(() -> cache.isSynced(credential, a));
+
+        Thread.sleep(maxAgeMillis);
+        FakeCluster replaced = new FakeCluster();
+        replaced.put("default", "a", "b");
+        ApiClient client = replaced.client(agingPool, credential);
+        assertSame(client, agingPool.current(credential));
+        // the expired watch makes the informer list again, with the client now pooled
+        cluster.gone();
+        ResourceManager.ResourceUpdater<?> b = updater(client, "default", "b");
+        awaitTrue(() -> cache.lookup(credential, b) instanceof V1ConfigMap);
+        assertEquals(1, cache.size());
+    }
+
+    @Test(timeout = 30000)
+    public void testClientRetired() throws Exception {
+        long maxAgeMillis = 200;
+        ApiClientPool agingPool = new ApiClientPool(maxAgeMillis, HOUR_MILLIS, MAX_REQUESTS);
+        FakeCluster cluster = new FakeCluster();
+        cluster.put("default", "a");
+        InformerCache cache = new InformerCache(agingPool, HOUR_MILLIS, IDLE_MILLIS, Integer.MAX_VALUE);
+        ResourceManager.ResourceUpdater<?> a = updater(cluster.client(agingPool, credential), "default", "a");
+        awaitTrue(() -> cache.isSynced(credential, a));
+
+        Thread.sleep(maxAgeMillis);
+        cluster.gone();
+        // no build acquired a new client, so the informer is not kept alive with the old one
+        awaitTrue(() -> cache.size() == 0);
+        assertNull(agingPool.current(credential));
+    }
+
+    private static ResourceManager.ResourceUpdater<?> updater(ApiClient client, String namespace, String name) {
+        V1ConfigMap configMap = new V1ConfigMap().metadata(new V1ObjectMeta().name(name).namespace(namespace));
+        return new V1ResourceManager(client).new ConfigMapUpdater(configMap);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Timed out");
+            }
+            Thread.sleep(WATCH_POLL_MILLIS / 2);
+        }
+    }
+
+    /**
+     * Serves the ConfigMaps of some namespaces in pages of one object, and the watch events queued by the test.
+     */
+    private static final class FakeCluster {
+        private final Map<String, List<String>> names = new ConcurrentHashMap<>();
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+        void put(String namespace, String... objects) {
+            List<String> list = new ArrayList<>();
+            Collections.addAll(list, objects);
+            names.put(namespace, list);
+        }
+
+        void event(String type, String name, String resourceVersion) {
+            events.add("{\"type\":\"" + type + "\",\"object\":" + configMap(name, resourceVersion) + "}");
+        }
+
+        void gone() {
+            events.add("{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"code\":410,\"reason\":\"Expired\"}}");
+        }
+
+        long count(String query) {
+            return requests.stream().filter(r -> r.url().encodedQuery() != null
+                    && r.url().encodedQuery().contains(query)).count();
+        }
+
+        ApiClient client(ApiClientPool pool, String credential) {
+            return pool.acquire(credential, () -> {
+                ApiClient client = new ApiClient();
+                client.setBasePath("https://kubernetes.local");
+                client.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+                    Request request = chain.request();
+                    requests.add(request);
+                    try {
+                        return respond(request, serve(request));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException();
+                    }
+                }).build());
+                return client;
+            });
+        }
+
+        private String serve(Request request) throws InterruptedException {
+            if ("true".equals(request.url().queryParameter("watch"))) {
+                String event = events.poll(WATCH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                StringBuilder body = new StringBuilder();
+                while (event != null) {
+                    body.append(event).append('\n');
+                    event = events.poll();
+                }
+                return body.toString();
+            }
+            // /api/v1/namespaces/{namespace}/configmaps
+            List<String> objects = names.getOrDefault(request.url().pathSegments().get(3), Collections.emptyList());
+            boolean firstPage = request.url().queryParameter("continue") == null;
+            List<String> page = objects.isEmpty() ? objects
+                    : firstPage ? objects.subList(0, 1) : objects.subList(1, objects.size());
+            StringBuilder items = new StringBuilder();
+            for (String name : page) {
+                items.append(items.length() == 0 ? "" : ",").append(configMap(name, "1"));
+            }
+            String next = firstPage && objects.size() > 1 ? ",\"continue\":\"next\"" : "";
+            return "{\"metadata\":{\"resourceVersion\":\"1\"" + next + "},\"items\":[" + items + "]}";
+        }
+
+        private static String configMap(String name, String resourceVersion) {
+            return "{\"metadata\":{\"name\":\"" + name + "\",\"resourceVersion\":\"" + resourceVersion + "\"}}";
+        }
+
+        private static Response respond(Request request, String body) {
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create(MediaType.parse("application/json"), body))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link JobRunner}.
+ */
+public class JobRunnerTest {
+    private static JsonObject json(String json) {
+        return new JsonParser().parse(json.replace('\'', '"')).getAsJsonObject();
+    }
+
+    @Test
+    public void testStatus() {
+        JsonObject running = json("{'status':{'active':1}}");
+        assertFalse(JobRunner.isComplete(running));
+        assertNull(JobRunner.failure(running));
+
+        JsonObject complete = json("{'status':{'succeeded':1,'conditions':[{'type':'Complete','status':'True'}]}}");
+        assertTrue(JobRunner.isComplete(complete));
+        assertNull(JobRunner.failure(complete));
+
+        JsonObject failed = json("{'status':{'failed':3,'conditions':[{'type':'Failed','status':'True',"
+                + "'reason':'BackoffLimitExceeded','message':'Job has reached the specified backoff limit'}]}}");
+        assertFalse(JobRunner.isComplete(failed));
+        assertEquals("BackoffLimitExceeded: Job has reached the specified backoff limit", JobRunner.failure(failed));
+
+        JsonObject notYet = json("{'status':{'conditions':[{'type':'Failed','status':'False'}]}}");
+        assertNull(JobRunner.failure(notYet));
+    }
+
+    @Test
+    public void testCopyLines() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true, "UTF-8");
+        JobRunner.copyLines(new StringReader("first\n0123456789\n\nlast"), out, "[pod/c] ", 5);
+        assertEquals(String.format("[pod/c] first%n[pod/c] 01234...%n[pod/c] %n[pod/c] last%n"),
+                bytes.toString("UTF-8"));
+    }
+}
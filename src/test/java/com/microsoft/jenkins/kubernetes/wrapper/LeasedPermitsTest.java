@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link LeasedPermits}.
+ */
+public class LeasedPermitsTest {
+    private static final String SERVER = "https://cluster.example.com:443";
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test(timeout = 30000)
+    public void testBatch() throws Exception {
+        FakeGrants grants = new FakeGrants(Integer.MAX_VALUE);
+        LeasedPermits permits = new LeasedPermits(grants, 4, HOUR_MILLIS);
+        for (int i = 0; i < 4; i++) {
+            permits.acquire(SERVER);
+        }
+        // a single round trip to the controller for the batch
+        assertEquals(1, grants.asked.size());
+        assertEquals(4, (int) grants.asked.get(0));
+
+        for (int i = 0; i < 3; i++) {
+            permits.release(SERVER, 0, i, 200);
+        }
+        assertTrue(grants.givenBack.isEmpty());
+        permits.release(SERVER, 0, 3, 429);
+        assertEquals("0/4/1/3", grants.givenBack.poll());
+
+        permits.acquire(SERVER);
+        assertEquals(2, grants.asked.size());
+    }
+
+    @Test(timeout = 30000)
+    public void testIdleGiveBack() throws Exception {
+        FakeGrants grants = new FakeGrants(Integer.MAX_VALUE);
+        LeasedPermits permits = new LeasedPermits(grants, 4, 50);
+        permits.acquire(SERVER);
+        permits.release(SERVER, 0, 1, 200);
+
+        // the permits left are given back once no request was sent for the hold time
+        String givenBack = grants.givenBack.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals("3/1/0/1", givenBack);
+        assertNull(grants.givenBack.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test(timeout = 30000)
+    public void testWaitWhileNoneGranted() throws Exception {
+        FakeGrants grants = new FakeGrants(0);
+        LeasedPermits permits = new LeasedPermits(grants, 4, HOUR_MILLIS);
+        Thread thread = new Thread(() -> {
+            try {
+                permits.acquire(SERVER);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        // the request waits on the agent, asking again
+        while (grants.asked.size() < 2) {
+            Thread.sleep(10);
+        }
+        assertTrue(thread.isAlive());
+
+        grants.available.set(1);
+        thread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        assertFalse(thread.isAlive());
+    }
+
+    @Test(timeout = 30000)
+    public void testUnreachableController() throws Exception {
+        LeasedPermits permits = new LeasedPermits(new FakeGrants(1) {
+            @Override
+            public int grant(String server, int wanted) {
+                throw new IllegalStateException("Channel is closed");
+            }
+        }, 4, HOUR_MILLIS);
+        try {
+            permits.acquire(SERVER);
+            fail("The failure should be rethrown");
+        } catch (IllegalStateException e) {
+            // the interceptor sends the request anyway
+            assertEquals("Channel is closed", e.getMessage());
+        }
+        // the next request asks again
+        try {
+            permits.acquire(SERVER);
+            fail("The failure should be rethrown");
+        } catch (IllegalStateException e) {
+            assertEquals("Channel is closed", e.getMessage());
+        }
+    }
+
+    /**
+     * Grants up to the available permits, and records the calls.
+     */
+    private static class FakeGrants implements ClusterGrants {
+        private final AtomicInteger available;
+        private final List<Integer> asked = new CopyOnWriteArrayList<>();
+        private final BlockingQueue<String> givenBack = new LinkedBlockingQueue<>();
+
+        FakeGrants(int available) {
+            this.available = new AtomicInteger(available);
+        }
+
+        @Override
+        public int grant(String server, int wanted) {
+            asked.add(wanted);
+            return Math.min(wanted, available.get());
+        }
+
+        @Override
+        public void giveBack(String server, int unused, int answered, int throttled, long maxLatencyMillis) {
+            givenBack.add(unused + "/" + answered + "/" + throttled + "/" + maxLatencyMillis);
+        }
+    }
+}
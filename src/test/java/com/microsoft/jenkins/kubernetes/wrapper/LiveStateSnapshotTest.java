@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapBuilder;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretBuilder;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link LiveStateSnapshot}.
+ */
+public class LiveStateSnapshotTest {
+    private static final String NAMESPACE = "app";
+
+    /**
+     * The names of the ConfigMaps listed in each namespace.
+     */
+    private final Map<String, List<String>> names = new ConcurrentHashMap<>();
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private volatile int listStatus = 200;
+    private ApiClient client;
+    private V1ResourceManager manager;
+
+    @Before
+    public void setUp() {
+        client = new ApiClient();
+        client.setBasePath("https://kubernetes.local");
+        client.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            requests.add(request);
+            boolean list = isList(request);
+            int status = list ? listStatus : 200;
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(status)
+                    .message(status == 200 ? "OK" : "Forbidden")
+                    .body(ResponseBody.create(MediaType.parse("application/json"),
+                            list ? list(request) : configMapJson(lastSegment(request))))
+                    .build();
+        }).build());
+        manager = new V1ResourceManager(client);
+        manager.setConsoleLogger(new PrintStream(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testGroupByKindAndNamespace() {
+        ResourceManager.ResourceUpdater<?> a = updater(configMap("a", NAMESPACE));
+        ResourceManager.ResourceUpdater<?> b = updater(configMap("b", NAMESPACE));
+        ResourceManager.ResourceUpdater<?> other = updater(configMap("a", "other"));
+        V1Secret secret = new V1SecretBuilder()
+                .withKind("Secret")
+                .withNewMetadata().withName("a").withNamespace(NAMESPACE).endMetadata()
+                .build();
+        ResourceManager.ResourceUpdater<?> s = manager.new SecretUpdater(secret);
+
+        List<LiveStateSnapshot.Group> groups = LiveStateSnapshot.group(Arrays.asList(a, other, s, b));
+
+        assertEquals(3, groups.size());
+        assertEquals(Arrays.asList(a, b), groups.get(0).getUpdaters());
+        assertEquals(Collections.singletonList(other), groups.get(1).getUpdaters());
+        assertEquals(Collections.singletonList(s), groups.get(2).getUpdaters());
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    public void testFetchPages() {
+        List<String> live = new ArrayList<>();
+        for (int i = 0; i <= Constants.PREFETCH_PAGE_SIZE; i++) {
+            live.add("cm-" + i);
+        }
+        names.put(NAMESPACE, live);
+        ResourceManager.ResourceUpdater<?> first = updater(configMap("cm-0", NAMESPACE));
+        ResourceManager.ResourceUpdater<?> last = updater(configMap("cm-" + Constants.PREFETCH_PAGE_SIZE, NAMESPACE));
+        ResourceManager.ResourceUpdater<?> missing = updater(configMap("missing", NAMESPACE));
+        LiveStateSnapshot snapshot = fetch(first, last, missing);
+
+        assertEquals(2, requests.size());
+        assertEquals(String.valueOf(Constants.PREFETCH_PAGE_SIZE), requests.get(0).url().queryParameter("limit"));
+        assertNull(requests.get(0).url().queryParameter("fieldSelector"));
+        assertNull(requests.get(0).url().queryParameter("continue"));
+        assertEquals(String.valueOf(Constants.PREFETCH_PAGE_SIZE), requests.get(1).url().queryParameter("continue"));
+
+        assertTrue(snapshot.covers(missing));
+        assertEquals("cm-0", ((V1ConfigMap) snapshot.get(first)).getMetadata().getName());
+        assertEquals("cm-" + Constants.PREFETCH_PAGE_SIZE,
+                ((V1ConfigMap) snapshot.get(last)).getMetadata().getName());
+        assertNull(snapshot.get(missing));
+        // a group of another namespace was not listed
+        assertFalse(snapshot.covers(updater(configMap("cm-0", "other"))));
+    }
+
+    @Test
+    public void testSingleResourceSelectedByName() {
+        names.put(NAMESPACE, Collections.singletonList("a"));
+        ResourceManager.ResourceUpdater<?> a = updater(configMap("a", NAMESPACE));
+        LiveStateSnapshot snapshot = fetch(a);
+
+        assertEquals(1, requests.size());
+        assertEquals("metadata.name=a", requests.get(0).url().queryParameter("fieldSelector"));
+        assertNull(requests.get(0).url().queryParameter("resourceVersion"));
+        assertEquals("a", ((V1ConfigMap) snapshot.get(a)).getMetadata().getName());
+    }
+
+    @Test
+    public void testCachedReads() {
+        List<String> live = new ArrayList<>();
+        for (int i = 0; i <= Constants.PREFETCH_PAGE_SIZE; i++) {
+            live.add("cm-" + i);
+        }
+        names.put(NAMESPACE, live);
+        manager.withCachedReads(true);
+        fetch(updater(configMap("cm-0", NAMESPACE)), updater(configMap("cm-1", NAMESPACE)));
+
+        // only the first page can be served by the watch cache
+        assertEquals(2, requests.size());
+        assertEquals("0", requests.get(0).url().queryParameter("resourceVersion"));
+        assertNull(requests.get(1).url().queryParameter("resourceVersion"));
+    }
+
+    @Test
+    public void testCoveredResourceNotRead() {
+        names.put(NAMESPACE, Collections.singletonList("a"));
+        ResourceManager.ResourceUpdater<?> a = updater(configMap("a", NAMESPACE));
+        ResourceManager.ResourceUpdater<?> b = updater(configMap("b", NAMESPACE));
+        LiveStateSnapshot snapshot = fetch(a, b);
+        requests.clear();
+
+        a.withLiveState(snapshot).createOrApply();
+        b.withLiveState(snapshot).createOrApply();
+        assertEquals(Arrays.asList("PUT", "POST"), methods());
+    }
+
+    @Test
+    public void testFallbackOnError() {
+        names.put(NAMESPACE, Collections.singletonList("a"));
+        // e.g., the credentials are allowed to get but not to list
+        listStatus = 403;
+        ResourceManager.ResourceUpdater<?> a = updater(configMap("a", NAMESPACE));
+        ResourceManager.ResourceUpdater<?> b = updater(configMap("b", NAMESPACE));
+        LiveStateSnapshot snapshot = fetch(a, b);
+
+        assertFalse(snapshot.covers(a));
+        requests.clear();
+        a.withLiveState(snapshot).createOrApply();
+        assertEquals(Arrays.asList("GET", "PUT"), methods());
+        assertEquals("a", lastSegment(requests.get(0)));
+    }
+
+    @Test
+    public void testFallbackOnTooManyObjects() {
+        List<String> live = new ArrayList<>();
+        for (int i = 0; i <= Constants.PREFETCH_MAX_OBJECTS; i++) {
+            live.add("cm-" + i);
+        }
+        names.put(NAMESPACE, live);
+        ResourceManager.ResourceUpdater<?> a = updater(configMap("cm-0", NAMESPACE));
+        ResourceManager.ResourceUpdater<?> b = updater(configMap("cm-1", NAMESPACE));
+        LiveStateSnapshot snapshot = fetch(a, b);
+
+        assertFalse(snapshot.covers(a));
+        assertNull(snapshot.get(a));
+        requests.clear();
+        a.withLiveState(snapshot).createOrApply();
+        assertEquals(Arrays.asList("GET", "PUT"), methods());
+    }
+
+    private LiveStateSnapshot fetch(ResourceManager.ResourceUpdater<?>... updaters) {
+        LiveStateSnapshot snapshot = new LiveStateSnapshot(client);
+        for (LiveStateSnapshot.Group group : LiveStateSnapshot.group(Arrays.asList(updaters))) {
+            snapshot.fetch(group);
+        }
+        return snapshot;
+    }
+
+    private ResourceManager.ResourceUpdater<?> updater(V1ConfigMap configMap) {
+        return manager.new ConfigMapUpdater(configMap);
+    }
+
+    private List<String> methods() {
+        List<String> methods = new ArrayList<>();
+        for (Request request : requests) {
+            methods.add(request.method());
+        }
+        return methods;
+    }
+
+    private static boolean isList(Request request) {
+        return "GET".equals(request.method()) && "configmaps".equals(lastSegment(request));
+    }
+
+    private static String lastSegment(Request request) {
+        return request.url().pathSegments().get(request.url().pathSize() - 1);
+    }
+
+    /**
+     * Serve a page of the ConfigMaps of the namespace, selected by name if asked.
+     */
+    private String list(Request request) {
+        if (listStatus != 200) {
+            return "{\"kind\":\"Status\",\"code\":" + listStatus + "}";
+        }
+        // /api/v1/namespaces/{namespace}/configmaps
+        List<String> objects = names.getOrDefault(request.url().pathSegments().get(3), Collections.emptyList());
+        String fieldSelector = request.url().queryParameter("fieldSelector");
+        if (fieldSelector != null) {
+            String name = fieldSelector.substring("metadata.name=".length());
+            objects = objects.contains(name) ? Collections.singletonList(name) : Collections.emptyList();
+        }
+        String continueToken = request.url().queryParameter("continue");
+        int from = continueToken == null ? 0 : Integer.parseInt(continueToken);
+        int to = Math.min(objects.size(), from + Integer.parseInt(request.url().queryParameter("limit")));
+        StringBuilder items = new StringBuilder();
+        for (String name : objects.subList(from, to)) {
+            items.append(items.length() == 0 ? "" : ",").append(configMapJson(name));
+        }
+        String next = to < objects.size() ? ",\"continue\":\"" + to + "\"" : "";
+        return "{\"metadata\":{\"resourceVersion\":\"1\"" + next + "},\"items\":[" + items + "]}";
+    }
+
+    private static String configMapJson(String name) {
+        return "{\"metadata\":{\"name\":\"" + name + "\",\"namespace\":\"" + NAMESPACE + "\"}}";
+    }
+
+    private static V1ConfigMap configMap(String name, String namespace) {
+        return new V1ConfigMapBuilder()
+                .withKind("ConfigMap")
+                .withNewMetadata().withName(name).withNamespace(namespace).endMetadata()
+                .build();
+    }
+}
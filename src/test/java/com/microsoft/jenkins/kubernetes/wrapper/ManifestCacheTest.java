@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import hudson.util.VariableResolver;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ManifestCache}.
+ */
+public class ManifestCacheTest {
+    private static final long MAX_BYTES = 1024 * 1024;
+
+    static volatile boolean notModelInitialized;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testKey() {
+        Map<String, String> values = new HashMap<>();
+        values.put("TAG", "1.0");
+        values.put("UNUSED", "a");
+        VariableResolver<String> resolver = new VariableResolver.ByMap<>(values);
+        String key = ManifestCache.key("content", Collections.singleton("TAG"), resolver);
+        assertEquals(key, ManifestCache.key("content", Collections.singleton("TAG"), resolver));
+
+        assertNotEquals(key, ManifestCache.key("other", Collections.singleton("TAG"), resolver));
+        assertNotEquals(key, ManifestCache.key("content", Collections.singleton("TAG"), null));
+        values.put("UNUSED", "b");
+        // only the variables the file references count
+        assertEquals(key, ManifestCache.key("content", Collections.singleton("TAG"), resolver));
+        values.put("TAG", "2.0");
+        assertNotEquals(key, ManifestCache.key("content", Collections.singleton("TAG"), resolver));
+        // an unset variable is told from an empty one
+        values.remove("TAG");
+        String unset = ManifestCache.key("content", Collections.singleton("TAG"), resolver);
+        values.put("TAG", "");
+        assertNotEquals(unset, ManifestCache.key("content", Collections.singleton("TAG"), resolver));
+    }
+
+    @Test
+    public void testMemory() {
+        ManifestCache cache = new ManifestCache(null, MAX_BYTES, MAX_BYTES);
+        assertNull(cache.get("key"));
+        V1ConfigMap configMap = configMap("app");
+        cache.put("key", Collections.singletonList(configMap));
+
+        List<Object> cached = cache.get("key");
+        assertEquals(Collections.singletonList(configMap), cached);
+        // every hit gets its own copies
+        assertNotSame(configMap, cached.get(0));
+        assertNotSame(cached.get(0), cache.get("key").get(0));
+    }
+
+    @Test
+    public void testDisk() throws Exception {
+        File directory = folder.newFolder();
+        V1ConfigMap configMap = configMap("app");
+        new ManifestCache(directory, MAX_BYTES, MAX_BYTES).put("key", Collections.singletonList(configMap));
+
+        // read back after a restart
+        assertEquals(Collections.singletonList(configMap),
+                new ManifestCache(directory, MAX_BYTES, MAX_BYTES).get("key"));
+    }
+
+    @Test
+    public void testSecretNotWritten() throws Exception {
+        File directory = folder.newFolder();
+        ManifestCache cache = new ManifestCache(directory, MAX_BYTES, MAX_BYTES);
+        List<Object> resources = Arrays.asList(configMap("app"),
+                new V1Secret().metadata(new V1ObjectMeta().name("password")).putStringDataItem("password", "s3cr3t"));
+        cache.put("key", resources);
+
+        assertEquals(resources, cache.get("key"));
+        assertEquals(0, directory.list().length);
+        assertNull(new ManifestCache(directory, MAX_BYTES, MAX_BYTES).get("key"));
+    }
+
+    @Test
+    public void testDiskEviction() throws Exception {
+        File directory = folder.newFolder();
+        new ManifestCache(directory, MAX_BYTES, MAX_BYTES).put("old", Collections.singletonList(configMap("app")));
+        File old = new File(directory, "old.json.gz");
+        assertTrue(old.setLastModified(System.currentTimeMillis() - 60000));
+
+        // room for a single entry, the same content being stored in the same number of bytes
+        ManifestCache cache = new ManifestCache(directory, MAX_BYTES, old.length());
+        cache.put("new", Collections.singletonList(configMap("app")));
+        assertFalse(old.exists());
+        assertTrue(new File(directory, "new.json.gz").exists());
+    }
+
+    @Test
+    public void testOnlyModelClassesDecoded() throws Exception {
+        File directory = folder.newFolder();
+        String entry = "[{\"type\":\"" + NotModel.class.getName() + "\",\"object\":{\"name\":\"x\"}}]";
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            writer.write(entry);
+        }
+        File file = new File(directory, "key.json.gz");
+        Files.write(file.toPath(), bytes.toByteArray());
+
+        assertNull(new ManifestCache(directory, MAX_BYTES, MAX_BYTES).get("key"));
+        assertFalse(notModelInitialized);
+        // the entry is dropped rather than read again
+        assertFalse(file.exists());
+    }
+
+    private static V1ConfigMap configMap(String name) {
+        return new V1ConfigMap()
+                .apiVersion("v1")
+                .kind("ConfigMap")
+                .metadata(new V1ObjectMeta().name(name).namespace("default")
+                        .labels(Collections.singletonMap("app", name)))
+                .data(Collections.singletonMap("keys", "a,b"));
+    }
+
+    /**
+     * A class that is not a Kubernetes model, which records whether it was initialized.
+     */
+    public static final class NotModel {
+        static {
+            notModelInitialized = true;
+        }
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1Ingress;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1Secret;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link ManifestDecoder}.
+ */
+public class ManifestDecoderTest {
+    @Test
+    public void testModelClass() throws IOException {
+        assertEquals(V1ConfigMap.class, ManifestDecoder.modelClass("v1", "ConfigMap"));
+        assertEquals(V1Deployment.class, ManifestDecoder.modelClass("apps/v1", "Deployment"));
+        assertEquals(ExtensionsV1beta1Ingress.class, ManifestDecoder.modelClass("extensions/v1beta1", "Ingress"));
+    }
+
+    @Test
+    public void testUnknownKind() {
+        try {
+            ManifestDecoder.modelClass("example.com/v1", "Widget");
+            fail("Expected IOException");
+        } catch (IOException e) {
+            // expected
+        }
+        try {
+            ManifestDecoder.modelClass("v1", null);
+            fail("Expected IOException");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testLoadAll() throws IOException {
+        String manifest = "apiVersion: v1\n"
+                + "kind: ConfigMap\n"
+                + "metadata:\n"
+                + "  name: cfg\n"
+                + "data:\n"
+                + "  key: value\n"
+                + "---\n"
+                + "apiVersion: apps/v1\n"
+                + "kind: Deployment\n"
+                + "metadata:\n"
+                + "  name: app\n"
+                + "spec:\n"
+                + "  replicas: 2\n";
+        List<Object> resources = ManifestDecoder.loadAll(new StringReader(manifest));
+
+        assertEquals(2, resources.size());
+        V1ConfigMap configMap = (V1ConfigMap) resources.get(0);
+        assertEquals("cfg", configMap.getMetadata().getName());
+        assertEquals("value", configMap.getData().get("key"));
+        V1Deployment deployment = (V1Deployment) resources.get(1);
+        assertEquals("app", deployment.getMetadata().getName());
+        assertEquals(Integer.valueOf(2), deployment.getSpec().getReplicas());
+    }
+
+    @Test
+    public void testLoadAllScalarsAndAliases() throws IOException {
+        String manifest = "apiVersion: v1\n"
+                + "kind: ConfigMap\n"
+                + "metadata:\n"
+                + "  name: cfg\n"
+                + "  labels: &labels\n"
+                + "    app: web\n"
+                + "    enabled: true\n"
+                + "  annotations:\n"
+                + "    <<: *labels\n"
+                + "    app: override\n"
+                + "    mode: 0644\n"
+                + "    quoted: \"0644\"\n"
+                + "---\n"
+                + "---\n"
+                + "apiVersion: v1\n"
+                + "kind: Secret\n"
+                + "metadata:\n"
+                + "  name: secret\n"
+                + "spec: ~\n";
+        List<Object> resources = ManifestDecoder.loadAll(new StringReader(manifest));
+
+        assertEquals(2, resources.size());
+        V1ConfigMap configMap = (V1ConfigMap) resources.get(0);
+        assertEquals("web", configMap.getMetadata().getLabels().get("app"));
+        assertEquals("true", configMap.getMetadata().getLabels().get("enabled"));
+        assertEquals("override", configMap.getMetadata().getAnnotations().get("app"));
+        assertEquals("true", configMap.getMetadata().getAnnotations().get("enabled"));
+        assertEquals("0644", configMap.getMetadata().getAnnotations().get("mode"));
+        assertEquals("0644", configMap.getMetadata().getAnnotations().get("quoted"));
+        assertEquals("secret", ((V1Secret) resources.get(1)).getMetadata().getName());
+    }
+
+    @Test
+    public void testLoadAllJson() throws IOException {
+        String manifest = "{\"apiVersion\": \"v1\", \"kind\": \"ConfigMap\", \"metadata\": {\"name\": \"cfg\"}}\n"
+                + "{\"kind\": \"Deployment\", \"spec\": {\"replicas\": 3}, \"apiVersion\": \"apps/v1\"}\n";
+        List<Object> resources = ManifestDecoder.loadAll("app.JSON", new StringReader(manifest));
+
+        assertEquals(2, resources.size());
+        assertEquals("cfg", ((V1ConfigMap) resources.get(0)).getMetadata().getName());
+        assertEquals(Integer.valueOf(3), ((V1Deployment) resources.get(1)).getSpec().getReplicas());
+    }
+
+    @Test
+    public void testInvalidJson() {
+        try {
+            ManifestDecoder.loadAllJson(new StringReader("{\"apiVersion\": \"v1\", "));
+            fail("Expected IOException");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+}
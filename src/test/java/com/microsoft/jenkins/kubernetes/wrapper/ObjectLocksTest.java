@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ObjectLocks}.
+ */
+public class ObjectLocksTest {
+    private static final String CLUSTER = "https://cluster.example.com";
+
+    @Test
+    public void testUncontended() throws Exception {
+        ObjectLocks locks = new ObjectLocks(16);
+        try (ObjectLocks.Held held = locks.lock(CLUSTER, "Deployment/default/app")) {
+            assertFalse(held.isContended());
+        }
+        try (ObjectLocks.Held held = locks.lock(CLUSTER, "Deployment/default/app")) {
+            assertFalse(held.isContended());
+        }
+        assertTrue(locks.hottest(5).isEmpty());
+    }
+
+    @Test
+    public void testContended() throws Exception {
+        ObjectLocks locks = new ObjectLocks(16);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch waiting = new CountDownLatch(1);
+            Future<Boolean> other;
+            try (ObjectLocks.Held held = locks.lock(CLUSTER, "Deployment/default/app")) {
+                other = executor.submit(() -> {
+                    waiting.countDown();
+                    try (ObjectLocks.Held otherHeld = locks.lock(CLUSTER, "Deployment/default/app")) {
+                        return otherHeld.isContended();
+                    }
+                });
+                waiting.await();
+                // let the other thread block on the lock
+                Thread.sleep(100);
+            }
+            assertTrue(other.get());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<ObjectLocks.Contention> hottest = locks.hottest(5);
+        assertEquals(1, hottest.size());
+        assertEquals("Deployment/default/app", hottest.get(0).getObject());
+        assertEquals(1, hottest.get(0).getWaits());
+    }
+
+    @Test
+    public void testHottest() {
+        ObjectLocks locks = new ObjectLocks(16);
+        locks.recordConflict(CLUSTER, "Deployment/default/a");
+        locks.recordConflict(CLUSTER, "Deployment/default/b");
+        locks.recordConflict(CLUSTER, "Deployment/default/b");
+        locks.recordConflict("https://other.example.com", "Deployment/default/b");
+
+        List<ObjectLocks.Contention> hottest = locks.hottest(2);
+        assertEquals(2, hottest.size());
+        assertEquals("Deployment/default/b", hottest.get(0).getObject());
+        assertEquals(2, hottest.get(0).getConflicts());
+        assertEquals(1, hottest.get(1).getConflicts());
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Secret;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link PartialObjectMetadata}.
+ */
+public class PartialObjectMetadataTest {
+    @Test
+    public void testDecode() {
+        ApiClient client = new ApiClient();
+        String[] items = {
+                "{\"kind\":\"PartialObjectMetadata\",\"apiVersion\":\"meta.k8s.io/v1\","
+                        + "\"metadata\":{\"name\":\"s\",\"annotations\":{\"a\":\"1\"}}}",
+                "{\"kind\":\"Secret\",\"apiVersion\":\"v1\","
+                        + "\"metadata\":{\"name\":\"s\",\"annotations\":{\"a\":\"1\"}},\"data\":{\"k\":\"dg==\"}}",
+        };
+        for (String item : items) {
+            JsonElement element = new JsonParser().parse(item);
+            V1Secret secret = (V1Secret) PartialObjectMetadata.decode(client, element, V1Secret.class);
+            assertEquals("s", secret.getMetadata().getName());
+            assertEquals("1", secret.getMetadata().getAnnotations().get("a"));
+            assertNull(secret.getData());
+            assertNull(secret.getKind());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link ResourceDispatcher}.
+ */
+public class ResourceDispatcherTest {
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final long SLOW_MILLIS = 500;
+
+    private final ByteArrayOutputStream console = new ByteArrayOutputStream();
+    private final PrintStream logger = new PrintStream(console, true);
+
+    @Test(timeout = 30000)
+    public void testOrderedOutput() throws Exception {
+        CountDownLatch lastDone = new CountDownLatch(1);
+        try (ResourceDispatcher dispatcher = new ResourceDispatcher(3, logger)) {
+            dispatcher.dispatch(Arrays.asList("a", "b", "c"), (resource, out) -> {
+                if ("a".equals(resource)) {
+                    // the first resource finishes last
+                    await(lastDone);
+                }
+                out.println(resource + "1");
+                out.println(resource + "2");
+                if ("c".equals(resource)) {
+                    lastDone.countDown();
+                }
+            });
+        }
+        assertEquals(lines("a1", "a2", "b1", "b2", "c1", "c2"), console.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test(timeout = 30000)
+    public void testEarliestFailure() throws Exception {
+        CountDownLatch laterFailed = new CountDownLatch(1);
+        try (ResourceDispatcher dispatcher = new ResourceDispatcher(2, logger)) {
+            dispatcher.dispatch(Arrays.asList("a", "b"), (resource, out) -> {
+                out.println(resource);
+                if ("b".equals(resource)) {
+                    laterFailed.countDown();
+                } else {
+                    await(laterFailed);
+                }
+                throw new IllegalStateException(resource + " failed");
+            });
+            fail("The failure should be rethrown");
+        } catch (IllegalStateException e) {
+            // the resource submitted first, though it failed last
+            assertEquals("a failed", e.getMessage());
+        }
+        assertEquals(lines("a", "b"), console.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test(timeout = 30000)
+    public void testCancelOnFailure() throws Exception {
+        List<String> resources = Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h");
+        Set<Object> started = ConcurrentHashMap.newKeySet();
+        Set<Object> finished = ConcurrentHashMap.newKeySet();
+        try (ResourceDispatcher dispatcher = new ResourceDispatcher(2, logger)) {
+            dispatcher.dispatch(resources, (resource, out) -> {
+                started.add(resource);
+                out.println(resource);
+                if ("a".equals(resource)) {
+                    throw new IllegalStateException("a failed");
+                }
+                try {
+                    // the queued resources are cancelled meanwhile
+                    Thread.sleep(SLOW_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+                finished.add(resource);
+            });
+            fail("The failure should be rethrown");
+        } catch (IllegalStateException e) {
+            assertEquals("a failed", e.getMessage());
+        }
+        assertTrue(started.size() < resources.size());
+        // the resources already started were waited for, and their output was kept
+        started.remove("a");
+        assertEquals(started, finished);
+        List<String> expected = new ArrayList<>();
+        for (String resource : resources) {
+            if ("a".equals(resource) || started.contains(resource)) {
+                expected.add(resource);
+            }
+        }
+        assertEquals(lines(expected.toArray(new String[0])), console.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test(timeout = 30000)
+    public void testCancelOnInterrupt() throws Exception {
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        try (ResourceDispatcher dispatcher = new ResourceDispatcher(2, logger)) {
+            Thread thread = new Thread(() -> {
+                try {
+                    dispatcher.dispatch(Arrays.asList("a", "b"), (resource, out) -> {
+                        running.countDown();
+                        try {
+                            new CountDownLatch(1).await();
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                } catch (Throwable e) {
+                    thrown.set(e);
+                }
+            });
+            thread.start();
+            assertTrue(running.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            thread.interrupt();
+            thread.join();
+            assertTrue(thrown.get() instanceof InterruptedException);
+            // the workers were interrupted as well
+            assertTrue(interrupted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+}
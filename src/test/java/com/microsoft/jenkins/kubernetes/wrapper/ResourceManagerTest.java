@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapBuilder;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the reads of the live objects by {@link ResourceManager}, and the retries of the writes conflicting with
+ * them, through the ConfigMap updater.
+ */
+public class ResourceManagerTest {
+    private static final String NAMESPACE = "app";
+    private static final int CONFLICT = 409;
+    private static final String CONFIG_MAP =
+            "{\"metadata\":{\"name\":\"a\",\"namespace\":\"" + NAMESPACE + "\",\"resourceVersion\":\"1\"}}";
+
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    /**
+     * The statuses of the next writes, {@code 200} once empty.
+     */
+    private final Queue<Integer> writeStatuses = new ConcurrentLinkedQueue<>();
+    private final ByteArrayOutputStream console = new ByteArrayOutputStream();
+    private volatile int listStatus = 200;
+    private V1ResourceManager manager;
+
+    @Before
+    public void setUp() {
+        ApiClient client = new ApiClient();
+        client.setBasePath("https://kubernetes.local");
+        client.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            requests.add(request);
+            int status = 200;
+            if (isList(request)) {
+                status = listStatus;
+            } else if ("PUT".equals(request.method()) && !writeStatuses.isEmpty()) {
+                status = writeStatuses.poll();
+            }
+            String body = CONFIG_MAP;
+            if (status != 200) {
+                body = "{\"kind\":\"Status\",\"code\":" + status + "}";
+            } else if (isList(request)) {
+                body = "{\"metadata\":{\"resourceVersion\":\"1\"},\"items\":[" + CONFIG_MAP + "]}";
+            }
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(status)
+                    .message(status == 200 ? "OK" : "Error")
+                    .body(ResponseBody.create(MediaType.parse("application/json"), body))
+                    .build();
+        }).build());
+        manager = new V1ResourceManager(client);
+        manager.setConsoleLogger(new PrintStream(console, true));
+    }
+
+    @Test
+    public void testCachedRead() {
+        manager.withCachedReads(true);
+        ResourceManager.ResourceUpdater<?> updater = updater();
+
+        assertEquals(DeploySummary.Outcome.UPDATED, updater.createOrApply());
+        assertEquals(Arrays.asList("LIST", "PUT"), calls());
+        assertEquals("0", requests.get(0).url().queryParameter("resourceVersion"));
+        assertEquals("metadata.name=a", requests.get(0).url().queryParameter("fieldSelector"));
+    }
+
+    @Test
+    public void testConflictAfterStaleRead() throws Exception {
+        manager.withCachedReads(true);
+        writeStatuses.add(CONFLICT);
+        ResourceManager.ResourceUpdater<?> updater = updater();
+
+        assertEquals(DeploySummary.Outcome.UPDATED, updater.createOrApply());
+        // read again from etcd, and written once more
+        assertEquals(Arrays.asList("LIST", "PUT", "GET", "PUT"), calls());
+        assertNull(requests.get(2).url().queryParameter("resourceVersion"));
+        // the conflict of the cached read is not counted, nor reported
+        assertEquals(0, updater.getConflicts());
+        assertFalse(console().contains(conflictMessage(1)));
+    }
+
+    @Test
+    public void testConflictAfterQuorumRead() throws Exception {
+        writeStatuses.add(CONFLICT);
+        ResourceManager.ResourceUpdater<?> updater = updater();
+
+        assertEquals(DeploySummary.Outcome.UPDATED, updater.createOrApply());
+        assertEquals(Arrays.asList("GET", "PUT", "GET", "PUT"), calls());
+        assertEquals(1, updater.getConflicts());
+        assertTrue(console().contains(conflictMessage(1)));
+    }
+
+    @Test
+    public void testStaleReadRetriedOnce() throws Exception {
+        manager.withCachedReads(true);
+        writeStatuses.addAll(Arrays.asList(CONFLICT, CONFLICT));
+        ResourceManager.ResourceUpdater<?> updater = updater();
+
+        assertEquals(DeploySummary.Outcome.UPDATED, updater.createOrApply());
+        assertEquals(Arrays.asList("LIST", "PUT", "GET", "PUT", "GET", "PUT"), calls());
+        // the second conflict follows a read from etcd, so it is counted
+        assertEquals(1, updater.getConflicts());
+        assertTrue(console().contains(conflictMessage(1)));
+        assertFalse(console().contains(conflictMessage(2)));
+    }
+
+    @Test
+    public void testCachedReadFailure() throws Exception {
+        manager.withCachedReads(true);
+        listStatus = 403;
+        writeStatuses.add(CONFLICT);
+        ResourceManager.ResourceUpdater<?> updater = updater();
+
+        assertEquals(DeploySummary.Outcome.UPDATED, updater.createOrApply());
+        // read from etcd instead, so the conflict is counted
+        assertEquals(Arrays.asList("LIST", "GET", "PUT", "GET", "PUT"), calls());
+        assertEquals(1, updater.getConflicts());
+        assertTrue(console().contains(conflictMessage(1)));
+    }
+
+    private ResourceManager.ResourceUpdater<?> updater() {
+        V1ConfigMap configMap = new V1ConfigMapBuilder()
+                .withKind("ConfigMap")
+                .withNewMetadata().withName("a").withNamespace(NAMESPACE).endMetadata()
+                .withData(Collections.singletonMap("key", "value"))
+                .build();
+        return manager.new ConfigMapUpdater(configMap);
+    }
+
+    /**
+     * @return the method of each request, {@code LIST} for the lists
+     */
+    private List<String> calls() {
+        List<String> calls = new ArrayList<>();
+        for (Request request : requests) {
+            calls.add(isList(request) ? "LIST" : request.method());
+        }
+        return calls;
+    }
+
+    private String console() throws Exception {
+        return console.toString(StandardCharsets.UTF_8.name());
+    }
+
+    private static String conflictMessage(int attempt) {
+        return Messages.KubernetesClientWrapper_conflict("V1ConfigMap", "a", attempt, Constants.CONFLICT_RETRIES);
+    }
+
+    private static boolean isList(Request request) {
+        return "GET".equals(request.method())
+                && "configmaps".equals(request.url().pathSegments().get(request.url().pathSize() - 1));
+    }
+}
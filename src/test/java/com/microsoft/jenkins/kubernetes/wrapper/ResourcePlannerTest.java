@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapBuilder;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentBuilder;
+import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1NamespaceBuilder;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceAccount;
+import io.kubernetes.client.openapi.models.V1ServiceAccountBuilder;
+import io.kubernetes.client.openapi.models.V1ServiceBuilder;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link ResourcePlanner}.
+ */
+public class ResourcePlannerTest {
+    private static final String NAMESPACE = "app";
+
+    @Test
+    public void testEmpty() {
+        assertEquals(Collections.emptyList(), ResourcePlanner.plan(Collections.emptyList()));
+    }
+
+    @Test
+    public void testDependenciesComeFirst() {
+        V1Deployment deployment = deployment("web", "sa", "cfg");
+        V1Service service = new V1ServiceBuilder()
+                .withKind("Service")
+                .withNewMetadata().withName("web").withNamespace(NAMESPACE).endMetadata()
+                .build();
+        V1ConfigMap configMap = configMap("cfg");
+        V1ServiceAccount serviceAccount = new V1ServiceAccountBuilder()
+                .withKind("ServiceAccount")
+                .withNewMetadata().withName("sa").withNamespace(NAMESPACE).endMetadata()
+                .build();
+        V1Namespace namespace = new V1NamespaceBuilder()
+                .withKind("Namespace")
+                .withNewMetadata().withName(NAMESPACE).endMetadata()
+                .build();
+
+        List<List<Object>> waves = ResourcePlanner.plan(
+                Arrays.asList(deployment, service, configMap, serviceAccount, namespace));
+
+        assertEquals(3, waves.size());
+        assertEquals(Collections.singletonList(namespace), waves.get(0));
+        // sorted by kind within the wave
+        assertEquals(Arrays.asList(serviceAccount, configMap, service), waves.get(1));
+        assertEquals(Collections.singletonList(deployment), waves.get(2));
+    }
+
+    @Test
+    public void testDeletionInReverseOrder() {
+        V1Deployment deployment = deployment("web", null, "cfg");
+        V1ConfigMap configMap = configMap("cfg");
+        V1ConfigMap other = configMap("other");
+        V1Namespace namespace = new V1NamespaceBuilder()
+                .withKind("Namespace")
+                .withNewMetadata().withName(NAMESPACE).endMetadata()
+                .build();
+
+        List<List<Object>> waves = ResourcePlanner.planDeletion(
+                Arrays.asList(namespace, configMap, other, deployment));
+
+        assertEquals(3, waves.size());
+        assertEquals(Collections.singletonList(deployment), waves.get(0));
+        assertEquals(Arrays.asList(other, configMap), waves.get(1));
+        assertEquals(Collections.singletonList(namespace), waves.get(2));
+    }
+
+    @Test
+    public void testIndependentResourcesShareWave() {
+        V1Deployment first = deployment("first", null, "missing");
+        V1Deployment second = deployment("second", null, null);
+
+        List<List<Object>> waves = ResourcePlanner.plan(Arrays.asList(first, second));
+
+        assertEquals(Collections.singletonList(Arrays.<Object>asList(first, second)), waves);
+    }
+
+    @Test
+    public void testReferencesAreScopedByNamespace() {
+        V1ConfigMap configMap = new V1ConfigMapBuilder()
+                .withKind("ConfigMap")
+                .withNewMetadata().withName("cfg").withNamespace("other").endMetadata()
+                .build();
+        V1Deployment deployment = deployment("web", null, "cfg");
+
+        List<List<Object>> waves = ResourcePlanner.plan(Arrays.asList(deployment, configMap));
+
+        assertEquals(1, waves.size());
+    }
+
+    @Test
+    public void testKindFromClassName() {
+        assertEquals("Deployment", ResourcePlanner.kindOf(new V1Deployment(), null));
+        assertEquals("Ingress",
+                ResourcePlanner.kindOf(new io.kubernetes.client.openapi.models.ExtensionsV1beta1Ingress(), null));
+        assertEquals("HorizontalPodAutoscaler",
+                ResourcePlanner.kindOf(new io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscaler(), null));
+    }
+
+    private static V1ConfigMap configMap(String name) {
+        return new V1ConfigMapBuilder()
+                .withKind("ConfigMap")
+                .withNewMetadata().withName(name).withNamespace(NAMESPACE).endMetadata()
+                .build();
+    }
+
+    private static V1Deployment deployment(String name, String serviceAccount, String configMap) {
+        V1DeploymentBuilder builder = new V1DeploymentBuilder();
+        builder.withKind("Deployment")
+                .withNewMetadata().withName(name).withNamespace(NAMESPACE).endMetadata();
+        if (configMap == null) {
+            return builder.withNewSpec().withNewTemplate().withNewSpec()
+                    .withServiceAccountName(serviceAccount)
+                    .endSpec().endTemplate().endSpec()
+                    .build();
+        }
+        return builder.withNewSpec().withNewTemplate().withNewSpec()
+                .withServiceAccountName(serviceAccount)
+                .addNewContainer()
+                .withName("main")
+                .addNewEnvFrom().withNewConfigMapRef().withName(configMap).endConfigMapRef().endEnvFrom()
+                .endContainer()
+                .endSpec().endTemplate().endSpec()
+                .build();
+    }
+}
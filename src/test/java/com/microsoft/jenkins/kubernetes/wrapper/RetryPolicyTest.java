@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.common.collect.ImmutableMap;
+import io.kubernetes.client.openapi.ApiException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link RetryPolicy}.
+ */
+public class RetryPolicyTest {
+    private static final Map<String, List<String>> NO_HEADERS = Collections.emptyMap();
+
+    @Test
+    public void testIsRetryable() {
+        assertTrue(RetryPolicy.isRetryable(new ApiException(429, NO_HEADERS, "")));
+        assertTrue(RetryPolicy.isRetryable(new ApiException(500, NO_HEADERS, "")));
+        assertTrue(RetryPolicy.isRetryable(new ApiException(503, NO_HEADERS, "")));
+        assertFalse(RetryPolicy.isRetryable(new ApiException(501, NO_HEADERS, "")));
+        assertFalse(RetryPolicy.isRetryable(new ApiException(400, NO_HEADERS, "")));
+        assertFalse(RetryPolicy.isRetryable(new ApiException(403, NO_HEADERS, "")));
+        assertFalse(RetryPolicy.isRetryable(new ApiException(409, NO_HEADERS, "")));
+        assertTrue(RetryPolicy.isRetryable(new ApiException(new SocketTimeoutException("timeout"))));
+        assertTrue(RetryPolicy.isRetryable(new ApiException(new SocketException("Connection reset"))));
+        assertFalse(RetryPolicy.isRetryable(new ApiException(new IOException("other"))));
+    }
+
+    @Test
+    public void testDelay() {
+        RetryPolicy policy = new RetryPolicy(3, 100, 250);
+        RuntimeException failure = new RuntimeException(new ApiException(503, NO_HEADERS, ""));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(policy.delayMillis(1, failure) <= 100);
+            assertTrue(policy.delayMillis(2, failure) <= 200);
+            assertTrue(policy.delayMillis(3, failure) <= 250);
+        }
+        assertEquals(-1, policy.delayMillis(4, failure));
+        assertEquals(-1, policy.delayMillis(1, new RuntimeException(new ApiException(422, NO_HEADERS, ""))));
+        assertEquals(-1, policy.delayMillis(1, new IllegalStateException()));
+        assertEquals(-1, new RetryPolicy(0, 100, 250).delayMillis(1, failure));
+    }
+
+    @Test
+    public void testRetryAfter() {
+        RetryPolicy policy = new RetryPolicy(3, 100, 5000);
+        Map<String, List<String>> headers = ImmutableMap.of("retry-after", Collections.singletonList("2"));
+        assertEquals(2000, policy.delayMillis(1, new ApiException(429, headers, "")));
+
+        headers = ImmutableMap.of("Retry-After", Collections.singletonList("60"));
+        assertEquals(5000, policy.delayMillis(1, new ApiException(429, headers, "")));
+    }
+}
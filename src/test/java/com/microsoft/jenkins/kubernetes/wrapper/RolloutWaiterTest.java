@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link RolloutWaiter}.
+ */
+public class RolloutWaiterTest {
+    private static JsonObject json(String json) {
+        return new JsonParser().parse(json.replace('\'', '"')).getAsJsonObject();
+    }
+
+    private static RolloutWaiter.State state(String kind, String json, long generation) {
+        return RolloutWaiter.status(kind, json(json), generation).getState();
+    }
+
+    @Test
+    public void testDeployment() {
+        assertEquals(RolloutWaiter.State.PROGRESSING, state("Deployment",
+                "{'metadata':{'generation':2},'spec':{'replicas':3},'status':{'observedGeneration':1,"
+                        + "'replicas':3,'updatedReplicas':3,'availableReplicas':3}}", 2));
+        assertEquals(RolloutWaiter.State.PROGRESSING, state("Deployment",
+                "{'metadata':{'generation':2},'spec':{'replicas':3},'status':{'observedGeneration':2,"
+                        + "'replicas':3,'updatedReplicas':1,'availableReplicas':3}}", 2));
+        assertEquals(RolloutWaiter.State.PROGRESSING, state("Deployment",
+                "{'metadata':{'generation':2},'spec':{'replicas':3},'status':{'observedGeneration':2,"
+                        + "'replicas':4,'updatedReplicas':3,'availableReplicas':3}}", 2));
+        assertEquals(RolloutWaiter.State.PROGRESSING, state("Deployment",
+                "{'metadata':{'generation':2},'spec':{'replicas':3},'status':{'observedGeneration':2,"
+                        + "'replicas':3,'updatedReplicas':3,'availableReplicas':2}}", 2));
+        assertEquals(RolloutWaiter.State.COMPLETE, state("Deployment",
+                "{'metadata':{'generation':2},'spec':{'replicas':3},'status':{'observedGeneration':2,"
+                        + "'replicas':3,'updatedReplicas':3,'availableReplicas':3}}", 2));
+        assertEquals(RolloutWaiter.State.FAILED, state("Deployment",
+                "{'metadata':{'generation':2},'spec':{'replicas':3},'status':{'observedGeneration':2,"
+                        + "'replicas':3,'updatedReplicas':1,'availableReplicas':2,'conditions':[{'type':"
+                        + "'Progressing','status':'False','reason':'ProgressDeadlineExceeded'}]}}", 2));
+    }
+
+    @Test
+    public void testStatefulSet() {
+        assertEquals(RolloutWaiter.State.PROGRESSING, state("StatefulSet",
+                "{'metadata':{'generation':1},'spec':{'replicas':2},'status':{'observedGeneration':1,"
+                        + "'readyReplicas':1,'currentRevision':'a','updateRevision':'a'}}", 1));
+        assertEquals(RolloutWaiter.State.PROGRESSING, state("StatefulSet",
+                "{'metadata':{'generation':1},'spec':{'replicas':2},'status':{'observedGeneration':1,"
+                        + "'readyReplicas':2,'currentRevision':'a','updateRevision':'b'}}", 1));
+        assertEquals(RolloutWaiter.State.COMPLETE, state("StatefulSet",
+                "{'metadata':{'generation':1},'spec':{'replicas':2},'status':{'observedGeneration':1,"
+                        + "'readyReplicas':2,'currentRevision':'b','updateRevision':'b'}}", 1));
+        assertEquals(RolloutWaiter.State.COMPLETE, state("StatefulSet",
+                "{'metadata':{'generation':1},'spec':{'replicas':4,'updateStrategy':{'type':'RollingUpdate',"
+                        + "'rollingUpdate':{'partition':2}}},'status':{'observedGeneration':1,"
+                        + "'readyReplicas':4,'updatedReplicas':2,'currentRevision':'a','updateRevision':'b'}}", 1));
+        assertEquals(RolloutWaiter.State.COMPLETE, state("StatefulSet",
+                "{'metadata':{'generation':1},'spec':{'replicas':2,'updateStrategy':{'type':'OnDelete'}},"
+                        + "'status':{'observedGeneration':1}}", 1));
+    }
+
+    @Test
+    public void testDaemonSet() {
+        assertEquals(RolloutWaiter.State.PROGRESSING, state("DaemonSet",
+                "{'metadata':{'generation':3},'status':{'observedGeneration':3,'desiredNumberScheduled':5,"
+                        + "'updatedNumberScheduled':4,'numberAvailable':5}}", 3));
+        assertEquals(RolloutWaiter.State.PROGRESSING, state("DaemonSet",
+                "{'metadata':{'generation':3},'status':{'observedGeneration':3,'desiredNumberScheduled':5,"
+                        + "'updatedNumberScheduled':5,'numberAvailable':5,'numberUnavailable':1}}", 3));
+        assertEquals(RolloutWaiter.State.COMPLETE, state("DaemonSet",
+                "{'metadata':{'generation':3},'status':{'observedGeneration':3,'desiredNumberScheduled':5,"
+                        + "'updatedNumberScheduled':5,'numberAvailable':5}}", 3));
+    }
+
+    @Test
+    public void testGenerationWritten() {
+        // the controller has not observed the generation written by the deployment yet
+        assertEquals(RolloutWaiter.State.PROGRESSING, state("DaemonSet",
+                "{'metadata':{'generation':3},'status':{'observedGeneration':3,'desiredNumberScheduled':5,"
+                        + "'updatedNumberScheduled':5,'numberAvailable':5}}", 4));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.jenkins.kubernetes.wrapper;
+
+import com.microsoft.jenkins.kubernetes.util.Constants;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ClusterRoleBinding;
+import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1RoleRef;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link ServerSideApply}, through the updaters of the cluster-scoped kinds.
+ */
+public class ServerSideApplyTest {
+    private final List<Request> requests = new ArrayList<>();
+    private V1ResourceManager manager;
+
+    @Before
+    public void setUp() {
+        ApiClient client = new ApiClient();
+        client.setBasePath("https://kubernetes.local");
+        client.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            requests.add(request);
+            // the applied object is echoed back, only its name matters here
+            String name = request.url().pathSegments().get(request.url().pathSize() - 1);
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create(MediaType.parse("application/json"),
+                            "{\"metadata\":{\"name\":\"" + name + "\"}}"))
+                    .build();
+        }).build());
+        manager = new V1ResourceManager(client);
+        manager.withServerSideApply(true);
+        manager.setConsoleLogger(new PrintStream(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testNamespace() {
+        V1Namespace namespace = new V1Namespace().metadata(new V1ObjectMeta().name("team"));
+        manager.new NamespaceUpdater(namespace).createOrApply();
+        assertApplied("/api/v1/namespaces/team");
+    }
+
+    @Test
+    public void testClusterRoleBinding() {
+        V1ClusterRoleBinding binding = new V1ClusterRoleBinding()
+                .metadata(new V1ObjectMeta().name("readers"))
+                .roleRef(new V1RoleRef().apiGroup("rbac.authorization.k8s.io").kind("ClusterRole").name("view"));
+        manager.new ClusterRoleBindingUpdater(binding).createOrApply();
+        assertApplied("/apis/rbac.authorization.k8s.io/v1/clusterrolebindings/readers");
+    }
+
+    private void assertApplied(String path) {
+        assertEquals(1, requests.size());
+        Request request = requests.get(0);
+        assertEquals("PATCH", request.method());
+        assertEquals(path, request.url().encodedPath());
+        assertEquals(Constants.FIELD_MANAGER, request.url().queryParameter("fieldManager"));
+        assertEquals("true", request.url().queryParameter("force"));
+        assertEquals(ServerSideApply.CONTENT_TYPE, request.body().contentType().toString());
+    }
+}